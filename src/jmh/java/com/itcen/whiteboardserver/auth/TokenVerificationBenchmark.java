@@ -0,0 +1,78 @@
+package com.itcen.whiteboardserver.auth;
+
+import com.itcen.whiteboardserver.auth.service.TokenService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import javax.crypto.SecretKey;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나의 인증 비용(TokenService.authenticateAccess)을 비교합니다.
+ * hot: 검증 캐시에 이미 있는 토큰 (SHA-256 해시 + 조회 + Authentication 생성)
+ * cold: 검증 캐시를 끈 상태 (매번 HMAC 검증 + claim 파싱 + Principal 생성)
+ * 로그인한 사용자 tokens명의 토큰이 돌아가며 요청한다고 가정합니다.
+ *
+ * ./gradlew jmh -PjmhIncludes=TokenVerificationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenVerificationBenchmark {
+
+    @Param({"hot", "cold"})
+    String cache;
+
+    @Param({"1000"})
+    int tokens;
+
+    private TokenService tokenService;
+    private String[] accessTokens;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        SecretKey key = Keys.hmacShaKeyFor(keyBytes);
+        String secret = Base64.getEncoder().encodeToString(keyBytes);
+
+        int cacheSize = cache.equals("hot") ? TokenService.DEFAULT_VERIFICATION_CACHE_SIZE : 0;
+        tokenService = new TokenService(null, secret, 3600, 7200, cacheSize);
+
+        accessTokens = new String[tokens];
+        for (int i = 0; i < tokens; i++) {
+            accessTokens[i] = Jwts.builder()
+                    .subject("user" + i + "@example.com")
+                    .id(UUID.randomUUID().toString())
+                    .claim("roles", List.of("MEMBER"))
+                    .claim("nickname", "nick" + i)
+                    .claim("id", String.valueOf(i))
+                    .claim("profileColor", "HOTPINK")
+                    .issuedAt(new Date())
+                    .expiration(new Date(System.currentTimeMillis() + 3_600_000))
+                    .signWith(key)
+                    .compact();
+            tokenService.authenticateAccess(accessTokens[i]);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public Authentication authenticate(Cursor cursor) {
+        String token = accessTokens[cursor.next];
+        cursor.next = (cursor.next + 1) % accessTokens.length;
+
+        return tokenService.authenticateAccess(token);
+    }
+}
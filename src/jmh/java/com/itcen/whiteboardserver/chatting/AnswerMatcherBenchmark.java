@@ -0,0 +1,44 @@
+package com.itcen.whiteboardserver.chatting;
+
+import com.itcen.whiteboardserver.turn.answer.AnswerMatcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 정규식 경로(answer.replaceAll(" ", "") / message.replaceAll(" ", "") 후 equals)와 AnswerMatcher를 비교합니다.
+ * 할당량은 -prof gc 로 확인합니다.
+ *
+ * ./gradlew jmh -PjmhIncludes=AnswerMatcherBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AnswerMatcherBenchmark {
+    private static final String ANSWER = "아이스 크림";
+
+    @Param({"아이스크림", "아이스 크린", "오늘 점심 뭐 먹지"})
+    String message;
+
+    private AnswerMatcher matcher;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        matcher = AnswerMatcher.of(ANSWER, 1);
+    }
+
+    @Benchmark
+    public boolean regex() {
+        return ANSWER.replaceAll(" ", "").equals(message.replaceAll(" ", ""));
+    }
+
+    @Benchmark
+    public boolean matcher() {
+        return matcher.matches(message);
+    }
+
+    @Benchmark
+    public boolean matcherWithCloseAnswer() {
+        return matcher.matches(message) || matcher.isClose(message);
+    }
+}
@@ -0,0 +1,66 @@
+package com.itcen.whiteboardserver.chatting;
+
+import com.itcen.whiteboardserver.turn.answer.AnswerMatcher;
+import com.itcen.whiteboardserver.turn.session.state.ActiveTurn;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 턴 진행 중 오답 채팅 한 건을 판단하는 비용을 비교합니다.
+ * dbPerMessage: 기존 경로의 쿼리 7번(findByEmail, findById x2, existsByTurnAndMember, findAllByTurn, findAllByGame, 재조회)을
+ * 쿼리당 queryMicros 만큼의 왕복 지연으로 흉내 냅니다. 실제 DB 없이 지연만 재현하므로 기준선으로만 봐야 합니다.
+ * wrongAnswer: ActiveTurn 메모리 상태로 참가자/출제자/정답자/정답 여부를 판단합니다.
+ * 단일 스레드로 측정하므로 결과(ops/s)가 곧 코어당 채팅 처리량입니다.
+ *
+ * ./gradlew jmh -PjmhIncludes=ChatAnswerCheckBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class ChatAnswerCheckBenchmark {
+    private static final int QUERIES_PER_CHAT = 7;
+
+    @Param("200")
+    long queryMicros;
+
+    private ActiveTurn activeTurn;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        activeTurn = new ActiveTurn(
+                100L,
+                1L,
+                "drawer@test.com",
+                AnswerMatcher.of("사과 나무", 0),
+                Map.of(
+                        "drawer@test.com", new ActiveTurn.Participant(1L, "출제자"),
+                        "a@test.com", new ActiveTurn.Participant(2L, "a"),
+                        "b@test.com", new ActiveTurn.Participant(3L, "b")
+                ),
+                ConcurrentHashMap.newKeySet()
+        );
+    }
+
+    @Benchmark
+    public boolean dbPerMessage() {
+        for (int i = 0; i < QUERIES_PER_CHAT; i++) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(queryMicros));
+        }
+
+        return "사과 나무".replaceAll(" ", "").equals("바나나".replaceAll(" ", ""));
+    }
+
+    @Benchmark
+    public boolean wrongAnswer() {
+        ActiveTurn.Participant participant = activeTurn.findParticipant("a@test.com").orElseThrow();
+
+        return !activeTurn.isDrawer("a@test.com")
+                && !activeTurn.hasCorrected(participant.memberId())
+                && activeTurn.isAnswer("바나나");
+    }
+}
@@ -0,0 +1,100 @@
+package com.itcen.whiteboardserver.common;
+
+import com.itcen.whiteboardserver.common.executor.VirtualThreads;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 1k개 방에서 채팅(블로킹 JPA 호출을 sleep으로 흉내)이 계속 들어오는 동안, 그리기 메시지 하나가 처리되기까지의 지연을 측정합니다.
+ * platform: Spring 기본 clientInboundChannel 풀(코어 수 * 2), virtual: 메시지마다 virtual thread.
+ * SampleTime 모드의 p0.99 값을 비교합니다. JDK 21 미만에서는 virtual도 platform 풀로 실행됩니다.
+ *
+ * ./gradlew jmh -PjmhIncludes=InboundChannelLatencyBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InboundChannelLatencyBenchmark {
+
+    @Param({"platform", "virtual"})
+    String mode;
+
+    @Param("1000")
+    int rooms;
+
+    // 방마다 초당 채팅 수
+    @Param("1")
+    int chatsPerRoomPerSecond;
+
+    // 채팅 한 건을 처리할 때의 블로킹 시간(ms)
+    @Param("20")
+    int blockingMillis;
+
+    private ExecutorSubscribableChannel channel;
+    private ThreadPoolTaskExecutor platformPool;
+    private ScheduledExecutorService loadGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        channel = new ExecutorSubscribableChannel(executor());
+        channel.subscribe(message -> {
+            if (message.getPayload() instanceof CountDownLatch drawn) {
+                drawn.countDown();
+                return;
+            }
+
+            try {
+                Thread.sleep(blockingMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        long intervalMicros = 1_000_000L / ((long) rooms * chatsPerRoomPerSecond);
+        loadGenerator = Executors.newSingleThreadScheduledExecutor();
+        loadGenerator.scheduleAtFixedRate(
+                () -> channel.send(MessageBuilder.withPayload(ThreadLocalRandom.current().nextInt(rooms)).build()),
+                0, Math.max(intervalMicros, 1), TimeUnit.MICROSECONDS
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        loadGenerator.shutdownNow();
+        if (platformPool != null) {
+            platformPool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public void drawLatency() throws InterruptedException {
+        CountDownLatch drawn = new CountDownLatch(1);
+        channel.send(MessageBuilder.withPayload(drawn).build());
+        drawn.await();
+    }
+
+    private Executor executor() {
+        if (VirtualThreads.isUsable("virtual".equals(mode), "benchmark")) {
+            return VirtualThreads.newExecutor("bench-inbound-");
+        }
+
+        // AbstractMessageBrokerConfiguration의 clientInboundChannel 기본 설정과 동일
+        platformPool = new ThreadPoolTaskExecutor();
+        platformPool.setCorePoolSize(Runtime.getRuntime().availableProcessors() * 2);
+        platformPool.setMaxPoolSize(Integer.MAX_VALUE);
+        platformPool.setQueueCapacity(Integer.MAX_VALUE);
+        platformPool.setAllowCoreThreadTimeOut(true);
+        platformPool.setThreadNamePrefix("bench-inbound-");
+        platformPool.initialize();
+        return platformPool;
+    }
+}
@@ -0,0 +1,70 @@
+package com.itcen.whiteboardserver.draw;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itcen.whiteboardserver.draw.codec.DrawFrameCodec;
+import com.itcen.whiteboardserver.draw.dto.DrawDto;
+import com.itcen.whiteboardserver.turn.dto.response.TurnResponse;
+import com.itcen.whiteboardserver.turn.dto.response.TurnResponseType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 Jackson JSON 경로와 바이너리 델타 인코딩의 인코딩/디코딩 비용 및 페이로드 크기를 비교합니다.
+ * 페이로드 크기는 DrawFrameCodecTest에서 검증합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DrawFrameCodecBenchmark {
+
+    @Param({"8", "64"})
+    int pointCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private DrawDto drawDto;
+    private TurnResponse<DrawDto> response;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Random random = new Random(42);
+        List<DrawDto.Point> points = new ArrayList<>();
+        int x = 400;
+        int y = 300;
+        for (int i = 0; i < pointCount; i++) {
+            x += random.nextInt(7) - 3;
+            y += random.nextInt(7) - 3;
+            points.add(new DrawDto.Point(x, y));
+        }
+
+        drawDto = new DrawDto(10L, "#FF5733", 5, points);
+        response = new TurnResponse<>(TurnResponseType.DRAW, drawDto);
+        json = objectMapper.writeValueAsBytes(response);
+        binary = DrawFrameCodec.encode(drawDto.turnId(), List.of(drawDto));
+    }
+
+    @Benchmark
+    public byte[] jacksonEncode() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public Object jacksonDecode() throws Exception {
+        return objectMapper.readValue(json, TurnResponse.class);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return DrawFrameCodec.encode(drawDto.turnId(), List.of(drawDto));
+    }
+
+    @Benchmark
+    public Object binaryDecode() {
+        return DrawFrameCodec.decode(binary);
+    }
+}
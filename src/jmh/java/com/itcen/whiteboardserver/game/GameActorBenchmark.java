@@ -0,0 +1,76 @@
+package com.itcen.whiteboardserver.game;
+
+import com.itcen.whiteboardserver.game.actor.GameActor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 여러 스레드가 같은 게임들의 상태를 동시에 바꿀 때의 처리량을 비교합니다.
+ * optimistic: 기존 방식처럼 버전을 읽고 작업한 뒤 버전이 바뀌었으면 실패 후 재시도(@Version + OptimisticLockingFailureException)
+ * actor: GameActor의 게임별 mailbox에서 순서대로 실행
+ * 작업 한 건의 비용은 트랜잭션 안의 처리를 Blackhole.consumeCPU로 흉내 냅니다.
+ * actor의 worker 수는 코어 수로 맞추어, 결과(ops/s)를 코어 수로 나누면 코어당 처리량이 됩니다.
+ *
+ * ./gradlew jmh -PjmhIncludes=GameActorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class GameActorBenchmark {
+
+    @Param({"16", "256"})
+    int games;
+
+    @Param("2000")
+    long workTokens;
+
+    private GameActor gameActor;
+    private VersionedGame[] versionedGames;
+    private long[] actorGames;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        gameActor = new GameActor(Runtime.getRuntime().availableProcessors(), false);
+        versionedGames = new VersionedGame[games];
+        for (int i = 0; i < games; i++) {
+            versionedGames[i] = new VersionedGame();
+        }
+        actorGames = new long[games];
+    }
+
+    @Benchmark
+    public void optimistic() {
+        VersionedGame game = versionedGames[ThreadLocalRandom.current().nextInt(games)];
+
+        while (true) {
+            State read = game.state.get();
+            Blackhole.consumeCPU(workTokens);
+
+            if (game.state.compareAndSet(read, new State(read.version + 1, read.turn + 1))) {
+                return;
+            }
+        }
+    }
+
+    @Benchmark
+    public void actor() {
+        int index = ThreadLocalRandom.current().nextInt(games);
+
+        gameActor.run((long) index, () -> {
+            Blackhole.consumeCPU(workTokens);
+            actorGames[index]++;
+        });
+    }
+
+    private record State(long version, long turn) {
+    }
+
+    private static final class VersionedGame {
+        private final AtomicReference<State> state = new AtomicReference<>(new State(0, 0));
+    }
+}
@@ -0,0 +1,94 @@
+package com.itcen.whiteboardserver.quiz;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 10,000개가 동시에 시작될 때 제시어를 뽑는 데 걸리는 시간을 비교합니다.
+ * legacy: 기존 방식처럼 게임마다 공유 ArrayList를 Collections.shuffle 후 앞에서 잘라 사용
+ * sampling: QuizService (스레드별 순열에 부분 Fisher–Yates)
+ * 한 번 실행할 때 스레드 풀(threads)에 10,000번의 게임 시작을 나눠 실행합니다.
+ *
+ * ./gradlew jmh -PjmhIncludes=QuizWordSamplingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class QuizWordSamplingBenchmark {
+    private static final int GAME_STARTS = 10_000;
+
+    @Param({"legacy", "sampling"})
+    String impl;
+
+    @Param({"8"})
+    int threads;
+
+    @Param({"6"})
+    int participantCnt;
+
+    private QuizService quizService;
+    private Map<QuizCategory, List<String>> legacyKeywords;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        quizService = new QuizService();
+        quizService.init();
+
+        legacyKeywords = new EnumMap<>(QuizCategory.class);
+        for (QuizCategory category : QuizCategory.values()) {
+            legacyKeywords.put(category, new ArrayList<>());
+        }
+        for (int i = 0; i < 40; i++) {
+            for (QuizCategory category : QuizCategory.values()) {
+                legacyKeywords.get(category).add(category.name() + i);
+            }
+        }
+
+        executor = Executors.newFixedThreadPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAME_STARTS)
+    public void gameStarts(Blackhole blackhole) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(threads);
+        int perThread = GAME_STARTS / threads;
+
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    blackhole.consume(impl.equals("legacy") ? legacyQuizWords() : quizService.getQuizWords(participantCnt));
+                }
+                done.countDown();
+            });
+        }
+
+        done.await();
+    }
+
+    private List<String> legacyQuizWords() {
+        for (List<String> quizWords : legacyKeywords.values()) {
+            Collections.shuffle(quizWords);
+        }
+
+        List<String> randomKeywords = new ArrayList<>();
+        for (List<String> quizWords : legacyKeywords.values()) {
+            randomKeywords.addAll(quizWords.subList(0, participantCnt));
+        }
+
+        Collections.shuffle(randomKeywords);
+        return randomKeywords;
+    }
+}
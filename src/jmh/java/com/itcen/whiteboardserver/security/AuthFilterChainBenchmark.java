@@ -0,0 +1,142 @@
+package com.itcen.whiteboardserver.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itcen.whiteboardserver.auth.service.TokenService;
+import com.itcen.whiteboardserver.security.filter.JwtAuthenticationFilter;
+import com.itcen.whiteboardserver.security.filter.RequestAuthContext;
+import com.itcen.whiteboardserver.security.filter.RequestAuthContextFilter;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.util.WebUtils;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 사용자의 WebSocket 핸드쉐이크 요청 하나가 인증 관련 필터를 지나는 비용을 비교합니다.
+ * legacy: 필터와 핸드쉐이크가 각자 WebUtils.getCookie를 두 번씩 호출하고, 각자 토큰을 검증 (핸드쉐이크는 별도 JwtParser)
+ * context: RequestAuthContextFilter가 쿠키를 한 번 파싱하고, JwtAuthenticationFilter에서 한 번 검증한 결과를 핸드쉐이크가 재사용
+ * 두 경우 모두 TokenService의 검증 캐시는 끈 상태로 측정합니다.
+ *
+ * ./gradlew jmh -PjmhIncludes=AuthFilterChainBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthFilterChainBenchmark {
+
+    @Param({"legacy", "context"})
+    String impl;
+
+    // 요청에 함께 실려 오는 다른 쿠키 수 (CSRF, 분석 도구 등)
+    @Param({"6"})
+    int otherCookies;
+
+    private TokenService tokenService;
+    private JwtParser handshakeParser;
+    private Cookie[] cookies;
+    private Filter[] filters;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        SecretKey key = Keys.hmacShaKeyFor(keyBytes);
+
+        tokenService = new TokenService(null, Base64.getEncoder().encodeToString(keyBytes), 3600, 7200, 0);
+        handshakeParser = Jwts.parser().verifyWith(key).build();
+
+        String accessToken = Jwts.builder()
+                .subject("user@example.com")
+                .id(UUID.randomUUID().toString())
+                .claim("roles", List.of("MEMBER"))
+                .claim("nickname", "nick")
+                .claim("id", "1")
+                .claim("profileColor", "HOTPINK")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(key)
+                .compact();
+
+        cookies = new Cookie[otherCookies + 1];
+        for (int i = 0; i < otherCookies; i++) {
+            cookies[i] = new Cookie("cookie" + i, UUID.randomUUID().toString());
+        }
+        cookies[otherCookies] = new Cookie("access_token", accessToken);
+
+        JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(tokenService, new ObjectMapper());
+        filters = impl.equals("legacy")
+                ? new Filter[]{new LegacyJwtAuthenticationFilter()}
+                : new Filter[]{new RequestAuthContextFilter(tokenService), jwtAuthenticationFilter};
+    }
+
+    @Benchmark
+    public void handshake(Blackhole blackhole) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/ws/native");
+        request.setCookies(cookies);
+
+        new MockFilterChain(new HandshakeServlet(blackhole), filters).doFilter(request, new MockHttpServletResponse());
+        SecurityContextHolder.clearContext();
+    }
+
+    // 핸드쉐이크 인터셉터에서 subject를 꺼내는 부분
+    private class HandshakeServlet extends HttpServlet {
+        private final Blackhole blackhole;
+
+        private HandshakeServlet(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void service(ServletRequest req, ServletResponse res) {
+            HttpServletRequest request = (HttpServletRequest) req;
+
+            if (impl.equals("legacy")) {
+                String token = WebUtils.getCookie(request, "access_token") != null
+                        ? Objects.requireNonNull(WebUtils.getCookie(request, "access_token")).getValue()
+                        : null;
+                blackhole.consume(handshakeParser.parseSignedClaims(token).getPayload().getSubject());
+            } else {
+                blackhole.consume(RequestAuthContext.of(request, tokenService).authenticate().getName());
+            }
+        }
+    }
+
+    // 변경 전 JwtAuthenticationFilter의 토큰 추출/검증
+    private class LegacyJwtAuthenticationFilter implements Filter {
+        @Override
+        public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain) throws IOException, ServletException {
+            HttpServletRequest request = (HttpServletRequest) req;
+            String token = WebUtils.getCookie(request, "access_token") != null
+                    ? Objects.requireNonNull(WebUtils.getCookie(request, "access_token")).getValue()
+                    : null;
+
+            Authentication auth = tokenService.authenticateAccess(token);
+            SecurityContextHolder.getContext().setAuthentication(auth);
+            chain.doFilter(req, res);
+        }
+    }
+}
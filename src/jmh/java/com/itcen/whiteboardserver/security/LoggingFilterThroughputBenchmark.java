@@ -0,0 +1,130 @@
+package com.itcen.whiteboardserver.security;
+
+import ch.qos.logback.classic.Logger;
+import com.itcen.whiteboardserver.security.filter.RequestResponseLoggingFilter;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.list;
+
+/**
+ * 큰 JSON 응답을 돌려주는 요청이 RequestResponseLoggingFilter를 지나는 처리량을 비교합니다. (DEBUG 꺼짐)
+ * legacy: 변경 전 필터 (항상 래핑, 헤더/본문 문자열 생성, 응답 전체를 모았다가 복사)
+ * bypass: 샘플링하지 않는 요청 (래핑 없이 통과)
+ * sampled: 모든 요청을 샘플링 (응답은 흘려보내고 앞의 4KB만 복사, 로그 출력은 appender 없이 측정)
+ *
+ * ./gradlew jmh -PjmhIncludes=LoggingFilterThroughputBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LoggingFilterThroughputBenchmark {
+
+    @Param({"legacy", "bypass", "sampled"})
+    String impl;
+
+    @Param({"524288"})
+    int responseBytes;
+
+    private Filter filter;
+    private HttpServlet jsonServlet;
+    private Logger logger;
+    private ch.qos.logback.classic.Level previousLevel;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        logger = (Logger) LoggerFactory.getLogger(RequestResponseLoggingFilter.class);
+        previousLevel = logger.getLevel();
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        // 샘플링된 로그가 콘솔 출력 비용을 섞지 않도록 상위 appender로 보내지 않음
+        logger.setAdditive(false);
+
+        filter = switch (impl) {
+            case "legacy" -> new LegacyLoggingFilter();
+            case "bypass" -> new RequestResponseLoggingFilter(0, 4096);
+            default -> new RequestResponseLoggingFilter(1, 4096);
+        };
+
+        StringBuilder json = new StringBuilder("{\"rooms\":[");
+        while (json.length() < responseBytes) {
+            json.append("{\"roomCode\":").append(json.length()).append(",\"hostName\":\"host\",\"participantCount\":3},");
+        }
+        json.setLength(json.length() - 1);
+        byte[] body = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+
+        jsonServlet = new HttpServlet() {
+            @Override
+            public void service(ServletRequest req, ServletResponse res) throws IOException {
+                res.setContentType("application/json");
+                res.getOutputStream().write(body);
+            }
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        logger.setLevel(previousLevel);
+        logger.setAdditive(true);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse request() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/lobby/rooms");
+        request.addHeader("Cookie", "access_token=token; XSRF-TOKEN=csrf");
+        request.addHeader("Accept", "application/json");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new MockFilterChain(jsonServlet, filter).doFilter(request, response);
+        return response;
+    }
+
+    // 변경 전 RequestResponseLoggingFilter
+    private static class LegacyLoggingFilter implements Filter {
+        private static final org.slf4j.Logger log = LoggerFactory.getLogger(RequestResponseLoggingFilter.class);
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+            var wrappedReq  = new ContentCachingRequestWrapper((HttpServletRequest) request);
+            var wrappedRes  = new ContentCachingResponseWrapper((HttpServletResponse) response);
+
+            long start = System.currentTimeMillis();
+            chain.doFilter(wrappedReq, wrappedRes);
+            long duration = System.currentTimeMillis() - start;
+
+            String reqBody = new String(wrappedReq.getContentAsByteArray(), StandardCharsets.UTF_8);
+            var headerNames = wrappedReq.getHeaderNames();
+            String reqHeaders = headerNames != null ?
+                list(headerNames).stream()
+                    .map(name -> name + ": " + wrappedReq.getHeader(name))
+                    .collect(Collectors.joining(", "))
+                : "";
+            log.debug("[REQUEST] {} {} headers=[{}] body=[{}]",
+                    wrappedReq.getMethod(), wrappedReq.getRequestURI(),
+                    reqHeaders, reqBody);
+
+            String resBody = new String(wrappedRes.getContentAsByteArray(), StandardCharsets.UTF_8);
+            log.debug("[RESPONSE] status={} duration={}ms body=[{}]",
+                    wrappedRes.getStatus(), duration, resBody);
+
+            wrappedRes.copyBodyToResponse();
+        }
+    }
+}
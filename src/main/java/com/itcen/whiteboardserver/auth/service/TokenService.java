@@ -8,6 +8,7 @@ import com.itcen.whiteboardserver.security.principal.CustomPrincipal;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.ResponseCookie;
@@ -27,22 +28,32 @@ import java.util.stream.Collectors;
  * - Refresh rotation with jti stored in Redis (TTL)
  * - Logout revokes all refresh tokens
  * - Clear separation: generate, validate, authenticate, rotate
+ * - Verified access tokens are cached until exp (HTTP filter, rate limiter and STOMP handshake share it)
  */
 @Service
 @Slf4j
 public class TokenService {
+    public static final int DEFAULT_VERIFICATION_CACHE_SIZE = 10_000;
 
     private final StringRedisTemplate redis;
     private final SecretKey key;
     private final Duration accessTtl;
     private final Duration refreshTtl;
     private final JwtParser jwtParser;
+    private final TokenVerificationCache verificationCache;
 
+    public TokenService(StringRedisTemplate redis, String secret, long accessSeconds, long refreshSeconds) {
+        this(redis, secret, accessSeconds, refreshSeconds, DEFAULT_VERIFICATION_CACHE_SIZE);
+    }
+
+    @Autowired
     public TokenService(StringRedisTemplate redis,
                         @Value("${jwt.secret}") String secret,
                         @Value("${jwt.access-token-validity-seconds}") long accessSeconds,
-                        @Value("${jwt.refresh-token-validity-seconds}") long refreshSeconds) {
+                        @Value("${jwt.refresh-token-validity-seconds}") long refreshSeconds,
+                        @Value("${jwt.verification-cache.max-size:10000}") int verificationCacheSize) {
         this.redis = redis;
+        this.verificationCache = new TokenVerificationCache(verificationCacheSize);
         byte[] keyBytes = Base64.getDecoder().decode(secret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
         this.jwtParser  = Jwts.parser()
@@ -102,8 +113,14 @@ public class TokenService {
 
     /**
      * Validate access token, return Authentication
+     * 이미 검증한 토큰이면 서명 검증과 claim 파싱 없이 캐시된 Principal로 만든다.
      */
     public Authentication authenticateAccess(String token) {
+        TokenVerificationCache.Entry cached = verificationCache.get(token);
+        if (cached != null) {
+            return new UsernamePasswordAuthenticationToken(cached.principal(), token, cached.authorities());
+        }
+
         try {
             Claims claims = jwtParser.parseSignedClaims(token)
                     .getPayload();
@@ -132,6 +149,11 @@ public class TokenService {
                     profileColor
             );
 
+            Date expiration = claims.getExpiration();
+            if (expiration != null) {
+                verificationCache.put(token, principal, expiration.getTime());
+            }
+
             return new UsernamePasswordAuthenticationToken(principal, token, principal.getAuthorities());
         } catch (JwtException ex) {
             log.error("Invalid JWT token: {}", ex.getMessage());
@@ -0,0 +1,131 @@
+package com.itcen.whiteboardserver.auth.service;
+
+import com.itcen.whiteboardserver.common.executor.ScratchPool;
+import com.itcen.whiteboardserver.security.principal.CustomPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * 서명 검증을 마친 액세스 토큰의 Principal을 토큰 만료(exp) 시각까지 보관합니다.
+ * 키는 토큰 전체의 SHA-256 해시이므로 토큰 문자열을 그대로 들고 있지 않고, 한 글자라도 다른 토큰은 다시 검증합니다.
+ * 크기가 maxSize를 넘으면 만료된 항목을 먼저 지우고, 그래도 넘으면 임의의 항목을 지워 maxSize 아래로 유지합니다.
+ * maxSize가 0이면 아무것도 저장하지 않습니다.
+ */
+class TokenVerificationCache {
+    private static final int MAX_IDLE_DIGESTS = 64;
+
+    private final int maxSize;
+    private final LongSupplier clock;
+    private final Map<TokenHash, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final ScratchPool<MessageDigest> sha256 = new ScratchPool<>(TokenVerificationCache::newDigest, MAX_IDLE_DIGESTS);
+
+    TokenVerificationCache(int maxSize) {
+        this(maxSize, System::currentTimeMillis);
+    }
+
+    TokenVerificationCache(int maxSize, LongSupplier clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    /**
+     * @return 만료 전인 항목이 있으면 그 항목, 없으면 null
+     */
+    Entry get(String token) {
+        if (maxSize == 0) {
+            return null;
+        }
+
+        TokenHash hash = hash(token);
+        Entry entry = entries.get(hash);
+
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.expiresAtMillis() <= clock.getAsLong()) {
+            entries.remove(hash, entry);
+            return null;
+        }
+
+        return entry;
+    }
+
+    void put(String token, CustomPrincipal principal, long expiresAtMillis) {
+        if (maxSize == 0 || expiresAtMillis <= clock.getAsLong()) {
+            return;
+        }
+
+        entries.put(hash(token), new Entry(principal, principal.getAuthorities(), expiresAtMillis));
+
+        if (entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        // 여러 요청이 동시에 넘치게 해도 한 스레드만 정리
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            long now = clock.getAsLong();
+            entries.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+
+            Iterator<TokenHash> iterator = entries.keySet().iterator();
+            while (entries.size() > maxSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private TokenHash hash(String token) {
+        MessageDigest digest = sha256.acquire();
+        ByteBuffer hashed;
+        try {
+            hashed = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } finally {
+            sha256.release(digest);
+        }
+
+        return new TokenHash(hashed.getLong(), hashed.getLong(), hashed.getLong(), hashed.getLong());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * @param principal        토큰에서 꺼낸 사용자 정보
+     * @param authorities      principal.getAuthorities()를 미리 만들어 둔 값
+     * @param expiresAtMillis  토큰 exp (epoch millis)
+     */
+    record Entry(CustomPrincipal principal, Collection<? extends GrantedAuthority> authorities, long expiresAtMillis) {
+    }
+
+    private record TokenHash(long h0, long h1, long h2, long h3) {
+    }
+}
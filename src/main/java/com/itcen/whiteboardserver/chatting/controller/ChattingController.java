@@ -8,6 +8,7 @@ import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.stereotype.Controller;
 
 import java.security.Principal;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 @RequiredArgsConstructor
@@ -15,10 +16,11 @@ public class ChattingController {
 
     private final ChattingService chattingService;
 
+    // 처리 중 발생한 예외는 future를 통해 @MessageExceptionHandler로 전달됨
     @MessageMapping("/game/{gameId}/chat")
-    public void chat(@DestinationVariable Long gameId, String chat, Principal principal) {
+    public CompletableFuture<Void> chat(@DestinationVariable Long gameId, String chat, Principal principal) {
         String email = principal.getName();
 
-        chattingService.chat(new ChattingRequest(gameId, email, chat));
+        return chattingService.chat(new ChattingRequest(gameId, email, chat));
     }
 }
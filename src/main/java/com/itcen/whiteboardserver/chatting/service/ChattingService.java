@@ -2,6 +2,11 @@ package com.itcen.whiteboardserver.chatting.service;
 
 import com.itcen.whiteboardserver.chatting.dto.ChattingRequest;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface ChattingService {
-    void chat(ChattingRequest chattingRequest);
+    /**
+     * @return 게임 mailbox에서 채팅 처리가 끝나면 완료되고, 처리 중 예외가 나면 그 예외로 실패하는 future
+     */
+    CompletableFuture<Void> chat(ChattingRequest chattingRequest);
 }
@@ -3,16 +3,24 @@ package com.itcen.whiteboardserver.chatting.service;
 import com.itcen.whiteboardserver.chatting.dto.ChattingRequest;
 import com.itcen.whiteboardserver.common.broadcast.Broadcaster;
 import com.itcen.whiteboardserver.common.broadcast.dto.TurnBroadcastDto;
+import com.itcen.whiteboardserver.common.broadcast.dto.TurnUnicastDto;
+import com.itcen.whiteboardserver.game.actor.GameActor;
 import com.itcen.whiteboardserver.game.session.GameSession;
 import com.itcen.whiteboardserver.member.entity.Member;
 import com.itcen.whiteboardserver.member.repository.MemberRepository;
 import com.itcen.whiteboardserver.turn.dto.response.TurnResponse;
 import com.itcen.whiteboardserver.turn.dto.response.TurnResponseType;
 import com.itcen.whiteboardserver.turn.dto.response.data.ChatData;
+import com.itcen.whiteboardserver.turn.dto.response.data.CloseAnswerData;
 import com.itcen.whiteboardserver.turn.service.TurnService;
+import com.itcen.whiteboardserver.turn.session.ActiveTurnRegistry;
+import com.itcen.whiteboardserver.turn.session.state.ActiveTurn;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
 public class ChattingServiceImpl implements ChattingService {
@@ -20,50 +28,76 @@ public class ChattingServiceImpl implements ChattingService {
     private final MemberRepository memberRepository;
     private final TurnService turnService;
     private final Broadcaster broadcaster;
+    private final GameActor gameActor;
+    private final ActiveTurnRegistry activeTurnRegistry;
 
     @Override
-    public void chat(ChattingRequest chattingRequest) {
-        Member member = memberRepository.findByEmail(chattingRequest.email()).orElseThrow(
-                () -> new RuntimeException("해당하는 이메일의 회원이 존재하지 않습니다.")
-        );
+    public CompletableFuture<Void> chat(ChattingRequest chattingRequest) {
+        //정답 처리와 턴 종료가 타이머의 턴 종료와 겹치지 않도록 게임 단위로 순서대로 처리, 수신 스레드는 기다리지 않음
+        return gameActor.submit(chattingRequest.gameId(), () -> {
+            chatInGame(chattingRequest);
+            return null;
+        });
+    }
+
+    private void chatInGame(ChattingRequest chattingRequest) {
+        Long gameId = chattingRequest.gameId();
+        Optional<ActiveTurn> activeTurn = activeTurnRegistry.findActiveTurn(gameId);
 
-        if (!gameSession.isGamePlaying(chattingRequest.gameId())) {
-            broadcastChat(chattingRequest.gameId(), chattingRequest.message(), member);
+        if (activeTurn.isEmpty() || !gameSession.isGamePlaying(gameId)) {
+            Member member = memberRepository.findByEmail(chattingRequest.email()).orElseThrow(
+                    () -> new RuntimeException("해당하는 이메일의 회원이 존재하지 않습니다.")
+            );
+
+            broadcastChat(gameId, chattingRequest.message(), member.getId(), member.getNickname());
             return;
         }
 
-        if (!gameSession.isThisMemberParticipant(chattingRequest.gameId(), member.getId())) {
-            throw new RuntimeException("채팅 요청한 회원이 게임 참가자가 아닙니다.");
-        }
+        //턴 진행 중인 채팅은 메모리의 턴 상태로만 판단하여, 오답은 DB를 조회하지 않음
+        ActiveTurn turn = activeTurn.get();
+        ActiveTurn.Participant participant = turn.findParticipant(chattingRequest.email()).orElseThrow(
+                () -> new RuntimeException("채팅 요청한 회원이 게임 참가자가 아닙니다.")
+        );
 
-        if (gameSession.isThisDrawer(chattingRequest.gameId(), member.getId())) {
+        if (turn.isDrawer(chattingRequest.email())) {
             throw new RuntimeException("채팅 요청한 회원이 출제자이기 때문에 채팅이 금지됩니다.");
         }
 
-        if (turnService.isAlreadyCorrect(chattingRequest.gameId(), member.getId())) {
+        if (turn.hasCorrected(participant.memberId())) {
             throw new RuntimeException("채팅 요청한 회원이 이미 정답을 맞춰 채팅이 금지됩니다.");
         }
 
-        String answer = gameSession.getNowTurnQuizWord(chattingRequest.gameId());
         String message = chattingRequest.message();
-        System.out.println(answer + ", " + message);
-        if (answer.replaceAll(" ", "").equals(message.replaceAll(" ", ""))) {
-            message = member.getNickname() + "님이 정답을 맞추셨습니다.";
+        boolean correct = turn.isAnswer(message) && turn.markCorrect(participant.memberId());
+        if (correct) {
+            message = participant.nickname() + "님이 정답을 맞추셨습니다.";
+        }
+
+        broadcastChat(gameId, message, participant.memberId(), participant.nickname());
 
-            turnService.correct(chattingRequest.gameId(), member.getId());
+        if (!correct && turn.isCloseAnswer(message)) {
+            sendCloseAnswer(gameId, turn.turnId(), chattingRequest.email());
         }
 
-        broadcastChat(chattingRequest.gameId(), message, member);
-        turnService.turnOverIfPossible(chattingRequest.gameId());
+        if (correct) {
+            //정답 기록과 턴 종료는 채팅 응답을 기다리게 하지 않고 같은 게임 mailbox에서 이어서 처리
+            //그 사이 타이머가 먼저 턴을 끝냈으면 정답 기록과 턴 종료 모두 하지 않음
+            boolean everyoneCorrect = turn.isEveryoneCorrect();
+            gameActor.execute(gameId, () -> {
+                if (turnService.correct(gameId, turn.turnId(), participant.memberId()) && everyoneCorrect) {
+                    turnService.turnOver(turn.turnId());
+                }
+            });
+        }
     }
 
-    private void broadcastChat(Long gameId, String message, Member member) {
+    private void broadcastChat(Long gameId, String message, Long memberId, String nickname) {
         TurnResponse<ChatData> response = new TurnResponse(
                 TurnResponseType.CHAT,
                 new ChatData(
                         message,
-                        member.getId(),
-                        member.getNickname()
+                        memberId,
+                        nickname
                 )
         );
 
@@ -74,4 +108,14 @@ public class ChattingServiceImpl implements ChattingService {
                         .build()
         );
     }
+
+    private void sendCloseAnswer(Long gameId, Long turnId, String email) {
+        broadcaster.unicast(
+                TurnUnicastDto.<CloseAnswerData>builder()
+                        .email(email)
+                        .destination("/topic/game/" + gameId)
+                        .data(new TurnResponse<>(TurnResponseType.CLOSE_ANSWER, new CloseAnswerData(turnId)))
+                        .build()
+        );
+    }
 }
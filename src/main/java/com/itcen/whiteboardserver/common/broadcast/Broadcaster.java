@@ -3,8 +3,12 @@ package com.itcen.whiteboardserver.common.broadcast;
 import com.itcen.whiteboardserver.common.broadcast.dto.TurnBroadcastDto;
 import com.itcen.whiteboardserver.common.broadcast.dto.TurnUnicastDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
@@ -12,9 +16,36 @@ public class Broadcaster {
     private final SimpMessagingTemplate simpMessagingTemplate;
 
     public <T> void broadcast(TurnBroadcastDto<T> turnBroadcastDto) {
+        if (turnBroadcastDto.headers() == null) {
+            simpMessagingTemplate.convertAndSend(
+                    turnBroadcastDto.destination(),
+                    turnBroadcastDto.data()
+            );
+            return;
+        }
+
+        //MessageHeaders가 아닌 Map은 STOMP native 헤더로 전송됨
         simpMessagingTemplate.convertAndSend(
                 turnBroadcastDto.destination(),
-                turnBroadcastDto.data()
+                turnBroadcastDto.data(),
+                turnBroadcastDto.headers()
+        );
+    }
+
+    public void broadcastBinary(String destination, byte[] payload) {
+        broadcastBinary(destination, payload, Map.of());
+    }
+
+    public void broadcastBinary(String destination, byte[] payload, Map<String, Object> headers) {
+        SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create();
+        headerAccessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        headers.forEach((name, value) -> headerAccessor.setNativeHeader(name, String.valueOf(value)));
+        headerAccessor.setLeaveMutable(true);
+
+        simpMessagingTemplate.convertAndSend(
+                destination,
+                payload,
+                headerAccessor.getMessageHeaders()
         );
     }
 
@@ -3,9 +3,15 @@ package com.itcen.whiteboardserver.common.broadcast.dto;
 import com.itcen.whiteboardserver.turn.dto.response.TurnResponse;
 import lombok.Builder;
 
+import java.util.Map;
+
+/**
+ * @param headers 함께 보낼 STOMP 헤더, 없으면 null
+ */
 @Builder
 public record TurnBroadcastDto<T>(
         String destination,
-        TurnResponse<T> data
+        TurnResponse<T> data,
+        Map<String, Object> headers
 ) {
 }
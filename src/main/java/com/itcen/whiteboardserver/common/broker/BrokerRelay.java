@@ -0,0 +1,149 @@
+package com.itcen.whiteboardserver.common.broker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * brokerChannel로 들어오는 메시지 중 노드를 넘나드는 목적지만 다른 노드에 중계하고, 다른 노드에서 온 메시지를 이 노드의 브로커에 전달합니다.
+ * 각 노드의 SimpleBroker는 자신에게 연결된 세션에게만 전달하므로, 로비와 사용자 큐 메시지를 다른 노드의 세션도 받을 수 있습니다.
+ *
+ * <ul>
+ *     <li>{@code /topic/lobby} 메시지를 중계합니다.</li>
+ *     <li>{@code /user/**} 메시지는 세션으로 해석되기 전에 중계하여, 각 노드가 자신의 사용자 레지스트리로 해석하게 합니다.
+ *     해석된 {@code /queue/**} 메시지는 이미 이 노드의 세션을 가리키므로 중계하지 않습니다.</li>
+ * </ul>
+ *
+ * 방/게임 토픽({@code /topic/room/**}, {@code /topic/game/**})은 중계하지 않습니다.
+ * 진행 중인 턴, 그림 기록, 점수판, 타이머, 방 좌석은 노드 메모리에 있어 다른 노드에 연결된 참가자는 게임을 진행할 수 없으므로,
+ * 같은 방의 참가자는 한 노드에 연결되어 있어야 합니다. 그리기 프레임을 구독자가 없는 다른 노드로 보내지 않기 위한 것입니다.
+ *
+ * 다른 노드로의 발행은 단일 스레드에서 비동기로 처리하여, 브로커 채널을 보내는 스레드가 Redis 왕복을 기다리지 않고 발행 순서도 지킵니다.
+ * 발행 대기열이 가득 차면 중계를 버리고 이 노드의 구독자에게만 전달합니다.
+ */
+@Slf4j
+public class BrokerRelay implements ChannelInterceptor {
+    public static final String RELAYED_HEADER = "brokerRelayedFrom";
+    private static final String LOBBY_TOPIC = "/topic/lobby";
+    private static final String USER_PREFIX = "/user/";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final BrokerRelayTransport transport;
+    private final ObjectMapper objectMapper;
+    private final MessageChannel brokerChannel;
+    private final ExecutorService publisher;
+
+    public BrokerRelay(BrokerRelayTransport transport, ObjectMapper objectMapper, MessageChannel brokerChannel,
+                       int publishQueueCapacity) {
+        this.transport = transport;
+        this.objectMapper = objectMapper;
+        this.brokerChannel = brokerChannel;
+        this.publisher = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(publishQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "broker-relay-publisher");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, executor) -> log.error("브로커 중계 대기열이 가득 차 메시지를 다른 노드에 보내지 않습니다: 대기 중 = {}",
+                        executor.getQueue().size()));
+
+        transport.subscribe(this::receive);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!isRelayable(message)) {
+            return message;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+        MimeType contentType = accessor.getContentType();
+        Map<String, List<String>> nativeHeaders = accessor.toNativeHeaderMap();
+        byte[] payload = (byte[]) message.getPayload();
+
+        publisher.execute(() -> {
+            try {
+                transport.publish(objectMapper.writeValueAsString(new BrokerRelayEnvelope(
+                        nodeId,
+                        destination,
+                        contentType != null ? contentType.toString() : null,
+                        nativeHeaders,
+                        payload
+                )));
+            } catch (Exception e) {
+                //중계에 실패해도 이 노드의 구독자에게는 전달
+                log.error("브로커 메시지 중계 실패: destination={}", destination, e);
+            }
+        });
+
+        return message;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        //종료 전에 남은 메시지를 중계
+        publisher.shutdown();
+        publisher.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private boolean isRelayable(Message<?> message) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE
+                || message.getHeaders().containsKey(RELAYED_HEADER)
+                || message.getHeaders().containsKey(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION)
+                || !(message.getPayload() instanceof byte[])) {
+            return false;
+        }
+
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        return destination != null && (destination.equals(LOBBY_TOPIC) || destination.startsWith(USER_PREFIX));
+    }
+
+    private void receive(String raw) {
+        BrokerRelayEnvelope envelope;
+        try {
+            envelope = objectMapper.readValue(raw, BrokerRelayEnvelope.class);
+        } catch (JsonProcessingException e) {
+            log.error("중계된 브로커 메시지를 읽을 수 없습니다.", e);
+            return;
+        }
+
+        if (nodeId.equals(envelope.nodeId())) {
+            return;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(envelope.destination());
+        if (envelope.contentType() != null) {
+            accessor.setContentType(MimeType.valueOf(envelope.contentType()));
+        }
+        if (envelope.nativeHeaders() != null) {
+            envelope.nativeHeaders().forEach((name, values) -> values.forEach(value -> accessor.addNativeHeader(name, value)));
+        }
+        accessor.setHeader(RELAYED_HEADER, envelope.nodeId());
+        accessor.setLeaveMutable(true);
+
+        brokerChannel.send(MessageBuilder.createMessage(envelope.payload(), accessor.getMessageHeaders()));
+    }
+}
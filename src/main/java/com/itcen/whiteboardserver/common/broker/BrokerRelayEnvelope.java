@@ -0,0 +1,16 @@
+package com.itcen.whiteboardserver.common.broker;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @param nativeHeaders 그리기 순번(draw-seq)처럼 구독자에게 그대로 전달해야 하는 STOMP 헤더
+ */
+public record BrokerRelayEnvelope(
+        String nodeId,
+        String destination,
+        String contentType,
+        Map<String, List<String>> nativeHeaders,
+        byte[] payload
+) {
+}
@@ -0,0 +1,13 @@
+package com.itcen.whiteboardserver.common.broker;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 브로커 메시지를 주고받는 통로입니다.
+ * 모든 노드가 같은 채널을 구독하며, 자신이 보낸 메시지도 다시 받을 수 있습니다.
+ */
+public interface BrokerRelayTransport {
+    void publish(String envelope);
+
+    void subscribe(Consumer<String> listener);
+}
@@ -0,0 +1,32 @@
+package com.itcen.whiteboardserver.common.broker;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * 이미 사용 중인 Redis의 pub/sub 채널 하나로 브로커 메시지를 중계합니다.
+ */
+@RequiredArgsConstructor
+public class RedisBrokerRelayTransport implements BrokerRelayTransport {
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String channel;
+
+    @Override
+    public void publish(String envelope) {
+        redisTemplate.convertAndSend(channel, envelope);
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> listener.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(channel)
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package com.itcen.whiteboardserver.common.executor;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 계산 중에만 쓰는 재사용 버퍼를 스레드와 관계없이 빌려 주고 돌려받습니다.
+ * ThreadLocal은 virtual thread처럼 작업마다 새 스레드를 쓰면 호출할 때마다 다시 만들어지므로, 대신 이 풀을 사용합니다.
+ * 비어 있으면 새로 만들고, 보관 중인 버퍼가 maxIdle개를 넘으면 돌려받은 버퍼는 버립니다.
+ */
+public final class ScratchPool<T> {
+    private final Supplier<T> factory;
+    private final int maxIdle;
+    private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    public ScratchPool(Supplier<T> factory, int maxIdle) {
+        this.factory = factory;
+        this.maxIdle = maxIdle;
+    }
+
+    public T acquire() {
+        T scratch = idle.poll();
+        if (scratch == null) {
+            return factory.get();
+        }
+
+        idleCount.decrementAndGet();
+        return scratch;
+    }
+
+    public void release(T scratch) {
+        if (idleCount.incrementAndGet() > maxIdle) {
+            idleCount.decrementAndGet();
+            return;
+        }
+
+        idle.offer(scratch);
+    }
+}
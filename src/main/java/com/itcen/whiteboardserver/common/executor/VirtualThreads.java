@@ -0,0 +1,43 @@
+package com.itcen.whiteboardserver.common.executor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * virtual thread 실행기를 만듭니다.
+ * 빌드는 JDK 17 기준이므로, 실행 중인 JDK가 21 미만이면 설정과 관계없이 기존 스레드 풀을 사용합니다.
+ */
+@Slf4j
+public final class VirtualThreads {
+    private static final int MIN_FEATURE_VERSION = 21;
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * 설정으로 켜져 있고 실행 중인 JDK가 지원할 때만 true를 반환합니다.
+     */
+    public static boolean isUsable(boolean enabled, String usage) {
+        if (!enabled) {
+            return false;
+        }
+
+        if (Runtime.version().feature() < MIN_FEATURE_VERSION) {
+            log.warn("virtual thread는 JDK {} 이상에서만 사용할 수 있어 기존 스레드 풀을 사용합니다: {}", MIN_FEATURE_VERSION, usage);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * 작업마다 virtual thread를 새로 만드는 실행기
+     */
+    public static Executor newExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
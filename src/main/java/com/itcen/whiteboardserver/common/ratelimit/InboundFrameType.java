@@ -0,0 +1,39 @@
+package com.itcen.whiteboardserver.common.ratelimit;
+
+import org.springframework.messaging.simp.stomp.StompCommand;
+
+/**
+ * 클라이언트가 보낸 STOMP 프레임의 요청 제한 분류. 분류마다 따로 한도를 둡니다.
+ */
+public enum InboundFrameType {
+    // /app/game/{gameId}/draw
+    DRAW,
+    // /app/game/{gameId}/chat
+    CHAT,
+    // 그 외 SEND, SUBSCRIBE, UNSUBSCRIBE
+    CONTROL;
+
+    /**
+     * @return 제한 대상이 아니면(CONNECT, DISCONNECT, 하트비트 등) null
+     */
+    static InboundFrameType of(StompCommand command, String destination) {
+        if (command == StompCommand.SUBSCRIBE || command == StompCommand.UNSUBSCRIBE) {
+            return CONTROL;
+        }
+
+        if (command != StompCommand.SEND) {
+            return null;
+        }
+
+        if (destination != null && destination.startsWith("/app/game/")) {
+            if (destination.endsWith("/draw")) {
+                return DRAW;
+            }
+            if (destination.endsWith("/chat")) {
+                return CHAT;
+            }
+        }
+
+        return CONTROL;
+    }
+}
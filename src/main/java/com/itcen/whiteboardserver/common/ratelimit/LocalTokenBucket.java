@@ -0,0 +1,34 @@
+package com.itcen.whiteboardserver.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 토큰 버킷. 남은 토큰 수 대신 "다음 토큰을 쓸 수 있게 되는 이론상 시각" 하나만 CAS로 바꿉니다. (GCRA)
+ * capacity개까지 한꺼번에 쓸 수 있고, 이후에는 초당 tokensPerSecond개씩 다시 쓸 수 있습니다.
+ */
+final class LocalTokenBucket {
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    LocalTokenBucket(long capacity, double tokensPerSecond, long nowNanos) {
+        this.emissionIntervalNanos = Math.max(1, (long) (1_000_000_000L / tokensPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    boolean tryConsume(long nowNanos) {
+        while (true) {
+            long arrival = theoreticalArrivalNanos.get();
+            long nextArrival = Math.max(arrival, nowNanos) + emissionIntervalNanos;
+
+            if (nextArrival - nowNanos > burstToleranceNanos) {
+                return false;
+            }
+
+            if (theoreticalArrivalNanos.compareAndSet(arrival, nextArrival)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.itcen.whiteboardserver.common.ratelimit;
+
+import com.itcen.whiteboardserver.game.exception.ErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 세션별로 그리기/채팅/제어 프레임의 수신 한도를 둡니다.
+ * clientInboundChannel의 preSend에서 (작업 스레드 풀에 넘기기 전에) 판단하므로,
+ * 한도를 넘긴 프레임은 큐에 쌓이지 않고 버려져 같은 노드의 다른 세션 처리를 밀어내지 않습니다.
+ * 버린 세션에게는 분류별로 초당 한 번까지만 /user/queue/errors로 알립니다.
+ * 목적지별로 허용/버린 프레임 수를 셉니다. (숫자 경로는 {id}로 묶음)
+ */
+@Slf4j
+@Component
+public class StompRateLimitChannelInterceptor implements ChannelInterceptor {
+    private static final String ERROR_QUEUE = "/queue/errors";
+    private static final long NOTICE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    // 임의의 목적지로 카운터가 끝없이 늘지 않도록 제한
+    private static final int MAX_COUNTED_DESTINATIONS = 256;
+    private static final String OTHER_DESTINATION = "(other)";
+
+    private static final InboundFrameType[] FRAME_TYPES = InboundFrameType.values();
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final boolean enabled;
+    private final Map<InboundFrameType, Budget> budgets;
+    private final LongSupplier clock;
+    private final Map<String, SessionBudget> sessions = new ConcurrentHashMap<>();
+    private final Map<String, DestinationCounter> counters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public StompRateLimitChannelInterceptor(
+            @Lazy SimpMessagingTemplate messagingTemplate,
+            @Value("${stomp.rate-limit.enabled:true}") boolean enabled,
+            @Value("${stomp.rate-limit.draw.capacity:120}") long drawCapacity,
+            @Value("${stomp.rate-limit.draw.per-second:60}") double drawPerSecond,
+            @Value("${stomp.rate-limit.chat.capacity:10}") long chatCapacity,
+            @Value("${stomp.rate-limit.chat.per-second:3}") double chatPerSecond,
+            @Value("${stomp.rate-limit.control.capacity:20}") long controlCapacity,
+            @Value("${stomp.rate-limit.control.per-second:5}") double controlPerSecond
+    ) {
+        this(messagingTemplate, enabled, Map.of(
+                InboundFrameType.DRAW, new Budget(drawCapacity, drawPerSecond),
+                InboundFrameType.CHAT, new Budget(chatCapacity, chatPerSecond),
+                InboundFrameType.CONTROL, new Budget(controlCapacity, controlPerSecond)
+        ), System::nanoTime);
+    }
+
+    StompRateLimitChannelInterceptor(SimpMessagingTemplate messagingTemplate, boolean enabled,
+                                     Map<InboundFrameType, Budget> budgets, LongSupplier clock) {
+        this.messagingTemplate = messagingTemplate;
+        this.enabled = enabled;
+        this.budgets = new EnumMap<>(budgets);
+        this.clock = clock;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!enabled) {
+            return message;
+        }
+
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null || accessor.getSessionId() == null) {
+            return message;
+        }
+
+        if (accessor.getCommand() == StompCommand.DISCONNECT) {
+            sessions.remove(accessor.getSessionId());
+            return message;
+        }
+
+        InboundFrameType type = InboundFrameType.of(accessor.getCommand(), accessor.getDestination());
+        if (type == null) {
+            return message;
+        }
+
+        long now = clock.getAsLong();
+        SessionBudget session = sessions.computeIfAbsent(accessor.getSessionId(), id -> new SessionBudget(now));
+        DestinationCounter counter = counterFor(accessor.getDestination());
+
+        if (session.tryConsume(type, now)) {
+            counter.allowed.increment();
+            return message;
+        }
+
+        counter.dropped.increment();
+        if (session.shouldNotify(type, now)) {
+            notifyThrottled(accessor, type);
+        }
+
+        return null;
+    }
+
+    /**
+     * @return 목적지(숫자 경로는 {id}) -> 허용/버린 프레임 수
+     */
+    public Map<String, FrameCounts> getCounters() {
+        Map<String, FrameCounts> snapshot = new TreeMap<>();
+        counters.forEach((destination, counter) ->
+                snapshot.put(destination, new FrameCounts(counter.allowed.sum(), counter.dropped.sum())));
+        return snapshot;
+    }
+
+    int getSessionCount() {
+        return sessions.size();
+    }
+
+    private void notifyThrottled(StompHeaderAccessor accessor, InboundFrameType type) {
+        Principal user = accessor.getUser();
+        log.warn("STOMP 수신 한도 초과로 프레임을 버립니다: 세션 ID = {}, 분류 = {}, 목적지 = {}",
+                accessor.getSessionId(), type, accessor.getDestination());
+
+        if (user == null) {
+            return;
+        }
+
+        try {
+            messagingTemplate.convertAndSendToUser(user.getName(), ERROR_QUEUE,
+                    new ErrorResponse("요청 제한", "메시지를 너무 자주 보내고 있습니다. 잠시 후 다시 시도해주세요."));
+        } catch (Exception e) {
+            log.error("요청 제한 알림 전송 실패: 세션 ID = {}", accessor.getSessionId(), e);
+        }
+    }
+
+    private DestinationCounter counterFor(String destination) {
+        String key = normalize(destination);
+        DestinationCounter counter = counters.get(key);
+
+        if (counter == null) {
+            if (counters.size() >= MAX_COUNTED_DESTINATIONS) {
+                key = OTHER_DESTINATION;
+            }
+            counter = counters.computeIfAbsent(key, k -> new DestinationCounter());
+        }
+
+        return counter;
+    }
+
+    // /app/game/12/draw -> /app/game/{id}/draw
+    private static String normalize(String destination) {
+        if (destination == null) {
+            return OTHER_DESTINATION;
+        }
+
+        StringBuilder normalized = null;
+        int i = 0;
+        while (i < destination.length()) {
+            char c = destination.charAt(i);
+
+            if (Character.isDigit(c) && i > 0 && destination.charAt(i - 1) == '/') {
+                int end = i;
+                while (end < destination.length() && Character.isDigit(destination.charAt(end))) {
+                    end++;
+                }
+
+                if (end == destination.length() || destination.charAt(end) == '/') {
+                    if (normalized == null) {
+                        normalized = new StringBuilder(destination.length()).append(destination, 0, i);
+                    }
+                    normalized.append("{id}");
+                    i = end;
+                    continue;
+                }
+            }
+
+            if (normalized != null) {
+                normalized.append(c);
+            }
+            i++;
+        }
+
+        return normalized != null ? normalized.toString() : destination;
+    }
+
+    /**
+     * @param capacity   한꺼번에 보낼 수 있는 프레임 수
+     * @param perSecond  초당 다시 채워지는 프레임 수
+     */
+    public record Budget(long capacity, double perSecond) {
+    }
+
+    public record FrameCounts(long allowed, long dropped) {
+    }
+
+    private static final class DestinationCounter {
+        private final LongAdder allowed = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+    }
+
+    private final class SessionBudget {
+        private final LocalTokenBucket[] buckets = new LocalTokenBucket[FRAME_TYPES.length];
+        // 분류별 마지막 알림 시각
+        private final AtomicLongArray lastNoticeNanos = new AtomicLongArray(FRAME_TYPES.length);
+
+        private SessionBudget(long nowNanos) {
+            for (InboundFrameType type : FRAME_TYPES) {
+                Budget budget = budgets.get(type);
+                buckets[type.ordinal()] = new LocalTokenBucket(budget.capacity(), budget.perSecond(), nowNanos);
+                lastNoticeNanos.set(type.ordinal(), nowNanos - NOTICE_INTERVAL_NANOS);
+            }
+        }
+
+        private boolean tryConsume(InboundFrameType type, long nowNanos) {
+            return buckets[type.ordinal()].tryConsume(nowNanos);
+        }
+
+        private boolean shouldNotify(InboundFrameType type, long nowNanos) {
+            long last = lastNoticeNanos.get(type.ordinal());
+            return nowNanos - last >= NOTICE_INTERVAL_NANOS
+                    && lastNoticeNanos.compareAndSet(type.ordinal(), last, nowNanos);
+        }
+    }
+}
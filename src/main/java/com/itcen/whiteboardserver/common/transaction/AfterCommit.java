@@ -0,0 +1,28 @@
+package com.itcen.whiteboardserver.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메모리 상태 변경, 타이머, 브로드캐스트처럼 롤백할 수 없는 작업을 현재 트랜잭션이 커밋된 뒤에 실행합니다.
+ * 트랜잭션 밖에서 호출하면 바로 실행합니다. 같은 트랜잭션에 등록한 작업은 등록한 순서대로 실행됩니다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
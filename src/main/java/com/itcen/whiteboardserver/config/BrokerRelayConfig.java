@@ -0,0 +1,60 @@
+package com.itcen.whiteboardserver.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itcen.whiteboardserver.common.broker.BrokerRelay;
+import com.itcen.whiteboardserver.common.broker.BrokerRelayTransport;
+import com.itcen.whiteboardserver.common.broker.RedisBrokerRelayTransport;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.MessageChannel;
+
+import java.util.concurrent.Executors;
+
+/**
+ * websocket.broker.mode=redis 일 때 로비와 사용자 큐 STOMP 메시지를 Redis pub/sub으로 노드 간에 중계합니다.
+ * 기본값(simple)에서는 이 설정이 등록되지 않고, 기존처럼 노드 내부의 SimpleBroker만 사용합니다.
+ *
+ * 방/게임 메시지는 중계하지 않습니다. 진행 중인 턴(ActiveTurnRegistry), 그림 묶음/기록(StrokeAggregator, CanvasLogStore),
+ * 게임 직렬 실행(GameActor), 점수판(GameScoreboard), 턴 타이머(TurnTimerService), 방 좌석(RoomDirectory),
+ * 방 정보 캐시(RoomInfoCache), 바이너리 그리기 구독 수(BinaryDrawSubscriptions)는 노드 메모리에 있으므로
+ * 같은 방의 참가자는 한 노드에 연결되어 있어야 합니다. (BrokerRelay 참고)
+ * 로비 목록(LobbyIndex)도 노드마다 따로 있어, 다른 노드에서 만든 방은 로비 변경 메시지로만 전달되고 이 노드의 로비 목록 조회에는 포함되지 않습니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "redis")
+public class BrokerRelayConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(BrokerRelayTransport.class)
+    public RedisMessageListenerContainer brokerRelayListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        // 같은 게임의 메시지 순서를 지키기 위해 한 스레드에서 수신
+        container.setTaskExecutor(Executors.newSingleThreadExecutor());
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(BrokerRelayTransport.class)
+    public BrokerRelayTransport brokerRelayTransport(StringRedisTemplate redisTemplate,
+                                                     RedisMessageListenerContainer brokerRelayListenerContainer,
+                                                     @Value("${websocket.broker.redis-channel:stomp-broker-relay}") String channel) {
+        return new RedisBrokerRelayTransport(redisTemplate, brokerRelayListenerContainer, channel);
+    }
+
+    @Bean
+    public BrokerRelay brokerRelay(BrokerRelayTransport brokerRelayTransport,
+                                   ObjectMapper objectMapper,
+                                   @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel,
+                                   @Value("${websocket.broker.publish-queue-capacity:10000}") int publishQueueCapacity) {
+        return new BrokerRelay(brokerRelayTransport, objectMapper, brokerChannel, publishQueueCapacity);
+    }
+}
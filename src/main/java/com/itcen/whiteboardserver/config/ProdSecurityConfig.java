@@ -9,6 +9,7 @@ import com.itcen.whiteboardserver.global.exception.GlobalErrorCode;
 import com.itcen.whiteboardserver.global.exception.GlobalExceptionResponse;
 import com.itcen.whiteboardserver.security.filter.JwtAuthenticationFilter;
 import com.itcen.whiteboardserver.security.filter.RedisRateLimitingFilter;
+import com.itcen.whiteboardserver.security.filter.RequestAuthContextFilter;
 import com.itcen.whiteboardserver.security.filter.RequestResponseLoggingFilter;
 import com.itcen.whiteboardserver.security.handler.CookieAuthorizationRequestRepository;
 import com.itcen.whiteboardserver.security.handler.CustomAuthenticationEntryPoint;
@@ -58,6 +59,7 @@ public class ProdSecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final RedisRateLimitingFilter redisRateLimitingFilter;
     private final RequestResponseLoggingFilter requestResponseLoggingFilter;
+    private final RequestAuthContextFilter requestAuthContextFilter;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler;
     private final CustomOidcUserService customOidcUserService;
@@ -69,6 +71,8 @@ public class ProdSecurityConfig {
                 // 가장 먼저 만날 필터(로깅 설정)
                 .addFilterBefore(requestResponseLoggingFilter,
                         SecurityContextHolderFilter.class)
+                // 쿠키 파싱, 클라이언트 IP, 토큰 검증 결과를 요청당 한 번만 만들어 이후 필터가 공유
+                .addFilterBefore(requestAuthContextFilter, RequestResponseLoggingFilter.class)
                 // Rate limiting filter 를 먼저 chaining 하는 것은 비인증 사용자만 하면 된다
                 .addFilterAfter(redisRateLimitingFilter, RequestResponseLoggingFilter.class)
 
@@ -119,6 +123,7 @@ public class ProdSecurityConfig {
                         .requestMatchers(HttpMethod.GET,"/api/member", "/api/member/nickname").authenticated()
                         .requestMatchers(HttpMethod.PATCH,"/api/member/nickname").authenticated()
                         .requestMatchers(HttpMethod.POST,"/api/room").authenticated()
+                        .requestMatchers(HttpMethod.GET,"/api/lobby/rooms").authenticated()
                         .requestMatchers("/ws/**").authenticated()
 
                         .anyRequest().denyAll()
@@ -1,16 +1,22 @@
 package com.itcen.whiteboardserver.config;
 
-import io.jsonwebtoken.JwtException;
-import io.jsonwebtoken.JwtParser;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import com.itcen.whiteboardserver.auth.service.TokenService;
+import com.itcen.whiteboardserver.common.broker.BrokerRelay;
+import com.itcen.whiteboardserver.common.executor.VirtualThreads;
+import com.itcen.whiteboardserver.common.ratelimit.StompRateLimitChannelInterceptor;
+import com.itcen.whiteboardserver.draw.canvas.CanvasReplayChannelInterceptor;
+import com.itcen.whiteboardserver.draw.interceptor.DrawEncodingChannelInterceptor;
+import com.itcen.whiteboardserver.global.exception.GlobalCommonException;
+import com.itcen.whiteboardserver.security.filter.RequestAuthContext;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
@@ -18,94 +24,135 @@ import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 import org.springframework.web.socket.server.HandshakeInterceptor;
 import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
-import org.springframework.web.util.WebUtils;
 
-import javax.crypto.SecretKey;
 import java.security.Principal;
-import java.util.Base64;
 import java.util.Map;
-import java.util.Objects;
 
 @Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
-    private final JwtParser jwtParser;
+    private final TokenService tokenService;
     private final String allowedOrigins;
-
-    public WebSocketConfig(@Value("${jwt.secret}") String secret, @Value("${cors.allowed-origins}") String allowedOrigins) {
-        byte[] keyBytes = Base64.getDecoder().decode(secret);
-        SecretKey key = Keys.hmacShaKeyFor(keyBytes);
-        this.jwtParser = Jwts.parser()
-                .verifyWith(key)
-                .build();
+    private final DrawEncodingChannelInterceptor drawEncodingChannelInterceptor;
+    private final CanvasReplayChannelInterceptor canvasReplayChannelInterceptor;
+    private final StompRateLimitChannelInterceptor stompRateLimitChannelInterceptor;
+    private final ObjectProvider<BrokerRelay> brokerRelay;
+    private final boolean virtualThreads;
+
+    public WebSocketConfig(TokenService tokenService, @Value("${cors.allowed-origins}") String allowedOrigins,
+                           DrawEncodingChannelInterceptor drawEncodingChannelInterceptor,
+                           CanvasReplayChannelInterceptor canvasReplayChannelInterceptor,
+                           StompRateLimitChannelInterceptor stompRateLimitChannelInterceptor,
+                           ObjectProvider<BrokerRelay> brokerRelay,
+                           @Value("${virtual-threads.enabled:false}") boolean virtualThreads) {
+        this.tokenService = tokenService;
         this.allowedOrigins = allowedOrigins;
+        this.drawEncodingChannelInterceptor = drawEncodingChannelInterceptor;
+        this.canvasReplayChannelInterceptor = canvasReplayChannelInterceptor;
+        this.stompRateLimitChannelInterceptor = stompRateLimitChannelInterceptor;
+        this.brokerRelay = brokerRelay;
+        this.virtualThreads = VirtualThreads.isUsable(virtualThreads, "STOMP client channels");
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("http"+allowedOrigins, "https"+allowedOrigins)
-                .addInterceptors(new HandshakeInterceptor() {
-                    @Override
-                    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
-                                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
-                        if (request instanceof ServletServerHttpRequest) {
-                            ServletServerHttpRequest servletRequest = (ServletServerHttpRequest) request;
-                            HttpServletRequest httpServletRequest = servletRequest.getServletRequest();
-
-                            // HTTP 요청 헤더에서 JWT 토큰 추출
-                            String token = WebUtils.getCookie(httpServletRequest, "access_token") != null
-                                    ? Objects.requireNonNull(WebUtils.getCookie(httpServletRequest, "access_token")).getValue()
-                                    : null;
-
-                            if (token != null) {
-                                try {
-                                    // JWT 토큰 검증 및 payload 에서 subject(sub) 추출
-                                    String subject = jwtParser.parseSignedClaims(token).getPayload().getSubject();
-
-                                    if (subject != null) {
-                                        // 사용자 email을 세션 속성에 저장
-                                        attributes.put("memberId", subject);
-
-                                        // 사용자별 메시지를 위한 Principal 설정
-                                        attributes.put("username", subject);
-
-                                        log.info("핸드쉐이크 과정에서 WebSocket 연결 인증 성공: userId={}", subject);
-                                        return true;
-                                    }
-                                } catch (JwtException e) {
-                                    log.error("핸드쉐이크 과정에서 JWT 토큰 검증 실패", e);
-                                    return false;
-                                } catch (NumberFormatException e) {
-                                    log.error("핸드쉐이크 과정에서 유효하지 않은 사용자 ID 형식", e);
-                                    return false;
-                                }
-                            }
+                .addInterceptors(jwtHandshakeInterceptor())
+                // WebSocket 연결을 위한 Principal(사용자 인증 정보)을 설정
+                .setHandshakeHandler(principalHandshakeHandler())
+                .withSockJS();
 
-                            log.warn("핸드쉐이크 과정에서 유효한 JWT 토큰이 없음");
+        // SockJS는 바이너리 프레임을 지원하지 않으므로, 바이너리 그리기 인코딩을 쓰는 클라이언트는 이 엔드포인트로 연결
+        registry.addEndpoint("/ws/native")
+                .setAllowedOriginPatterns("http"+allowedOrigins, "https"+allowedOrigins)
+                .addInterceptors(jwtHandshakeInterceptor())
+                .setHandshakeHandler(principalHandshakeHandler());
+
+        // virtual thread는 수가 제한되지 않아 같은 세션의 메시지가 동시에 처리될 수 있으므로, 세션별 수신 순서를 보장
+        registry.setPreserveReceiveOrder(virtualThreads);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // 한도를 넘긴 프레임은 작업 스레드 풀에 넘기기 전에 가장 먼저 버림
+        registration.interceptors(stompRateLimitChannelInterceptor, drawEncodingChannelInterceptor, canvasReplayChannelInterceptor);
+
+        // @MessageMapping 핸들러의 JPA 호출이 제한된 스레드 풀을 점유하지 않도록 virtual thread에서 처리
+        if (virtualThreads) {
+            registration.executor(VirtualThreads.newExecutor("ws-inbound-"));
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (virtualThreads) {
+            registration.executor(VirtualThreads.newExecutor("ws-outbound-"));
+        }
+    }
+
+    private HandshakeInterceptor jwtHandshakeInterceptor() {
+        return new HandshakeInterceptor() {
+            @Override
+            public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                           WebSocketHandler wsHandler, Map<String, Object> attributes) {
+                if (request instanceof ServletServerHttpRequest) {
+                    ServletServerHttpRequest servletRequest = (ServletServerHttpRequest) request;
+                    HttpServletRequest httpServletRequest = servletRequest.getServletRequest();
+
+                    // HTTP 요청 헤더에서 JWT 토큰 추출 (보안 필터 체인에서 만든 RequestAuthContext 재사용)
+                    RequestAuthContext context = RequestAuthContext.of(httpServletRequest, tokenService);
+                    String token = context.getAccessToken();
+
+                    if (token != null) {
+                        try {
+                            // JWT 토큰 검증 및 payload 에서 subject(sub) 추출 (JwtAuthenticationFilter에서 검증한 결과 재사용)
+                            String subject = context.authenticate().getName();
+
+                            if (subject != null) {
+                                // 사용자 email을 세션 속성에 저장
+                                attributes.put("memberId", subject);
+
+                                // 사용자별 메시지를 위한 Principal 설정
+                                attributes.put("username", subject);
+
+                                log.info("핸드쉐이크 과정에서 WebSocket 연결 인증 성공: userId={}", subject);
+                                return true;
+                            }
+                        } catch (GlobalCommonException e) {
+                            log.error("핸드쉐이크 과정에서 JWT 토큰 검증 실패", e);
+                            return false;
+                        } catch (NumberFormatException e) {
+                            log.error("핸드쉐이크 과정에서 유효하지 않은 사용자 ID 형식", e);
                             return false;
                         }
-                        return false;
                     }
 
-                    @Override
-                    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
-                                               WebSocketHandler wsHandler, Exception exception) {
-                        // 핸드셰이크 후 처리 (필요한 경우)
-                    }
+                    log.warn("핸드쉐이크 과정에서 유효한 JWT 토큰이 없음");
+                    return false;
+                }
+                return false;
+            }
 
-                })
-                // WebSocket 연결을 위한 Principal(사용자 인증 정보)을 설정
-                .setHandshakeHandler(new DefaultHandshakeHandler() {
-                    @Override
-                    protected Principal determineUser(ServerHttpRequest request, WebSocketHandler wsHandler, Map<String, Object> attributes) {
-                        final String username = (String) attributes.get("username");
-                        return username != null ? () -> username : super.determineUser(request, wsHandler, attributes);
-                    }
-                })
-                .withSockJS();
+            @Override
+            public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                       WebSocketHandler wsHandler, Exception exception) {
+                // 핸드셰이크 후 처리 (필요한 경우)
+            }
+
+        };
+    }
+
+    private DefaultHandshakeHandler principalHandshakeHandler() {
+        return new DefaultHandshakeHandler() {
+            @Override
+            protected Principal determineUser(ServerHttpRequest request, WebSocketHandler wsHandler, Map<String, Object> attributes) {
+                final String username = (String) attributes.get("username");
+                return username != null ? () -> username : super.determineUser(request, wsHandler, attributes);
+            }
+        };
     }
 
     @Override
@@ -118,6 +165,12 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
         // 사용자별 목적지 접두사
         registry.setUserDestinationPrefix("/user");
+
+        // 세션별 송신 순서 보장(그리기 프레임 순서)
+        registry.setPreservePublishOrder(virtualThreads);
+
+        // websocket.broker.mode=redis 이면 다른 노드와 브로커 메시지를 중계
+        brokerRelay.ifAvailable(relay -> registry.configureBrokerChannel().interceptors(relay));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.itcen.whiteboardserver.draw.aggregator;
+
+import com.itcen.whiteboardserver.draw.dto.DrawDto;
+import com.itcen.whiteboardserver.draw.simplify.StrokeSimplifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 한 게임에서 다음 flush 전까지 들어온 그리기 선분을 모아둡니다.
+ * 같은 선(색상, 두께가 같고 직전 선분의 마지막 점에서 이어지는 선분)은 하나의 선으로 합칩니다.
+ * 꺼낼 때 합친 선을 단순화하고, 단순화 전 점 개수를 함께 돌려줍니다.
+ * 동기화는 {@link StrokeAggregator}가 버퍼 단위로 담당합니다.
+ */
+class GameStrokeBuffer {
+    private final List<PendingStroke> strokes = new ArrayList<>();
+    private Long turnId;
+    private int pointCount;
+    private int idleTicks;
+    private boolean closed;
+
+    boolean isOtherTurn(Long turnId) {
+        return this.turnId != null && !this.turnId.equals(turnId);
+    }
+
+    void append(DrawDto drawDto) {
+        List<DrawDto.Point> points = drawDto.points();
+        if (points == null || points.isEmpty()) {
+            return;
+        }
+
+        turnId = drawDto.turnId();
+        idleTicks = 0;
+
+        PendingStroke last = strokes.isEmpty() ? null : strokes.get(strokes.size() - 1);
+        if (last != null && last.continues(drawDto)) {
+            List<DrawDto.Point> rest = points.subList(1, points.size());
+            last.points.addAll(rest);
+            pointCount += rest.size();
+            return;
+        }
+
+        strokes.add(new PendingStroke(drawDto.color(), drawDto.width(), new ArrayList<>(points)));
+        pointCount += points.size();
+    }
+
+    int getPointCount() {
+        return pointCount;
+    }
+
+    /**
+     * 모인 선분을 단순화해서 꺼내고 버퍼를 비웁니다. 비어 있으면 null을 반환합니다.
+     */
+    StrokeBatch drain(StrokeSimplifier strokeSimplifier) {
+        if (strokes.isEmpty()) {
+            idleTicks++;
+            return null;
+        }
+
+        List<DrawDto> drained = new ArrayList<>(strokes.size());
+        for (PendingStroke stroke : strokes) {
+            drained.add(strokeSimplifier.simplify(new DrawDto(turnId, stroke.color, stroke.width, stroke.points)));
+        }
+
+        StrokeBatch batch = new StrokeBatch(turnId, drained, pointCount);
+        strokes.clear();
+        pointCount = 0;
+
+        return batch;
+    }
+
+    int getIdleTicks() {
+        return idleTicks;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void close() {
+        closed = true;
+    }
+
+    /**
+     * @param pointsIn 단순화 전 점 개수
+     */
+    record StrokeBatch(Long turnId, List<DrawDto> strokes, long pointsIn) {
+    }
+
+    private static final class PendingStroke {
+        private final String color;
+        private final int width;
+        private final List<DrawDto.Point> points;
+
+        private PendingStroke(String color, int width, List<DrawDto.Point> points) {
+            this.color = color;
+            this.width = width;
+            this.points = points;
+        }
+
+        private boolean continues(DrawDto drawDto) {
+            return Objects.equals(color, drawDto.color())
+                    && width == drawDto.width()
+                    && points.get(points.size() - 1).equals(drawDto.points().get(0));
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.itcen.whiteboardserver.draw.aggregator;
+
+import com.itcen.whiteboardserver.common.broadcast.Broadcaster;
+import com.itcen.whiteboardserver.common.broadcast.dto.TurnBroadcastDto;
+import com.itcen.whiteboardserver.draw.canvas.CanvasLogStore;
+import com.itcen.whiteboardserver.draw.codec.DrawFrameCodec;
+import com.itcen.whiteboardserver.draw.dto.DrawDto;
+import com.itcen.whiteboardserver.draw.interceptor.BinaryDrawSubscriptions;
+import com.itcen.whiteboardserver.draw.interceptor.DrawEncodingChannelInterceptor;
+import com.itcen.whiteboardserver.draw.simplify.StrokeSimplifier;
+import com.itcen.whiteboardserver.turn.dto.response.TurnResponse;
+import com.itcen.whiteboardserver.turn.dto.response.TurnResponseType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게임별로 그리기 선분을 일정 시간(window) 동안 모았다가 tick마다 하나의 프레임으로 브로드캐스트합니다.
+ * 송신 메시지 수가 클라이언트의 포인터 이벤트 빈도가 아니라 tick 주기에 비례하도록 합니다.
+ * 바이너리 프레임은 바이너리 토픽 구독자가 있는 게임에만 인코딩해서 보냅니다.
+ * 선 단순화는 tick 동안 이어 붙인 선에 전송 직전 적용하며, 단순화 전후 점 개수는 window 설정과 상관없이 게임이 끝날 때까지 게임별로 누적합니다.
+ */
+@Slf4j
+@Component
+public class StrokeAggregator {
+    // 이 tick 수 동안 선분이 없던 게임의 버퍼는 제거
+    private static final int MAX_IDLE_TICKS = 100;
+
+    private final Broadcaster broadcaster;
+    private final CanvasLogStore canvasLogStore;
+    private final BinaryDrawSubscriptions binaryDrawSubscriptions;
+    private final StrokeSimplifier strokeSimplifier;
+    private final long windowMillis;
+    private final int maxBatchPoints;
+    private final Map<Long, GameStrokeBuffer> buffers = new ConcurrentHashMap<>();
+    // gameId -> 누적 점 개수 (closeGame에서 제거)
+    private final Map<Long, PointCounter> pointCounters = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stroke-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public StrokeAggregator(Broadcaster broadcaster,
+                            CanvasLogStore canvasLogStore,
+                            BinaryDrawSubscriptions binaryDrawSubscriptions,
+                            StrokeSimplifier strokeSimplifier,
+                            @Value("${draw.batch.window-ms:16}") long windowMillis,
+                            @Value("${draw.batch.max-points:256}") int maxBatchPoints) {
+        this.broadcaster = broadcaster;
+        this.canvasLogStore = canvasLogStore;
+        this.binaryDrawSubscriptions = binaryDrawSubscriptions;
+        this.strokeSimplifier = strokeSimplifier;
+        this.windowMillis = windowMillis;
+        this.maxBatchPoints = maxBatchPoints;
+    }
+
+    @PostConstruct
+    void start() {
+        if (windowMillis > 0) {
+            flusher.scheduleAtFixedRate(this::flushAll, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        flusher.shutdown();
+    }
+
+    public void append(Long gameId, DrawDto drawDto) {
+        //window가 0이면 묶지 않고 바로 전송
+        if (windowMillis <= 0) {
+            long pointsIn = drawDto.points() == null ? 0 : drawDto.points().size();
+            publish(gameId, new GameStrokeBuffer.StrokeBatch(drawDto.turnId(), List.of(strokeSimplifier.simplify(drawDto)), pointsIn));
+            return;
+        }
+
+        while (true) {
+            GameStrokeBuffer buffer = buffers.computeIfAbsent(gameId, id -> new GameStrokeBuffer());
+
+            //같은 게임의 프레임 순서를 보장하기 위해 버퍼 lock을 잡은 채로 전송
+            synchronized (buffer) {
+                if (buffer.isClosed()) {
+                    continue;
+                }
+
+                if (buffer.isOtherTurn(drawDto.turnId())) {
+                    publish(gameId, buffer.drain(strokeSimplifier));
+                }
+
+                buffer.append(drawDto);
+
+                if (buffer.getPointCount() >= maxBatchPoints) {
+                    publish(gameId, buffer.drain(strokeSimplifier));
+                }
+                return;
+            }
+        }
+    }
+
+    public void flush(Long gameId) {
+        GameStrokeBuffer buffer = buffers.get(gameId);
+        if (buffer == null) {
+            return;
+        }
+
+        synchronized (buffer) {
+            publish(gameId, buffer.drain(strokeSimplifier));
+        }
+    }
+
+    /**
+     * 게임이 시작된 뒤 누적된 단순화 전후 점 개수, 기록이 없으면 0
+     */
+    public StrokeSimplifier.PointStats getStats(Long gameId) {
+        PointCounter counter = pointCounters.get(gameId);
+
+        return counter == null ? new StrokeSimplifier.PointStats(0, 0) : counter.toStats();
+    }
+
+    /**
+     * 끝난 게임의 남은 선을 전송하고 버퍼와 누적 점 개수를 제거합니다.
+     */
+    public void closeGame(Long gameId) {
+        GameStrokeBuffer buffer = buffers.get(gameId);
+
+        if (buffer != null) {
+            synchronized (buffer) {
+                publish(gameId, buffer.drain(strokeSimplifier));
+                buffer.close();
+                buffers.remove(gameId, buffer);
+            }
+        }
+
+        PointCounter counter = pointCounters.remove(gameId);
+        if (counter != null) {
+            logStats(gameId, counter.toStats());
+        }
+    }
+
+    void flushAll() {
+        for (Map.Entry<Long, GameStrokeBuffer> entry : buffers.entrySet()) {
+            Long gameId = entry.getKey();
+            GameStrokeBuffer buffer = entry.getValue();
+
+            try {
+                synchronized (buffer) {
+                    publish(gameId, buffer.drain(strokeSimplifier));
+
+                    if (buffer.getIdleTicks() >= MAX_IDLE_TICKS) {
+                        buffer.close();
+                        buffers.remove(gameId, buffer);
+                    }
+                }
+            } catch (Exception e) {
+                log.error("그리기 배치 전송 실패: gameId={}", gameId, e);
+            }
+        }
+    }
+
+    private void logStats(Long gameId, StrokeSimplifier.PointStats stats) {
+        if (stats.pointsIn() == 0) {
+            return;
+        }
+
+        log.debug("그리기 점 단순화 결과: gameId={}, 입력 점={}, 전송 점={}, 절감률={}%",
+                gameId, stats.pointsIn(), stats.pointsOut(), Math.round(stats.savedRatio() * 100));
+    }
+
+    private void publish(Long gameId, GameStrokeBuffer.StrokeBatch batch) {
+        if (batch == null) {
+            return;
+        }
+
+        String destination = "/topic/game/" + gameId + "/draw";
+        List<DrawDto> strokes = batch.strokes();
+        countPoints(gameId, batch);
+
+        //늦게 들어온 참가자에게 재생할 수 있도록 전송 순서 그대로 기록하고, 스냅샷과 비교할 순번을 함께 전송
+        long sequence = canvasLogStore.append(batch.turnId(), strokes);
+        Map<String, Object> headers = Map.of(CanvasLogStore.SEQUENCE_HEADER, sequence);
+
+        //선이 하나면 기존 DRAW 형식을 그대로 사용
+        if (strokes.size() == 1) {
+            broadcaster.broadcast(
+                    TurnBroadcastDto.<DrawDto>builder()
+                            .destination(destination)
+                            .data(new TurnResponse<>(TurnResponseType.DRAW, strokes.get(0)))
+                            .headers(headers)
+                            .build()
+            );
+        } else {
+            broadcaster.broadcast(
+                    TurnBroadcastDto.<List<DrawDto>>builder()
+                            .destination(destination)
+                            .data(new TurnResponse<>(TurnResponseType.DRAW_BATCH, strokes))
+                            .headers(headers)
+                            .build()
+            );
+        }
+
+        //바이너리 인코딩을 협상한 클라이언트용
+        if (!binaryDrawSubscriptions.hasSubscribers(gameId)) {
+            return;
+        }
+
+        broadcaster.broadcastBinary(
+                destination + DrawEncodingChannelInterceptor.BINARY_SUFFIX,
+                DrawFrameCodec.encode(batch.turnId(), strokes),
+                headers
+        );
+    }
+
+    private void countPoints(Long gameId, GameStrokeBuffer.StrokeBatch batch) {
+        long pointsOut = 0;
+        for (DrawDto stroke : batch.strokes()) {
+            if (stroke.points() != null) {
+                pointsOut += stroke.points().size();
+            }
+        }
+
+        PointCounter counter = pointCounters.computeIfAbsent(gameId, id -> new PointCounter());
+        counter.pointsIn.add(batch.pointsIn());
+        counter.pointsOut.add(pointsOut);
+    }
+
+    private static final class PointCounter {
+        private final LongAdder pointsIn = new LongAdder();
+        private final LongAdder pointsOut = new LongAdder();
+
+        private StrokeSimplifier.PointStats toStats() {
+            return new StrokeSimplifier.PointStats(pointsIn.sum(), pointsOut.sum());
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.itcen.whiteboardserver.draw.canvas;
+
+import com.itcen.whiteboardserver.draw.codec.DrawPalette;
+import com.itcen.whiteboardserver.draw.dto.DrawDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 한 턴 동안 그려진 선을 int 배열 하나에 이어 붙여 저장하는 append-only 로그입니다.
+ * 선 하나는 [color, width, pointCount, x0, y0, x1, y1, ...] 형태로 기록되며,
+ * 배열 크기는 생성 시 지정한 최대 크기를 넘지 않습니다. 최대 크기에 도달하면 이후 선은 기록하지 않습니다.
+ * 전송한 선 묶음마다 순번을 매기며, 스냅샷은 어느 순번까지 반영했는지와 함께 읽습니다.
+ */
+public class CanvasLog {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int STROKE_HEADER_SIZE = 3;
+    private static final int MAX_INLINE_COLORS = 64;
+
+    private final int maxInts;
+    private final List<String> inlineColors = new ArrayList<>();
+    private int[] buffer;
+    private int size;
+    private boolean truncated;
+    private long sequence;
+
+    public CanvasLog(int maxBytes) {
+        this.maxInts = maxBytes / Integer.BYTES;
+        this.buffer = new int[Math.min(INITIAL_CAPACITY, maxInts)];
+    }
+
+    public synchronized boolean append(DrawDto stroke) {
+        List<DrawDto.Point> points = stroke.points();
+        if (points == null || points.isEmpty()) {
+            return true;
+        }
+
+        int required = STROKE_HEADER_SIZE + points.size() * 2;
+        int colorRef = colorRefOf(stroke.color());
+
+        if (size + required > maxInts || colorRef == Integer.MIN_VALUE) {
+            truncated = true;
+            return false;
+        }
+
+        ensureCapacity(size + required);
+
+        buffer[size++] = colorRef;
+        buffer[size++] = stroke.width();
+        buffer[size++] = points.size();
+        for (DrawDto.Point point : points) {
+            buffer[size++] = point.x();
+            buffer[size++] = point.y();
+        }
+
+        return true;
+    }
+
+    /**
+     * 지금까지의 선을 재생용 목록으로 반환합니다. 이어지는 선은 하나로 합쳐서 반환합니다.
+     */
+    public synchronized List<DrawDto> snapshot(Long turnId) {
+        List<DrawDto> strokes = new ArrayList<>();
+        List<DrawDto.Point> current = null;
+        String currentColor = null;
+        int currentWidth = 0;
+
+        int position = 0;
+        while (position < size) {
+            String color = colorOf(buffer[position]);
+            int width = buffer[position + 1];
+            int pointCount = buffer[position + 2];
+            position += STROKE_HEADER_SIZE;
+
+            int firstX = buffer[position];
+            int firstY = buffer[position + 1];
+            boolean continues = current != null
+                    && Objects.equals(currentColor, color)
+                    && currentWidth == width
+                    && current.get(current.size() - 1).equals(new DrawDto.Point(firstX, firstY));
+
+            if (!continues) {
+                current = new ArrayList<>(pointCount);
+                currentColor = color;
+                currentWidth = width;
+                strokes.add(new DrawDto(turnId, color, width, current));
+            }
+
+            for (int i = continues ? 1 : 0; i < pointCount; i++) {
+                current.add(new DrawDto.Point(buffer[position + i * 2], buffer[position + i * 2 + 1]));
+            }
+            position += pointCount * 2;
+        }
+
+        return strokes;
+    }
+
+    /**
+     * 선 묶음 하나를 기록한 뒤 순번을 올리고 반환합니다. (1부터) 최대 크기에 도달해 기록하지 못한 묶음도 순번은 받습니다.
+     */
+    public synchronized long nextSequence() {
+        return ++sequence;
+    }
+
+    /**
+     * 마지막으로 매긴 순번, 아직 없으면 0
+     */
+    public synchronized long getSequence() {
+        return sequence;
+    }
+
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    public synchronized boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * 현재 로그가 차지하는 배열 크기(byte)
+     */
+    public synchronized long memoryBytes() {
+        return (long) buffer.length * Integer.BYTES;
+    }
+
+    private int colorRefOf(String color) {
+        int paletteIndex = DrawPalette.indexOf(color);
+        if (paletteIndex != DrawPalette.INLINE) {
+            return paletteIndex;
+        }
+
+        int inlineIndex = inlineColors.indexOf(color);
+        if (inlineIndex < 0) {
+            if (inlineColors.size() >= MAX_INLINE_COLORS) {
+                return Integer.MIN_VALUE;
+            }
+
+            inlineColors.add(color);
+            inlineIndex = inlineColors.size() - 1;
+        }
+
+        //팔레트 밖의 색상은 음수로 구분
+        return -(inlineIndex + 1);
+    }
+
+    private String colorOf(int colorRef) {
+        return colorRef >= 0 ? DrawPalette.colorOf(colorRef) : inlineColors.get(-colorRef - 1);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.min(Math.max(buffer.length * 2, required), maxInts));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.itcen.whiteboardserver.draw.canvas;
+
+import com.itcen.whiteboardserver.draw.dto.DrawDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중인 턴의 캔버스 로그를 turnId 별로 보관합니다.
+ * 턴이 시작될 때 열고, 턴이 끝나면 바로 버립니다. 열려 있지 않은 턴의 선은 기록하지 않습니다.
+ * 선 묶음을 기록할 때 매긴 순번은 {@link #SEQUENCE_HEADER} 헤더로 실시간 프레임과 스냅샷에 함께 전송되므로,
+ * 클라이언트는 스냅샷 순번 이하의 실시간 프레임을 이미 반영된 것으로 보고 버릴 수 있습니다.
+ */
+@Slf4j
+@Component
+public class CanvasLogStore {
+    public static final String SEQUENCE_HEADER = "draw-seq";
+
+    private final Map<Long, CanvasLog> logs = new ConcurrentHashMap<>();
+    private final int maxBytesPerTurn;
+
+    public CanvasLogStore(@Value("${draw.canvas.max-bytes-per-turn:1048576}") int maxBytesPerTurn) {
+        this.maxBytesPerTurn = maxBytesPerTurn;
+    }
+
+    public void open(Long turnId) {
+        logs.putIfAbsent(turnId, new CanvasLog(maxBytesPerTurn));
+    }
+
+    /**
+     * @return 이 선 묶음의 순번, 열려 있지 않은 턴이면 0
+     */
+    public long append(Long turnId, List<DrawDto> strokes) {
+        CanvasLog canvasLog = logs.get(turnId);
+        if (canvasLog == null) {
+            return 0;
+        }
+
+        //기록과 순번 증가 사이에 스냅샷을 읽지 않도록 로그 lock을 잡은 채로 처리
+        synchronized (canvasLog) {
+            for (DrawDto stroke : strokes) {
+                if (!canvasLog.append(stroke)) {
+                    log.warn("턴의 캔버스 로그가 최대 크기에 도달하여 이후 선은 재생되지 않습니다: turnId={}", turnId);
+                    break;
+                }
+            }
+
+            return canvasLog.nextSequence();
+        }
+    }
+
+    public Optional<CanvasSnapshot> snapshot(Long turnId) {
+        CanvasLog canvasLog = logs.get(turnId);
+        if (canvasLog == null) {
+            return Optional.empty();
+        }
+
+        synchronized (canvasLog) {
+            if (canvasLog.isEmpty()) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new CanvasSnapshot(canvasLog.getSequence(), canvasLog.snapshot(turnId)));
+        }
+    }
+
+    public void drop(Long turnId) {
+        logs.remove(turnId);
+    }
+
+    /**
+     * @param sequence 스냅샷에 반영된 마지막 선 묶음의 순번
+     */
+    public record CanvasSnapshot(long sequence, List<DrawDto> strokes) {
+    }
+}
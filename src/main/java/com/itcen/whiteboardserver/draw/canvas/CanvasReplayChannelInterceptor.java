@@ -0,0 +1,125 @@
+package com.itcen.whiteboardserver.draw.canvas;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itcen.whiteboardserver.draw.aggregator.StrokeAggregator;
+import com.itcen.whiteboardserver.draw.canvas.CanvasLogStore.CanvasSnapshot;
+import com.itcen.whiteboardserver.draw.codec.DrawFrameCodec;
+import com.itcen.whiteboardserver.turn.dto.response.TurnResponse;
+import com.itcen.whiteboardserver.turn.dto.response.TurnResponseType;
+import com.itcen.whiteboardserver.turn.session.ActiveTurnRegistry;
+import com.itcen.whiteboardserver.turn.session.state.ActiveTurn;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 그리기 토픽을 구독한 세션에게 현재 턴의 캔버스를 재생해 줍니다.
+ * 브로커가 구독을 등록한 뒤에 스냅샷을 보내므로, 늦게 들어오거나 재연결한 참가자도 빈 캔버스 대신 지금까지의 그림을 받습니다.
+ * 아직 모으는 중인 선도 스냅샷에 담기도록 게임의 그리기 버퍼를 먼저 비우고,
+ * 스냅샷에는 반영한 마지막 선 묶음의 순번을 {@link CanvasLogStore#SEQUENCE_HEADER} 헤더로 붙입니다.
+ * 구독 등록과 스냅샷 사이에 전송된 선 묶음은 스냅샷과 중복되므로 클라이언트가 순번으로 걸러냅니다.
+ */
+@Slf4j
+@Component
+public class CanvasReplayChannelInterceptor implements ExecutorChannelInterceptor {
+    private static final Pattern DRAW_TOPIC = Pattern.compile("^/topic/game/(\\d+)/draw(/binary)?$");
+
+    private final CanvasLogStore canvasLogStore;
+    private final StrokeAggregator strokeAggregator;
+    private final ActiveTurnRegistry activeTurnRegistry;
+    private final ObjectMapper objectMapper;
+    private final MessageChannel clientOutboundChannel;
+
+    public CanvasReplayChannelInterceptor(CanvasLogStore canvasLogStore,
+                                          @Lazy StrokeAggregator strokeAggregator,
+                                          ActiveTurnRegistry activeTurnRegistry,
+                                          ObjectMapper objectMapper,
+                                          @Lazy @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel) {
+        this.canvasLogStore = canvasLogStore;
+        this.strokeAggregator = strokeAggregator;
+        this.activeTurnRegistry = activeTurnRegistry;
+        this.objectMapper = objectMapper;
+        this.clientOutboundChannel = clientOutboundChannel;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        //구독이 브로커에 등록된 이후에만 재생
+        if (ex != null || !(handler instanceof AbstractBrokerMessageHandler)) {
+            return;
+        }
+
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.SUBSCRIBE || accessor.getDestination() == null) {
+            return;
+        }
+
+        Matcher matcher = DRAW_TOPIC.matcher(accessor.getDestination());
+        if (!matcher.matches()) {
+            return;
+        }
+
+        Long gameId = Long.valueOf(matcher.group(1));
+        boolean binary = matcher.group(2) != null;
+
+        Long turnId = activeTurnRegistry.findActiveTurn(gameId)
+                .map(ActiveTurn::turnId)
+                .orElse(null);
+        if (turnId == null) {
+            return;
+        }
+
+        try {
+            //아직 tick을 기다리는 선도 스냅샷에 포함
+            strokeAggregator.flush(gameId);
+            Optional<CanvasSnapshot> snapshot = canvasLogStore.snapshot(turnId);
+
+            if (snapshot.isPresent()) {
+                replay(accessor, turnId, snapshot.get(), binary);
+            }
+        } catch (Exception e) {
+            log.error("캔버스 재생 실패: gameId={}, 세션 ID = {}", gameId, accessor.getSessionId(), e);
+        }
+    }
+
+    private void replay(StompHeaderAccessor subscribe, Long turnId, CanvasSnapshot snapshot, boolean binary)
+            throws JsonProcessingException {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(subscribe.getSessionId());
+        headers.setSubscriptionId(subscribe.getSubscriptionId());
+        headers.setDestination(subscribe.getDestination());
+        headers.setNativeHeader(CanvasLogStore.SEQUENCE_HEADER, String.valueOf(snapshot.sequence()));
+
+        byte[] payload;
+        if (binary) {
+            headers.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+            payload = DrawFrameCodec.encode(turnId, snapshot.strokes());
+        } else {
+            headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            payload = objectMapper.writeValueAsBytes(new TurnResponse<>(TurnResponseType.DRAW_SNAPSHOT, snapshot.strokes()));
+        }
+        headers.setLeaveMutable(true);
+
+        clientOutboundChannel.send(MessageBuilder.createMessage(payload, headers.getMessageHeaders()));
+        log.debug("캔버스 재생: turnId={}, 순번={}, 선 개수={}, 세션 ID = {}",
+                turnId, snapshot.sequence(), snapshot.strokes().size(), subscribe.getSessionId());
+    }
+}
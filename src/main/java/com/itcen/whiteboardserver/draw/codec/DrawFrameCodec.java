@@ -0,0 +1,226 @@
+package com.itcen.whiteboardserver.draw.codec;
+
+import com.itcen.whiteboardserver.draw.dto.DrawDto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 그리기 데이터를 JSON 대신 압축된 바이너리 프레임으로 변환합니다.
+ *
+ * <pre>
+ * [magic:1][version:1][turnId:varint][strokeCount:varint]
+ * stroke = [color:1 (INLINE이면 length:varint + UTF-8)][width:varint][pointCount:varint]
+ *          [x0,y0: zigzag varint][dx,dy: zigzag varint ...]
+ * </pre>
+ * 좌표는 첫 점을 제외하고 직전 점과의 차이만 기록하므로 대부분 1바이트로 표현됩니다.
+ */
+public final class DrawFrameCodec {
+    public static final byte MAGIC = (byte) 0xDC;
+    public static final byte VERSION = 1;
+
+    private DrawFrameCodec() {
+        throw new AssertionError("유틸 클래스는 인스턴스화할 수 없습니다.");
+    }
+
+    public static byte[] encode(Long turnId, List<DrawDto> strokes) {
+        FrameWriter writer = new FrameWriter(16 + strokes.size() * 32);
+        writer.writeByte(MAGIC);
+        writer.writeByte(VERSION);
+        writer.writeVarLong(turnId);
+        writer.writeVarInt(strokes.size());
+
+        for (DrawDto stroke : strokes) {
+            writeStroke(writer, stroke);
+        }
+
+        return writer.toByteArray();
+    }
+
+    public static DrawFrame decode(byte[] frame) {
+        FrameReader reader = new FrameReader(frame);
+
+        if (reader.readByte() != MAGIC) {
+            throw new IllegalArgumentException("그리기 프레임 형식이 아닙니다.");
+        }
+
+        byte version = reader.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 그리기 프레임 버전입니다: " + version);
+        }
+
+        Long turnId = reader.readVarLong();
+        int strokeCount = reader.readVarInt();
+
+        List<DrawDto> strokes = new ArrayList<>(strokeCount);
+        for (int i = 0; i < strokeCount; i++) {
+            strokes.add(readStroke(reader, turnId));
+        }
+
+        return new DrawFrame(turnId, strokes);
+    }
+
+    private static void writeStroke(FrameWriter writer, DrawDto stroke) {
+        int colorIndex = DrawPalette.indexOf(stroke.color());
+        writer.writeByte((byte) colorIndex);
+
+        if (colorIndex == DrawPalette.INLINE) {
+            byte[] color = stroke.color() != null
+                    ? stroke.color().getBytes(StandardCharsets.UTF_8)
+                    : new byte[0];
+            writer.writeVarInt(color.length);
+            writer.writeBytes(color);
+        }
+
+        writer.writeVarInt(stroke.width());
+
+        List<DrawDto.Point> points = stroke.points() != null ? stroke.points() : List.of();
+        writer.writeVarInt(points.size());
+
+        int prevX = 0;
+        int prevY = 0;
+        for (DrawDto.Point point : points) {
+            writer.writeZigZag(point.x() - prevX);
+            writer.writeZigZag(point.y() - prevY);
+            prevX = point.x();
+            prevY = point.y();
+        }
+    }
+
+    private static DrawDto readStroke(FrameReader reader, Long turnId) {
+        int colorIndex = reader.readByte() & 0xFF;
+        String color;
+
+        if (colorIndex == DrawPalette.INLINE) {
+            int length = reader.readVarInt();
+            color = length > 0 ? new String(reader.readBytes(length), StandardCharsets.UTF_8) : null;
+        } else {
+            color = DrawPalette.colorOf(colorIndex);
+        }
+
+        int width = reader.readVarInt();
+        int pointCount = reader.readVarInt();
+
+        List<DrawDto.Point> points = new ArrayList<>(pointCount);
+        int x = 0;
+        int y = 0;
+        for (int i = 0; i < pointCount; i++) {
+            x += reader.readZigZag();
+            y += reader.readZigZag();
+            points.add(new DrawDto.Point(x, y));
+        }
+
+        return new DrawDto(turnId, color, width, points);
+    }
+
+    public record DrawFrame(Long turnId, List<DrawDto> strokes) {
+    }
+
+    private static final class FrameWriter {
+        private byte[] buffer;
+        private int position;
+
+        private FrameWriter(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        private void writeByte(byte value) {
+            ensureCapacity(1);
+            buffer[position++] = value;
+        }
+
+        private void writeBytes(byte[] values) {
+            ensureCapacity(values.length);
+            System.arraycopy(values, 0, buffer, position, values.length);
+            position += values.length;
+        }
+
+        private void writeZigZag(int value) {
+            writeVarInt((value << 1) ^ (value >> 31));
+        }
+
+        private void writeVarInt(int value) {
+            ensureCapacity(5);
+            while ((value & ~0x7F) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        private void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (position + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+
+    private static final class FrameReader {
+        private final byte[] buffer;
+        private int position;
+
+        private FrameReader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        private byte readByte() {
+            if (position >= buffer.length) {
+                throw new IllegalArgumentException("그리기 프레임이 잘렸습니다.");
+            }
+            return buffer[position++];
+        }
+
+        private byte[] readBytes(int length) {
+            if (position + length > buffer.length) {
+                throw new IllegalArgumentException("그리기 프레임이 잘렸습니다.");
+            }
+            byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+            position += length;
+            return bytes;
+        }
+
+        private int readZigZag() {
+            int value = readVarInt();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private int readVarInt() {
+            int result = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                byte b = readByte();
+                result |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("잘못된 varint 값입니다.");
+        }
+
+        private long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("잘못된 varint 값입니다.");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.itcen.whiteboardserver.draw.codec;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 바이너리 그리기 프레임에서 색상 문자열 대신 사용하는 팔레트입니다.
+ * 팔레트에 없는 색상은 {@link #INLINE} 인덱스와 함께 문자열로 전송됩니다.
+ */
+public final class DrawPalette {
+    public static final int INLINE = 0xFF;
+
+    private static final List<String> COLORS = List.of(
+            "#000000", "#FFFFFF", "#FF0000", "#00FF00", "#0000FF", "#FFFF00",
+            "#FF00FF", "#00FFFF", "#FFA500", "#800080", "#A52A2A", "#808080",
+            "#C0C0C0", "#FFC0CB", "#008000", "#000080", "#800000", "#808000",
+            "#008080", "#FF5733"
+    );
+
+    private static final Map<String, Integer> INDEX = new HashMap<>();
+
+    static {
+        for (int i = 0; i < COLORS.size(); i++) {
+            INDEX.put(COLORS.get(i), i);
+        }
+    }
+
+    private DrawPalette() {
+        throw new AssertionError("유틸 클래스는 인스턴스화할 수 없습니다.");
+    }
+
+    public static int indexOf(String color) {
+        if (color == null) {
+            return INLINE;
+        }
+
+        Integer index = INDEX.get(color.toUpperCase(Locale.ROOT));
+        return index != null ? index : INLINE;
+    }
+
+    /**
+     * @throws IllegalArgumentException 팔레트에 없는 인덱스
+     */
+    public static String colorOf(int index) {
+        if (index < 0 || index >= COLORS.size()) {
+            throw new IllegalArgumentException("팔레트에 없는 색상 인덱스입니다: " + index);
+        }
+
+        return COLORS.get(index);
+    }
+}
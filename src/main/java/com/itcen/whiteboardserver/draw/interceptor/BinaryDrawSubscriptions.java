@@ -0,0 +1,69 @@
+package com.itcen.whiteboardserver.draw.interceptor;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게임별 바이너리 그리기 토픽 구독 수를 셉니다.
+ * 구독자가 없는 게임은 StrokeAggregator가 바이너리 프레임을 만들지도, 보내지도 않도록 하기 위한 것입니다.
+ * 구독은 이 노드의 세션 기준으로만 셉니다.
+ */
+@Component
+public class BinaryDrawSubscriptions {
+    // gameId -> 구독 수 (0이 되면 제거)
+    private final Map<Long, Integer> counts = new ConcurrentHashMap<>();
+    // 세션 ID -> (구독 ID -> gameId)
+    private final Map<String, Map<String, Long>> sessions = new ConcurrentHashMap<>();
+
+    public void subscribe(String sessionId, String subscriptionId, Long gameId) {
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+
+        Long previous = sessions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>()).put(subscriptionId, gameId);
+
+        counts.merge(gameId, 1, Integer::sum);
+        if (previous != null) {
+            decrement(previous);
+        }
+    }
+
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+
+        Map<String, Long> subscriptions = sessions.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+
+        Long gameId = subscriptions.remove(subscriptionId);
+        if (gameId != null) {
+            decrement(gameId);
+        }
+    }
+
+    public void disconnect(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+
+        Map<String, Long> subscriptions = sessions.remove(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+
+        subscriptions.values().forEach(this::decrement);
+    }
+
+    public boolean hasSubscribers(Long gameId) {
+        return counts.containsKey(gameId);
+    }
+
+    private void decrement(Long gameId) {
+        counts.computeIfPresent(gameId, (id, count) -> count > 1 ? count - 1 : null);
+    }
+}
@@ -0,0 +1,82 @@
+package com.itcen.whiteboardserver.draw.interceptor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 연결 단위로 그리기 데이터 인코딩을 협상합니다.
+ * CONNECT 프레임에 {@code draw-encoding: binary} 헤더를 보낸 클라이언트는
+ * {@code /topic/game/{gameId}/draw} 구독이 바이너리 토픽으로 바뀌고, 그 외 클라이언트는 기존 JSON을 그대로 받습니다.
+ * 바뀐 구독은 UNSUBSCRIBE/DISCONNECT까지 {@link BinaryDrawSubscriptions}에 기록합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DrawEncodingChannelInterceptor implements ChannelInterceptor {
+    public static final String ENCODING_HEADER = "draw-encoding";
+    public static final String BINARY = "binary";
+    public static final String BINARY_SUFFIX = "/binary";
+
+    private static final String ENCODING_ATTRIBUTE = "drawEncoding";
+    private static final Pattern DRAW_TOPIC = Pattern.compile("^/topic/game/(\\d+)/draw$");
+
+    private final BinaryDrawSubscriptions binaryDrawSubscriptions;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        if (accessor.getCommand() == StompCommand.UNSUBSCRIBE) {
+            binaryDrawSubscriptions.unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+            return message;
+        }
+
+        //연결이 비정상 종료되어도 DISCONNECT가 전달되므로 여기서 세션의 구독을 모두 정리
+        if (accessor.getCommand() == StompCommand.DISCONNECT) {
+            binaryDrawSubscriptions.disconnect(accessor.getSessionId());
+            return message;
+        }
+
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (sessionAttributes == null) {
+            return message;
+        }
+
+        if (accessor.getCommand() == StompCommand.CONNECT) {
+            String encoding = accessor.getFirstNativeHeader(ENCODING_HEADER);
+
+            if (BINARY.equalsIgnoreCase(encoding)) {
+                sessionAttributes.put(ENCODING_ATTRIBUTE, BINARY);
+                log.debug("바이너리 그리기 인코딩 협상 완료: 세션 ID = {}", accessor.getSessionId());
+            }
+        } else if (accessor.getCommand() == StompCommand.SUBSCRIBE
+                && BINARY.equals(sessionAttributes.get(ENCODING_ATTRIBUTE))
+                && accessor.getDestination() != null) {
+            Matcher matcher = DRAW_TOPIC.matcher(accessor.getDestination());
+
+            if (matcher.matches()) {
+                accessor.setDestination(accessor.getDestination() + BINARY_SUFFIX);
+                binaryDrawSubscriptions.subscribe(
+                        accessor.getSessionId(), accessor.getSubscriptionId(), Long.valueOf(matcher.group(1))
+                );
+            }
+        }
+
+        return message;
+    }
+}
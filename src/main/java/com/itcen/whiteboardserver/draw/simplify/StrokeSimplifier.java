@@ -0,0 +1,151 @@
+package com.itcen.whiteboardserver.draw.simplify;
+
+import com.itcen.whiteboardserver.common.executor.ScratchPool;
+import com.itcen.whiteboardserver.draw.dto.DrawDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 브로드캐스트 전에 Ramer–Douglas–Peucker 알고리즘으로 선의 점 개수를 줄입니다.
+ * 허용 오차(px) 안에서 렌더링에 영향이 없는 점을 제거하며, 양 끝 점은 항상 유지되므로 이어지는 선 병합에 영향을 주지 않습니다.
+ * 클라이언트는 선분을 점 2개씩 보내므로, StrokeAggregator가 tick 동안 이어 붙인 선에 flush 시점에 적용합니다.
+ * 계산은 풀에서 빌린 int 배열 위에서 수행하고, 남는 점만 {@link DrawDto.Point}로 만듭니다.
+ */
+@Component
+public class StrokeSimplifier {
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_IDLE_SCRATCH = 64;
+
+    private final double toleranceSquared;
+    private final boolean enabled;
+    private final ScratchPool<Scratch> scratchPool = new ScratchPool<>(Scratch::new, MAX_IDLE_SCRATCH);
+
+    public StrokeSimplifier(@Value("${draw.simplify.tolerance:0}") double tolerance) {
+        this.enabled = tolerance > 0;
+        this.toleranceSquared = tolerance * tolerance;
+    }
+
+    public DrawDto simplify(DrawDto drawDto) {
+        List<DrawDto.Point> points = drawDto.points();
+
+        if (!enabled || points == null || points.size() <= 2) {
+            return drawDto;
+        }
+
+        return new DrawDto(drawDto.turnId(), drawDto.color(), drawDto.width(), reduce(points));
+    }
+
+    private List<DrawDto.Point> reduce(List<DrawDto.Point> points) {
+        Scratch s = scratchPool.acquire();
+        try {
+            return reduce(points, s);
+        } finally {
+            scratchPool.release(s);
+        }
+    }
+
+    private List<DrawDto.Point> reduce(List<DrawDto.Point> points, Scratch s) {
+        int n = points.size();
+        s.ensureCapacity(n);
+
+        int[] xs = s.xs;
+        int[] ys = s.ys;
+        boolean[] keep = s.keep;
+        int[] stack = s.stack;
+
+        for (int i = 0; i < n; i++) {
+            DrawDto.Point point = points.get(i);
+            xs[i] = point.x();
+            ys[i] = point.y();
+            keep[i] = false;
+        }
+        keep[0] = true;
+        keep[n - 1] = true;
+
+        //재귀 대신 구간(start, end)을 스택에 넣어 처리
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = n - 1;
+        int kept = 2;
+
+        while (top > 0) {
+            int end = stack[--top];
+            int start = stack[--top];
+
+            int farthest = -1;
+            double maxDistance = toleranceSquared;
+            for (int i = start + 1; i < end; i++) {
+                double distance = distanceSquared(xs, ys, i, start, end);
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    farthest = i;
+                }
+            }
+
+            if (farthest >= 0) {
+                keep[farthest] = true;
+                kept++;
+                stack[top++] = start;
+                stack[top++] = farthest;
+                stack[top++] = farthest;
+                stack[top++] = end;
+            }
+        }
+
+        List<DrawDto.Point> result = new ArrayList<>(kept);
+        for (int i = 0; i < n; i++) {
+            if (keep[i]) {
+                result.add(points.get(i));
+            }
+        }
+
+        return result;
+    }
+
+    // 점 i와 선분(start, end) 사이 수직 거리의 제곱
+    private static double distanceSquared(int[] xs, int[] ys, int i, int start, int end) {
+        long dx = xs[end] - xs[start];
+        long dy = ys[end] - ys[start];
+        long px = xs[i] - xs[start];
+        long py = ys[i] - ys[start];
+
+        long lengthSquared = dx * dx + dy * dy;
+        if (lengthSquared == 0) {
+            return (double) (px * px + py * py);
+        }
+
+        double cross = (double) (dx * py - dy * px);
+        return cross * cross / lengthSquared;
+    }
+
+    /**
+     * @param pointsIn  단순화 전 점 개수
+     * @param pointsOut 전송한 점 개수
+     */
+    public record PointStats(long pointsIn, long pointsOut) {
+        public double savedRatio() {
+            return pointsIn == 0 ? 0 : 1 - (double) pointsOut / pointsIn;
+        }
+    }
+
+    private static class Scratch {
+        private int[] xs = new int[INITIAL_CAPACITY];
+        private int[] ys = new int[INITIAL_CAPACITY];
+        private boolean[] keep = new boolean[INITIAL_CAPACITY];
+        // 구간 하나당 2칸, 동시에 쌓이는 구간은 점 개수를 넘지 않음
+        private int[] stack = new int[INITIAL_CAPACITY * 2];
+
+        private void ensureCapacity(int n) {
+            if (xs.length < n) {
+                int capacity = Math.max(n, xs.length * 2);
+                xs = new int[capacity];
+                ys = new int[capacity];
+                keep = new boolean[capacity];
+                stack = new int[capacity * 2];
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.itcen.whiteboardserver.game.actor;
+
+import com.itcen.whiteboardserver.common.executor.VirtualThreads;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 게임 상태를 바꾸는 작업(정답 처리, 턴 종료, 다음 턴, 게임 종료)을 게임별 mailbox에 넣어 한 번에 하나씩 실행합니다.
+ * mailbox는 worker 스레드 풀에서 처리하되 한 게임의 mailbox는 동시에 하나의 worker에서만 실행되므로, 같은 게임의 작업은 동시에 실행되지 않고 줄을 섭니다.
+ * 채팅 스레드와 타이머 스레드가 같은 턴을 동시에 끝내려다 낙관적 lock 예외로 실패하던 경합이 대기열로 바뀝니다.
+ * 작업은 JPA 트랜잭션처럼 블로킹되므로 CPU 수가 아닌 worker-threads 수만큼 동시에 실행하고, virtual thread를 켜면 virtual thread에서 실행합니다.
+ *
+ * <p>이미 해당 게임의 작업 안에서 같은 게임으로 다시 요청하면 대기하지 않고 바로 실행합니다.
+ * 작업 안에서 다른 게임의 작업을 기다리면 worker가 모두 서로를 기다리며 교착될 수 있으므로 그렇게 사용하지 않습니다.</p>
+ */
+@Slf4j
+@Component
+public class GameActor {
+    // 한 번에 처리할 최대 작업 수, 남으면 다른 게임에게 worker를 넘김
+    private static final int DRAIN_BATCH = 32;
+    private static final ThreadLocal<Long> CURRENT_GAME = new ThreadLocal<>();
+
+    private final Executor workers;
+    private final Map<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    public GameActor(@Value("${game.actor.worker-threads:16}") int workerThreads,
+                     @Value("${virtual-threads.enabled:false}") boolean virtualThreads) {
+        if (VirtualThreads.isUsable(virtualThreads, "game-actor")) {
+            this.workers = VirtualThreads.newExecutor("game-actor-");
+            return;
+        }
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "game-actor-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 게임의 작업으로 넣고, 작업이 끝나면 결과로 완료되는 future를 반환합니다. 작업에서 발생한 예외로 future가 실패합니다.
+     * 이미 같은 게임의 작업 안이면 바로 실행합니다.
+     */
+    public <T> CompletableFuture<T> submit(Long gameId, Supplier<T> task) {
+        if (Objects.equals(CURRENT_GAME.get(), gameId)) {
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (Throwable e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        enqueue(gameId, () -> {
+            try {
+                result.complete(task.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * 게임의 작업으로 실행하고 끝날 때까지 기다려 결과를 반환합니다. 작업에서 발생한 예외는 그대로 다시 던집니다.
+     */
+    public <T> T call(Long gameId, Supplier<T> task) {
+        try {
+            return submit(gameId, task).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    public void run(Long gameId, Runnable task) {
+        call(gameId, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 게임의 작업으로 넣기만 하고 기다리지 않습니다. 타이머처럼 결과를 받을 곳이 없는 작업에 사용합니다.
+     */
+    public void execute(Long gameId, Runnable task) {
+        enqueue(gameId, () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("게임 작업 실패: gameId={}", gameId, e);
+            }
+        });
+    }
+
+    public int getMailboxCount() {
+        return mailboxes.size();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (workers instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private void enqueue(Long gameId, Runnable task) {
+        //작업 추가와 빈 mailbox 제거가 같은 key의 compute 안에서 일어나므로, 제거되는 mailbox에 작업이 들어가지 않음
+        Mailbox mailbox = mailboxes.compute(gameId, (id, current) -> {
+            Mailbox target = current != null ? current : new Mailbox(id);
+            target.tasks.add(task);
+            return target;
+        });
+
+        mailbox.schedule();
+    }
+
+    private final class Mailbox implements Runnable {
+        private final Long gameId;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        // worker에 넘겨졌거나 실행 중이면 true, 제거될 때까지 다시 false가 되지 않음
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Mailbox(Long gameId) {
+            this.gameId = gameId;
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                workers.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            CURRENT_GAME.set(gameId);
+            try {
+                Runnable task;
+                for (int i = 0; i < DRAIN_BATCH && (task = tasks.poll()) != null; i++) {
+                    task.run();
+                }
+            } finally {
+                CURRENT_GAME.remove();
+            }
+
+            //비어 있으면 제거, 아니면 다른 게임 뒤에 다시 줄을 섬
+            AtomicBoolean removed = new AtomicBoolean();
+            mailboxes.compute(gameId, (id, current) -> {
+                if (current == this && tasks.isEmpty()) {
+                    removed.set(true);
+                    return null;
+                }
+                return current;
+            });
+
+            if (!removed.get()) {
+                workers.execute(this);
+            }
+        }
+    }
+}
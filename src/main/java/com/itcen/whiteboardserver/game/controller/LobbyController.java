@@ -0,0 +1,27 @@
+package com.itcen.whiteboardserver.game.controller;
+
+import com.itcen.whiteboardserver.game.dto.response.LobbyPageResponse;
+import com.itcen.whiteboardserver.game.lobby.LobbyIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class LobbyController {
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final LobbyIndex lobbyIndex;
+
+    // REST API 엔드포인트 - 대기 중인 방 목록 (최신순, cursor 페이지네이션)
+    @GetMapping("/api/lobby/rooms")
+    public ResponseEntity<LobbyPageResponse> getRooms(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return ResponseEntity.ok(lobbyIndex.getPage(cursor, pageSize));
+    }
+}
@@ -0,0 +1,28 @@
+package com.itcen.whiteboardserver.game.controller;
+
+import com.itcen.whiteboardserver.game.match.QuickMatchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Controller;
+
+@Controller
+@RequiredArgsConstructor
+public class MatchController {
+
+    private final QuickMatchService quickMatchService;
+
+    // WebSocket 엔드포인트 - 빠른 매칭 대기열 등록
+    @MessageMapping("/match/enqueue")
+    public void enqueue(SimpMessageHeaderAccessor headerAccessor) {
+        String memberEmail = headerAccessor.getUser().getName();
+        quickMatchService.enqueue(memberEmail);
+    }
+
+    // WebSocket 엔드포인트 - 빠른 매칭 취소
+    @MessageMapping("/match/cancel")
+    public void cancel(SimpMessageHeaderAccessor headerAccessor) {
+        String memberEmail = headerAccessor.getUser().getName();
+        quickMatchService.cancel(memberEmail);
+    }
+}
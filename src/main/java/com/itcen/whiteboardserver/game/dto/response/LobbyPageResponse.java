@@ -0,0 +1,12 @@
+package com.itcen.whiteboardserver.game.dto.response;
+
+import java.util.List;
+
+/**
+ * @param nextCursor 다음 페이지 요청 시 cursor로 보낼 방 코드 (마지막 페이지면 null)
+ */
+public record LobbyPageResponse(
+        List<LobbyRoomResponse> rooms,
+        Long nextCursor
+) {
+}
@@ -0,0 +1,8 @@
+package com.itcen.whiteboardserver.game.dto.response;
+
+public record LobbyRoomResponse(
+        Long roomCode,
+        String hostName,
+        int participantCount
+) {
+}
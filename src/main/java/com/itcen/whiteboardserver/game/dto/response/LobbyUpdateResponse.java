@@ -0,0 +1,11 @@
+package com.itcen.whiteboardserver.game.dto.response;
+
+/**
+ * @param room REMOVED일 때는 null
+ */
+public record LobbyUpdateResponse(
+        LobbyUpdateType type,
+        Long roomCode,
+        LobbyRoomResponse room
+) {
+}
@@ -0,0 +1,10 @@
+package com.itcen.whiteboardserver.game.dto.response;
+
+/**
+ * @param roomCode MATCHED일 때 참여한 방 코드 (그 외에는 null)
+ */
+public record MatchResponse(
+        MatchResponseType type,
+        Long roomCode
+) {
+}
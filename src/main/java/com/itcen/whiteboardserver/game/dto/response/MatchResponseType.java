@@ -0,0 +1,5 @@
+package com.itcen.whiteboardserver.game.dto.response;
+
+public enum MatchResponseType {
+    QUEUED, CANCELLED, MATCHED
+}
@@ -21,7 +21,8 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class GameParticipation {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game_participation_seq")
+    @SequenceGenerator(name = "game_participation_seq", sequenceName = "game_participation_seq", allocationSize = 50)
     private Long id; // 게임 참여 결과 ID
 
     @ManyToOne(fetch = FetchType.LAZY)
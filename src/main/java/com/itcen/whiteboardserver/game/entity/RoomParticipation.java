@@ -21,7 +21,8 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class RoomParticipation {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_participation_seq")
+    @SequenceGenerator(name = "room_participation_seq", sequenceName = "room_participation_seq", allocationSize = 50)
     private Long id; // 방 참여 ID
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,113 @@
+package com.itcen.whiteboardserver.game.event;
+
+import com.itcen.whiteboardserver.game.dto.request.RoomInfoRequest;
+import com.itcen.whiteboardserver.game.dto.response.LobbyRoomResponse;
+import com.itcen.whiteboardserver.game.dto.response.LobbyUpdateResponse;
+import com.itcen.whiteboardserver.game.dto.response.RoomInfoResponse;
+import com.itcen.whiteboardserver.game.dto.response.RoomParticipantResponse;
+import com.itcen.whiteboardserver.game.entity.Room;
+import com.itcen.whiteboardserver.game.lobby.LobbyIndex;
+import com.itcen.whiteboardserver.game.repository.RoomRepository;
+import com.itcen.whiteboardserver.game.service.RoomService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 방 생성/참여/나가기/상태 변경 이벤트로 로비 목록을 한 건씩 갱신하고, 바뀐 내용만 /topic/lobby로 전송합니다.
+ * 로비 조회는 이 목록만 사용하므로 room 테이블은 서버 시작 시 한 번만 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LobbyEventListener {
+    private static final String LOBBY_TOPIC = "/topic/lobby";
+
+    private final LobbyIndex lobbyIndex;
+    private final RoomService roomService;
+    private final RoomRepository roomRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadWaitingRooms() {
+        List<LobbyRoomResponse> waitingRooms = roomRepository.findLobbyRoomsByStatus(Room.RoomStatus.WAITING);
+
+        for (LobbyRoomResponse waitingRoom : waitingRooms) {
+            lobbyIndex.put(waitingRoom);
+        }
+
+        log.info("로비 목록 초기화 완료: 대기 중인 방 수 = {}", waitingRooms.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleRoomStatusChangedEvent(RoomStatusChangedEvent event) {
+        Long roomCode = event.getRoomCode();
+
+        if (event.getStatus() != Room.RoomStatus.WAITING) {
+            send(lobbyIndex.remove(roomCode));
+            return;
+        }
+
+        toLobbyRoom(roomService.getRoomInfoByRoomCode(new RoomInfoRequest(roomCode)))
+                .ifPresent(lobbyRoom -> send(lobbyIndex.put(lobbyRoom)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleRoomParticipantChangedEvent(RoomParticipantChangedEvent event) {
+        updateRoom(event.getRoomCode());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleRoomHostChangedEvent(RoomHostChangedEvent event) {
+        updateRoom(event.getRoomCode());
+    }
+
+    private void updateRoom(Long roomCode) {
+        // 게임 중인 방은 로비에 없으므로 조회하지 않음
+        if (!lobbyIndex.contains(roomCode)) {
+            return;
+        }
+
+        RoomInfoResponse roomInfo = roomService.getRoomInfoByRoomCode(new RoomInfoRequest(roomCode));
+        Optional<LobbyRoomResponse> lobbyRoom = toLobbyRoom(roomInfo);
+
+        if (lobbyRoom.isEmpty()) {
+            send(lobbyIndex.remove(roomCode));
+            return;
+        }
+
+        send(lobbyIndex.update(lobbyRoom.get()));
+    }
+
+    // 참가자가 없는 방은 로비에 보여주지 않음
+    private Optional<LobbyRoomResponse> toLobbyRoom(RoomInfoResponse roomInfo) {
+        List<RoomParticipantResponse> participants = roomInfo.getParticipantList();
+
+        if (participants.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String hostName = participants.stream()
+                .filter(RoomParticipantResponse::isHost)
+                .map(RoomParticipantResponse::getMemberName)
+                .findFirst()
+                .orElse(null);
+
+        return Optional.of(new LobbyRoomResponse(roomInfo.getRoomCode(), hostName, participants.size()));
+    }
+
+    private void send(Optional<LobbyUpdateResponse> update) {
+        update.ifPresent(lobbyUpdate -> {
+            messagingTemplate.convertAndSend(LOBBY_TOPIC, lobbyUpdate);
+            log.debug("로비 변경 전송: type={}, roomCode={}", lobbyUpdate.type(), lobbyUpdate.roomCode());
+        });
+    }
+}
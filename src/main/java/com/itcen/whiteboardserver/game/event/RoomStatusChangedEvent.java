@@ -0,0 +1,12 @@
+package com.itcen.whiteboardserver.game.event;
+
+import com.itcen.whiteboardserver.game.entity.Room;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RoomStatusChangedEvent {
+    private Long roomCode;
+    private Room.RoomStatus status;
+}
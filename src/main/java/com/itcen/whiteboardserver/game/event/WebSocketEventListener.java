@@ -3,6 +3,7 @@ package com.itcen.whiteboardserver.game.event;
 import com.itcen.whiteboardserver.game.dto.request.RoomInfoRequest;
 import com.itcen.whiteboardserver.game.dto.response.RoomParticipantResponse;
 import com.itcen.whiteboardserver.game.dto.response.RoomInfoResponse;
+import com.itcen.whiteboardserver.game.match.QuickMatchService;
 import com.itcen.whiteboardserver.game.service.RoomService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,11 +22,12 @@ public class WebSocketEventListener {
 
     private final SimpMessagingTemplate messagingTemplate;
     private final RoomService roomService;
+    private final QuickMatchService quickMatchService;
 
     /**
      * WebSocket 연결 해제 이벤트를 처리합니다. 이 메서드는 세션 연결 해제 이벤트를 수신하고,
      * 세션 속성에서 사용자 ID를 가져와서, 사용자가 방을 나가는 로직을 처리합니다.
-     * 사용자 ID가 사용 가능한 경우, 해당 서비스 로직을 호출하여 방에서 사용자를 제거합니다.
+     * 사용자 ID가 사용 가능한 경우, 빠른 매칭 대기열과 방에서 사용자를 제거합니다.
      *
      * @param event 연결 해제에 관한 정보(메시지 헤더 포함)를 담고 있는 SessionDisconnectEvent
      */
@@ -40,6 +42,9 @@ public class WebSocketEventListener {
 
         log.info("연결 해제된 사용자 정보: memberEmail = {}", memberEmail);
 
+        // 빠른 매칭 대기 중이었다면 대기열에서 제거
+        quickMatchService.cancel(memberEmail);
+
         log.info("사용자({})가 방에서 나가는 처리 시작", memberEmail);
         // 사용자가 방에서 나가는 처리
         roomService.leaveRoom(memberEmail);
@@ -0,0 +1,7 @@
+package com.itcen.whiteboardserver.game.exception;
+
+public class QuickMatchException extends RuntimeException {
+    public QuickMatchException(String message) {
+        super(message);
+    }
+}
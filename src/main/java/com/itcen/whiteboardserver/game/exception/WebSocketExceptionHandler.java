@@ -130,4 +130,21 @@ public class WebSocketExceptionHandler {
                 new ErrorResponse("방 참여 오류", ex.getMessage())
         );
     }
+
+    @MessageExceptionHandler(QuickMatchException.class)
+    public void handleQuickMatchException(QuickMatchException ex, SimpMessageHeaderAccessor headerAccessor) {
+        Principal principal = headerAccessor.getUser();
+        if (principal == null) {
+            log.warn("Principal이 없는 상태에서 QuickMatchException 발생: {}", ex.getMessage());
+            return;
+        }
+
+        log.debug("QuickMatchException 발생: {}, 사용자: {}", ex.getMessage(), principal.getName());
+
+        messagingTemplate.convertAndSendToUser(
+                principal.getName(),
+                "/queue/errors",
+                new ErrorResponse("빠른 매칭 오류", ex.getMessage())
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.itcen.whiteboardserver.game.lobby;
+
+import com.itcen.whiteboardserver.game.dto.response.LobbyPageResponse;
+import com.itcen.whiteboardserver.game.dto.response.LobbyRoomResponse;
+import com.itcen.whiteboardserver.game.dto.response.LobbyUpdateResponse;
+import com.itcen.whiteboardserver.game.dto.response.LobbyUpdateType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 로비에 보여줄 대기 중(WAITING)인 방 목록입니다.
+ * 방 코드는 생성 순서대로 증가하므로 방 코드 내림차순(최신순) skip-list로 보관하고, 방 생성/참여/나가기/상태 변경 때마다 한 건씩 갱신합니다.
+ * 변경 메서드는 실제로 바뀐 내용이 있을 때만 로비 구독자에게 보낼 변경분을 반환합니다.
+ */
+@Component
+public class LobbyIndex {
+    private final ConcurrentSkipListMap<Long, LobbyRoomResponse> rooms = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+
+    /**
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     */
+    public LobbyPageResponse getPage(Long cursor, int size) {
+        Collection<LobbyRoomResponse> view = cursor == null ? rooms.values() : rooms.tailMap(cursor, false).values();
+        List<LobbyRoomResponse> page = new ArrayList<>(size);
+        boolean hasNext = false;
+
+        for (LobbyRoomResponse room : view) {
+            if (page.size() == size) {
+                hasNext = true;
+                break;
+            }
+            page.add(room);
+        }
+
+        Long nextCursor = hasNext ? page.get(page.size() - 1).roomCode() : null;
+        return new LobbyPageResponse(page, nextCursor);
+    }
+
+    public Optional<LobbyUpdateResponse> put(LobbyRoomResponse room) {
+        LobbyRoomResponse previous = rooms.put(room.roomCode(), room);
+
+        if (Objects.equals(previous, room)) {
+            return Optional.empty();
+        }
+
+        LobbyUpdateType type = previous == null ? LobbyUpdateType.ADDED : LobbyUpdateType.UPDATED;
+        return Optional.of(new LobbyUpdateResponse(type, room.roomCode(), room));
+    }
+
+    /**
+     * 로비에 있는 방만 갱신합니다. (게임 중인 방의 참가자 변경은 무시)
+     */
+    public Optional<LobbyUpdateResponse> update(LobbyRoomResponse room) {
+        LobbyRoomResponse previous = rooms.get(room.roomCode());
+
+        if (previous == null || previous.equals(room) || !rooms.replace(room.roomCode(), previous, room)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new LobbyUpdateResponse(LobbyUpdateType.UPDATED, room.roomCode(), room));
+    }
+
+    public Optional<LobbyUpdateResponse> remove(Long roomCode) {
+        if (rooms.remove(roomCode) == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new LobbyUpdateResponse(LobbyUpdateType.REMOVED, roomCode, null));
+    }
+
+    public boolean contains(Long roomCode) {
+        return rooms.containsKey(roomCode);
+    }
+
+    public int size() {
+        return rooms.size();
+    }
+}
@@ -0,0 +1,68 @@
+package com.itcen.whiteboardserver.game.match;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 매칭까지 걸린 시간의 분포입니다. 밀리초 단위로 2의 거듭제곱 구간(0, 1, 2~3, 4~7, ...)에 나누어 셉니다.
+ * 백분위 값은 해당 구간의 상한이므로 최대 2배까지 크게 보고될 수 있습니다.
+ */
+public class MatchHistogram {
+    private static final int BUCKET_COUNT = 32;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder count = new LongAdder();
+
+    public MatchHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(Math.max(nanos, 0));
+        int bucket = Math.min(64 - Long.numberOfLeadingZeros(millis), BUCKET_COUNT - 1);
+
+        buckets[bucket].increment();
+        count.increment();
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @param percentile 0 ~ 100
+     * @return 밀리초 (기록이 없으면 0)
+     */
+    public long getPercentileMillis(double percentile) {
+        long total = count.sum();
+
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets[i].sum();
+            if (seen >= target) {
+                return upperBoundMillis(i);
+            }
+        }
+
+        return upperBoundMillis(BUCKET_COUNT - 1);
+    }
+
+    private long upperBoundMillis(int bucket) {
+        return bucket == 0 ? 0 : (1L << bucket) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + getCount()
+                + ", p50=" + getPercentileMillis(50) + "ms"
+                + ", p95=" + getPercentileMillis(95) + "ms"
+                + ", p99=" + getPercentileMillis(99) + "ms";
+    }
+}
@@ -0,0 +1,10 @@
+package com.itcen.whiteboardserver.game.match;
+
+/**
+ * @param enqueuedAtNanos 매칭 대기열에 들어온 시각 (System.nanoTime 기준)
+ */
+public record MatchTicket(
+        String memberEmail,
+        long enqueuedAtNanos
+) {
+}
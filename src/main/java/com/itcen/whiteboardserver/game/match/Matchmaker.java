@@ -0,0 +1,135 @@
+package com.itcen.whiteboardserver.game.match;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 빠른 매칭 대기열입니다.
+ * 대기열 등록/취소는 lock-free 큐와 맵만 사용하고, 매칭은 tick 스레드 하나가 일정 주기로 모아서 처리합니다.
+ * 대기 인원이 최대 인원 이상이면 바로 꽉 찬 방으로 묶고, 최소 인원 이상이지만 모자라면
+ * 가장 오래 기다린 사람이 fillWait 이상 기다렸을 때 남은 인원으로 방을 만듭니다.
+ */
+public class Matchmaker {
+    private final int minPlayers;
+    private final int maxPlayers;
+    private final long fillWaitNanos;
+    private final LongSupplier nanoClock;
+    private final Consumer<List<MatchTicket>> onMatch;
+
+    private final Queue<MatchTicket> incoming = new ConcurrentLinkedQueue<>();
+    // 대기 중인 회원 email -> 현재 유효한 ticket (취소되면 제거)
+    private final Map<String, MatchTicket> queued = new ConcurrentHashMap<>();
+    // tick 스레드에서만 접근
+    private final ArrayDeque<MatchTicket> waiting = new ArrayDeque<>();
+    private final MatchHistogram timeToMatch = new MatchHistogram();
+
+    public Matchmaker(int minPlayers, int maxPlayers, long fillWaitNanos, LongSupplier nanoClock,
+                      Consumer<List<MatchTicket>> onMatch) {
+        this.minPlayers = minPlayers;
+        this.maxPlayers = maxPlayers;
+        this.fillWaitNanos = fillWaitNanos;
+        this.nanoClock = nanoClock;
+        this.onMatch = onMatch;
+    }
+
+    /**
+     * @return 이미 대기 중이면 false
+     */
+    public boolean enqueue(String memberEmail) {
+        MatchTicket ticket = new MatchTicket(memberEmail, nanoClock.getAsLong());
+
+        if (queued.putIfAbsent(memberEmail, ticket) != null) {
+            return false;
+        }
+
+        incoming.offer(ticket);
+        return true;
+    }
+
+    /**
+     * @return 대기 중이 아니었거나 이미 매칭되었으면 false
+     */
+    public boolean cancel(String memberEmail) {
+        return queued.remove(memberEmail) != null;
+    }
+
+    /**
+     * 새로 들어온 대기자를 모아 가능한 만큼 방으로 묶습니다. tick 스레드 하나에서만 호출해야 합니다.
+     *
+     * @return 이번 tick에 매칭된 방 수
+     */
+    public int tick() {
+        MatchTicket ticket;
+        while ((ticket = incoming.poll()) != null) {
+            waiting.addLast(ticket);
+        }
+
+        waiting.removeIf(this::isCancelled);
+
+        int matchedGroups = 0;
+        long now = nanoClock.getAsLong();
+        while (waiting.size() >= minPlayers) {
+            if (waiting.size() < maxPlayers && now - waiting.peekFirst().enqueuedAtNanos() < fillWaitNanos) {
+                break;
+            }
+
+            List<MatchTicket> group = claim(Math.min(maxPlayers, waiting.size()));
+            if (group.size() < minPlayers) {
+                //정리 이후에 취소된 사람이 있어 인원이 모자라면 다음 tick에 다시 시도
+                giveBack(group);
+                break;
+            }
+
+            for (MatchTicket matched : group) {
+                timeToMatch.record(now - matched.enqueuedAtNanos());
+            }
+
+            onMatch.accept(group);
+            matchedGroups++;
+        }
+
+        return matchedGroups;
+    }
+
+    public int getWaitingCount() {
+        return queued.size();
+    }
+
+    public MatchHistogram getTimeToMatch() {
+        return timeToMatch;
+    }
+
+    private boolean isCancelled(MatchTicket ticket) {
+        return queued.get(ticket.memberEmail()) != ticket;
+    }
+
+    // 대기열 앞에서 size명을 꺼내며, 그 사이 취소된 ticket은 버림
+    private List<MatchTicket> claim(int size) {
+        List<MatchTicket> group = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            MatchTicket ticket = waiting.pollFirst();
+            if (queued.remove(ticket.memberEmail(), ticket)) {
+                group.add(ticket);
+            }
+        }
+
+        return group;
+    }
+
+    private void giveBack(List<MatchTicket> group) {
+        for (int i = group.size() - 1; i >= 0; i--) {
+            MatchTicket ticket = group.get(i);
+            if (queued.putIfAbsent(ticket.memberEmail(), ticket) == null) {
+                waiting.addFirst(ticket);
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.itcen.whiteboardserver.game.match;
+
+import com.itcen.whiteboardserver.game.constant.GameConstants;
+import com.itcen.whiteboardserver.game.dto.request.RoomJoinRequest;
+import com.itcen.whiteboardserver.game.dto.response.MatchResponse;
+import com.itcen.whiteboardserver.game.dto.response.MatchResponseType;
+import com.itcen.whiteboardserver.game.dto.response.RoomInfoResponse;
+import com.itcen.whiteboardserver.game.exception.QuickMatchException;
+import com.itcen.whiteboardserver.game.service.RoomService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 빠른 매칭을 처리합니다.
+ * tick마다 Matchmaker가 묶은 참가자들로 첫 번째 참가자를 방장으로 방을 만들고, 나머지는 방 참여와 같은 방식으로 참여시킵니다.
+ * 방 생성/참여는 DB 작업이므로 tick 스레드가 아닌 작업 스레드에서 처리합니다.
+ */
+@Slf4j
+@Service
+public class QuickMatchService {
+    private static final String MATCH_QUEUE = "/queue/match";
+    private static final long HISTOGRAM_LOG_INTERVAL_SECONDS = 60;
+
+    private final RoomService roomService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final Matchmaker matchmaker;
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "quick-match-tick");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService workers;
+
+    public QuickMatchService(
+            RoomService roomService,
+            SimpMessagingTemplate messagingTemplate,
+            @Value("${match.tick-ms:200}") long tickMs,
+            @Value("${match.fill-wait-ms:3000}") long fillWaitMs,
+            @Value("${match.worker-threads:4}") int workerThreads
+    ) {
+        this.roomService = roomService;
+        this.messagingTemplate = messagingTemplate;
+        this.workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "quick-match-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.matchmaker = new Matchmaker(
+                GameConstants.MIN_PARTICIPANTS,
+                GameConstants.MAX_PARTICIPANTS,
+                TimeUnit.MILLISECONDS.toNanos(fillWaitMs),
+                System::nanoTime,
+                group -> workers.execute(() -> createRoom(group))
+        );
+
+        ticker.scheduleWithFixedDelay(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+        ticker.scheduleAtFixedRate(this::logTimeToMatch, HISTOGRAM_LOG_INTERVAL_SECONDS, HISTOGRAM_LOG_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public void enqueue(String memberEmail) {
+        if (roomService.isInRoom(memberEmail)) {
+            throw new QuickMatchException("이미 참여 중인 방이 있습니다.");
+        }
+
+        if (!matchmaker.enqueue(memberEmail)) {
+            throw new QuickMatchException("이미 빠른 매칭 대기 중입니다.");
+        }
+
+        send(memberEmail, new MatchResponse(MatchResponseType.QUEUED, null));
+    }
+
+    public void cancel(String memberEmail) {
+        if (matchmaker.cancel(memberEmail)) {
+            send(memberEmail, new MatchResponse(MatchResponseType.CANCELLED, null));
+        }
+    }
+
+    public MatchHistogram getTimeToMatch() {
+        return matchmaker.getTimeToMatch();
+    }
+
+    private void tick() {
+        try {
+            matchmaker.tick();
+        } catch (Exception e) {
+            log.error("빠른 매칭 처리 실패", e);
+        }
+    }
+
+    private void createRoom(List<MatchTicket> matched) {
+        List<MatchTicket> group = excludeMembersInRoom(matched);
+
+        if (group.size() < GameConstants.MIN_PARTICIPANTS) {
+            requeue(group);
+            return;
+        }
+
+        String hostEmail = group.get(0).memberEmail();
+        RoomInfoResponse room;
+
+        try {
+            room = roomService.createRoom(hostEmail);
+        } catch (Exception e) {
+            log.error("빠른 매칭 방 생성 실패: hostEmail={}", hostEmail, e);
+            requeue(group);
+            return;
+        }
+
+        Long roomCode = room.getRoomCode();
+        send(hostEmail, new MatchResponse(MatchResponseType.MATCHED, roomCode));
+
+        for (MatchTicket ticket : group.subList(1, group.size())) {
+            try {
+                roomService.joinRoom(new RoomJoinRequest(roomCode), ticket.memberEmail());
+                send(ticket.memberEmail(), new MatchResponse(MatchResponseType.MATCHED, roomCode));
+            } catch (Exception e) {
+                log.warn("빠른 매칭 방 참여 실패: roomCode={}, memberEmail={}", roomCode, ticket.memberEmail(), e);
+                requeue(List.of(ticket));
+            }
+        }
+
+        log.info("빠른 매칭 완료: roomCode={}, 참가자 수={}", roomCode, group.size());
+    }
+
+    // 대기하는 동안 다른 방에 들어간 참가자는 매칭에서 빼고 취소를 알림
+    private List<MatchTicket> excludeMembersInRoom(List<MatchTicket> group) {
+        List<MatchTicket> available = new ArrayList<>(group.size());
+
+        for (MatchTicket ticket : group) {
+            boolean inRoom;
+            try {
+                inRoom = roomService.isInRoom(ticket.memberEmail());
+            } catch (Exception e) {
+                log.warn("빠른 매칭 참여 여부 확인 실패: memberEmail={}", ticket.memberEmail(), e);
+                inRoom = true;
+            }
+
+            if (inRoom) {
+                send(ticket.memberEmail(), new MatchResponse(MatchResponseType.CANCELLED, null));
+            } else {
+                available.add(ticket);
+            }
+        }
+
+        return available;
+    }
+
+    // 방을 만들거나 참여하지 못한 참가자는 다시 대기열로 (대기 시간은 새로 측정)
+    private void requeue(List<MatchTicket> tickets) {
+        for (MatchTicket ticket : tickets) {
+            matchmaker.enqueue(ticket.memberEmail());
+        }
+    }
+
+    private void send(String memberEmail, MatchResponse response) {
+        messagingTemplate.convertAndSendToUser(memberEmail, MATCH_QUEUE, response);
+    }
+
+    private void logTimeToMatch() {
+        log.info("빠른 매칭 대기 시간: 대기 인원={}, {}", matchmaker.getWaitingCount(), matchmaker.getTimeToMatch());
+    }
+
+    @PreDestroy
+    void stop() {
+        ticker.shutdownNow();
+        workers.shutdown();
+    }
+}
@@ -1,7 +1,10 @@
 package com.itcen.whiteboardserver.game.repository;
 
+import com.itcen.whiteboardserver.game.dto.response.RoomParticipantResponse;
 import com.itcen.whiteboardserver.game.entity.RoomParticipation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,4 +17,25 @@ public interface RoomParticipationRepository extends JpaRepository<RoomParticipa
     Optional<RoomParticipation> findByRoomIdAndMemberId(Long roomId, Long memberId);
 
     List<RoomParticipation> findByMemberId(Long memberId);
+
+    boolean existsByMemberEmail(String memberEmail);
+
+    @Query("select rp.member.id from RoomParticipation rp where rp.room.id = :roomId")
+    List<Long> findMemberIdsByRoomId(@Param("roomId") Long roomId);
+
+    // 방 정보 응답용 참가자 목록을 회원/방장 지연 로딩 없이 한 번의 쿼리로 조회
+    @Query("""
+            select new com.itcen.whiteboardserver.game.dto.response.RoomParticipantResponse(
+                m.id,
+                m.nickname,
+                case when m.id = r.host.id then true else false end,
+                m.profileColor
+            )
+            from RoomParticipation rp
+            join rp.member m
+            join rp.room r
+            where r.id = :roomId
+            order by rp.id
+            """)
+    List<RoomParticipantResponse> findParticipantResponsesByRoomId(@Param("roomId") Long roomId);
 }
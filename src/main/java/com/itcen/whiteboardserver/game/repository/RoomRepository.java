@@ -1,13 +1,32 @@
 package com.itcen.whiteboardserver.game.repository;
 
+import com.itcen.whiteboardserver.game.dto.response.LobbyRoomResponse;
 import com.itcen.whiteboardserver.game.entity.Game;
 import com.itcen.whiteboardserver.game.entity.Room;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RoomRepository extends JpaRepository<Room, Long> {
     Optional<Room> findByCurrentGame(Game game);
+
+    // 서버 시작 시 로비 목록을 채우기 위한 조회
+    @Query("""
+            select new com.itcen.whiteboardserver.game.dto.response.LobbyRoomResponse(
+                r.id,
+                h.nickname,
+                cast(count(rp.id) as Integer)
+            )
+            from Room r
+            join r.host h
+            join RoomParticipation rp on rp.room = r
+            where r.status = :status
+            group by r.id, h.nickname
+            """)
+    List<LobbyRoomResponse> findLobbyRoomsByStatus(@Param("status") Room.RoomStatus status);
 }
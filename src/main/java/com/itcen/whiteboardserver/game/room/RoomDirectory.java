@@ -0,0 +1,82 @@
+package com.itcen.whiteboardserver.game.room;
+
+import com.itcen.whiteboardserver.game.constant.GameConstants;
+import com.itcen.whiteboardserver.game.repository.RoomParticipationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방별 참가자 좌석을 메모리에 보관합니다.
+ * 방 참여 시 중복 참여와 최대 인원을 DB 조회 없이 원자적으로 판단하고, 참여 기록 저장은 RoomService가 담당합니다.
+ * 메모리에 없는 방(서버 재시작 등)은 처음 접근할 때 DB의 참가자로 채웁니다.
+ * 좌석은 이 노드의 메모리에만 있으므로, 여러 노드로 띄울 때는 같은 방의 요청이 항상 같은 노드로 가도록(sticky) 라우팅해야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomDirectory {
+    private final RoomParticipationRepository participationRepository;
+    private final Map<Long, RoomSeats> rooms = new ConcurrentHashMap<>();
+
+    public enum JoinResult {
+        ADMITTED, ALREADY_JOINED, FULL, CLOSED
+    }
+
+    /**
+     * 새로 만든 방을 방장만 앉은 상태로 등록합니다.
+     * 커밋 직후 등록 전에 들어온 참여 요청이 DB에서 먼저 좌석을 채웠으면 그 좌석을 그대로 둡니다.
+     */
+    public void open(Long roomId, Long hostId) {
+        rooms.computeIfAbsent(roomId, id -> {
+            RoomSeats seats = new RoomSeats(GameConstants.MAX_PARTICIPANTS);
+            seats.admit(hostId);
+            return seats;
+        });
+    }
+
+    public JoinResult join(Long roomId, Long memberId) {
+        while (true) {
+            RoomSeats seats = rooms.computeIfAbsent(roomId, this::load);
+            JoinResult result = seats.admit(memberId);
+
+            if (result != JoinResult.CLOSED) {
+                return result;
+            }
+
+            //마지막 참가자가 나가며 닫힌 좌석이면 새 좌석으로 다시 시도
+            rooms.remove(roomId, seats);
+        }
+    }
+
+    public void leave(Long roomId, Long memberId) {
+        RoomSeats seats = rooms.get(roomId);
+
+        if (seats != null && seats.release(memberId)) {
+            rooms.remove(roomId, seats);
+        }
+    }
+
+    public int getSeatCount(Long roomId) {
+        RoomSeats seats = rooms.get(roomId);
+
+        return seats == null ? 0 : seats.getSeatCount();
+    }
+
+    public int getRoomCount() {
+        return rooms.size();
+    }
+
+    private RoomSeats load(Long roomId) {
+        RoomSeats seats = new RoomSeats(GameConstants.MAX_PARTICIPANTS);
+        List<Long> memberIds = participationRepository.findMemberIdsByRoomId(roomId);
+
+        for (Long memberId : memberIds) {
+            seats.admit(memberId);
+        }
+
+        return seats;
+    }
+}
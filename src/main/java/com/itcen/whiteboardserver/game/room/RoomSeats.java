@@ -0,0 +1,55 @@
+package com.itcen.whiteboardserver.game.room;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 한 방의 좌석 상태입니다. 참가자 수는 CAS로만 바꾸므로 동시에 참여해도 최대 인원을 넘지 않습니다.
+ * 마지막 참가자가 나가면 CLOSED로 바뀌며, 닫힌 좌석에는 더 이상 참여할 수 없습니다(디렉터리가 새로 만듦).
+ */
+class RoomSeats {
+    static final int CLOSED = -1;
+
+    private final int capacity;
+    private final AtomicInteger seatCount = new AtomicInteger();
+    private final Set<Long> memberIds = ConcurrentHashMap.newKeySet();
+
+    RoomSeats(int capacity) {
+        this.capacity = capacity;
+    }
+
+    RoomDirectory.JoinResult admit(Long memberId) {
+        if (!memberIds.add(memberId)) {
+            return RoomDirectory.JoinResult.ALREADY_JOINED;
+        }
+
+        while (true) {
+            int count = seatCount.get();
+
+            if (count == CLOSED || count >= capacity) {
+                memberIds.remove(memberId);
+                return count == CLOSED ? RoomDirectory.JoinResult.CLOSED : RoomDirectory.JoinResult.FULL;
+            }
+
+            if (seatCount.compareAndSet(count, count + 1)) {
+                return RoomDirectory.JoinResult.ADMITTED;
+            }
+        }
+    }
+
+    /**
+     * @return 마지막 참가자가 나가 좌석이 닫혔으면 true
+     */
+    boolean release(Long memberId) {
+        if (!memberIds.remove(memberId)) {
+            return false;
+        }
+
+        return seatCount.decrementAndGet() == 0 && seatCount.compareAndSet(0, CLOSED);
+    }
+
+    int getSeatCount() {
+        return Math.max(seatCount.get(), 0);
+    }
+}
@@ -0,0 +1,83 @@
+package com.itcen.whiteboardserver.game.score;
+
+import com.itcen.whiteboardserver.turn.dto.response.data.MemberScore;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 게임별 참가자 점수를 메모리에 누적합니다.
+ * 턴 종료 시 점수 계산과 브로드캐스트는 이 점수판으로 처리하고, DB에는 {@link ScoreWriter}가 한 번에 반영합니다.
+ * 점수 변경은 게임 mailbox 안에서만 일어나며, 조회는 복사본을 반환합니다.
+ */
+@Component
+public class GameScoreboard {
+    private final Map<Long, Map<Long, Integer>> scoreboards = new ConcurrentHashMap<>();
+
+    public void open(Long gameId, List<Long> memberIds) {
+        Map<Long, Integer> scores = new LinkedHashMap<>();
+        for (Long memberId : memberIds) {
+            scores.put(memberId, 0);
+        }
+
+        scoreboards.put(gameId, scores);
+    }
+
+    /**
+     * 점수판이 없으면(서버 재시작 등) loader로 DB의 점수를 읽어 채웁니다.
+     */
+    public void openIfAbsent(Long gameId, Supplier<List<MemberScore>> loader) {
+        scoreboards.computeIfAbsent(gameId, id -> {
+            Map<Long, Integer> scores = new LinkedHashMap<>();
+            for (MemberScore memberScore : loader.get()) {
+                scores.put(memberScore.memberId(), memberScore.score());
+            }
+            return scores;
+        });
+    }
+
+    public void add(Long gameId, Long memberId, int score) {
+        Map<Long, Integer> scores = getScores(gameId);
+
+        synchronized (scores) {
+            scores.merge(memberId, score, Integer::sum);
+        }
+    }
+
+    public List<MemberScore> getMemberScores(Long gameId) {
+        Map<Long, Integer> scores = getScores(gameId);
+
+        synchronized (scores) {
+            List<MemberScore> memberScores = new ArrayList<>(scores.size());
+            scores.forEach((memberId, score) -> memberScores.add(new MemberScore(memberId, score)));
+            return memberScores;
+        }
+    }
+
+    public int getParticipantCount(Long gameId) {
+        Map<Long, Integer> scores = getScores(gameId);
+
+        synchronized (scores) {
+            return scores.size();
+        }
+    }
+
+    public void close(Long gameId) {
+        scoreboards.remove(gameId);
+    }
+
+    private Map<Long, Integer> getScores(Long gameId) {
+        Map<Long, Integer> scores = scoreboards.get(gameId);
+
+        if (scores == null) {
+            throw new RuntimeException("현재 게임의 점수판이 존재하지 않습니다.");
+        }
+
+        return scores;
+    }
+}
@@ -0,0 +1,86 @@
+package com.itcen.whiteboardserver.game.score;
+
+import com.itcen.whiteboardserver.turn.dto.response.data.MemberScore;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 점수판의 점수를 game_participation에 write-behind로 반영합니다.
+ * 턴 종료 트랜잭션은 기다리지 않고, 단일 스레드에서 게임 참가자 점수를 JDBC batch UPDATE 한 번으로 저장합니다.
+ * 누적값이 아닌 현재 점수를 그대로 쓰므로 같은 점수를 다시 써도 결과가 같습니다.
+ * 게임 종료처럼 저장이 끝난 뒤에 진행해야 하는 곳에서는 flush로 그 게임의 마지막 저장을 기다립니다.
+ */
+@Slf4j
+@Component
+public class ScoreWriter {
+    private static final String UPDATE_SCORE_SQL =
+            "UPDATE game_participation SET score = ? WHERE game_id = ? AND member_id = ?";
+    private static final long FLUSH_TIMEOUT_SECONDS = 5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "score-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    //단일 스레드에서 순서대로 저장하므로 게임의 마지막 저장이 끝나면 그 전의 저장도 모두 끝난 상태
+    private final Map<Long, Future<?>> lastWrites = new ConcurrentHashMap<>();
+
+    public ScoreWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void write(Long gameId, List<MemberScore> memberScores) {
+        lastWrites.compute(gameId, (id, previous) -> writer.submit(() -> {
+            try {
+                jdbcTemplate.batchUpdate(UPDATE_SCORE_SQL, memberScores, memberScores.size(), (statement, memberScore) -> {
+                    statement.setInt(1, memberScore.score());
+                    statement.setLong(2, gameId);
+                    statement.setLong(3, memberScore.memberId());
+                });
+            } catch (Exception e) {
+                log.error("게임 점수 저장 실패: gameId={}, scores={}", gameId, memberScores, e);
+            }
+        }));
+    }
+
+    /**
+     * 게임에 대해 지금까지 요청된 점수 저장이 끝날 때까지 기다립니다.
+     * 게임을 끝낼 때 호출하며, 기다린 뒤에는 게임의 대기 기록을 지웁니다.
+     */
+    public void flush(Long gameId) {
+        Future<?> lastWrite = lastWrites.remove(gameId);
+
+        if (lastWrite == null) {
+            return;
+        }
+
+        try {
+            lastWrite.get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("게임 점수 저장 대기 중 인터럽트: gameId={}", gameId);
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("게임 점수 저장 대기 실패: gameId={}", gameId, e);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        //종료 전에 남은 점수를 저장
+        writer.shutdown();
+        writer.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
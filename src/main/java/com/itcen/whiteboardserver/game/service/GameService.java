@@ -1,5 +1,6 @@
 package com.itcen.whiteboardserver.game.service;
 
+import com.itcen.whiteboardserver.common.transaction.AfterCommit;
 import com.itcen.whiteboardserver.game.constant.GameConstants;
 import com.itcen.whiteboardserver.game.dto.request.GameStartRequest;
 import com.itcen.whiteboardserver.game.dto.response.GameParticipantResponse;
@@ -8,12 +9,14 @@ import com.itcen.whiteboardserver.game.entity.Game;
 import com.itcen.whiteboardserver.game.entity.GameParticipation;
 import com.itcen.whiteboardserver.game.entity.Room;
 import com.itcen.whiteboardserver.game.entity.RoomParticipation;
+import com.itcen.whiteboardserver.game.event.RoomStatusChangedEvent;
 import com.itcen.whiteboardserver.game.exception.*;
 import com.itcen.whiteboardserver.game.mapper.GameMapper;
 import com.itcen.whiteboardserver.game.repository.GameParticipationRepository;
 import com.itcen.whiteboardserver.game.repository.GameRepository;
 import com.itcen.whiteboardserver.game.repository.RoomParticipationRepository;
 import com.itcen.whiteboardserver.game.repository.RoomRepository;
+import com.itcen.whiteboardserver.game.score.GameScoreboard;
 import com.itcen.whiteboardserver.game.session.GameSession;
 import com.itcen.whiteboardserver.game.session.state.GameState;
 import com.itcen.whiteboardserver.member.entity.Member;
@@ -22,9 +25,13 @@ import com.itcen.whiteboardserver.quiz.QuizService;
 import com.itcen.whiteboardserver.turn.service.TurnService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -44,6 +51,9 @@ public class GameService {
     private final GameSession gameSession;
     private final QuizService quizService;
     private final TurnService turnService;
+    private final GameScoreboard gameScoreboard;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final PlatformTransactionManager transactionManager;
 
 
     /**
@@ -105,34 +115,58 @@ public class GameService {
         room.updateStatus(Room.RoomStatus.PLAYING);
         room.updateCurrentGame(savedGame);
         roomRepository.save(room);
+        applicationEventPublisher.publishEvent(new RoomStatusChangedEvent(roomId, Room.RoomStatus.PLAYING));
         log.debug("방 상태 업데이트 완료: roomId={}, status={}", room.getId(), room.getStatus());
 
-        // 게임 참가자 등록
+        // 게임 참가자 등록 (JDBC batch insert 한 번으로 저장)
+        List<GameParticipation> gameParticipations = new ArrayList<>();
         for (RoomParticipation participant : participants) {
-            Member m = participant.getMember();
-            GameParticipation gameParticipation = new GameParticipation(
+            gameParticipations.add(new GameParticipation(
                     null,
                     savedGame,
-                    m,
+                    participant.getMember(),
                     0 // 초기 점수는 0
-            );
-            gameParticipationRepository.save(gameParticipation);
-            log.debug("게임 참가자 등록 완료: gameId={}, memberId={}", savedGame.getId(), member.getId());
+            ));
         }
+        gameParticipationRepository.saveAll(gameParticipations);
+        log.debug("게임 참가자 등록 완료: gameId={}, 참가자 수={}", savedGame.getId(), gameParticipations.size());
 
         //게임 초기 정보에 추가할 참가자 정보 얻어오기
         List<GameParticipantResponse> gameParticipantResponses = getInitialGameParticipants(participants);
 
-        //게임 세션에 저장할 게임 정보 추가
-        createGameState(gameParticipantResponses, game);
+        //게임 세션에 저장할 게임 정보 준비
+        Long gameId = savedGame.getId();
+        List<Long> participantIds = getParticipantIds(gameParticipantResponses);
+        GameState gameState = GameState.createGameState(participantIds, quizService.getQuizWords(participantIds.size()));
+        GameStartedResponse response = new GameStartedResponse(gameId, roomId, gameParticipantResponses);
 
-        // 게임 시작 알림
-        GameStartedResponse response = new GameStartedResponse(savedGame.getId(), roomId, gameParticipantResponses);
-        messagingTemplate.convertAndSend("/topic/room/" + roomId, response);
-        log.info("게임 시작 성공: roomId={}, gameId={}, 참가자 수={}", roomId, savedGame.getId(), participantCount);
+        //롤백되면 메모리에 게임 세션과 점수판이 남지 않도록 커밋된 뒤에 등록하고 첫 턴을 시작
+        AfterCommit.run(() -> {
+            gameSession.createSession(gameId, gameState);
+            gameScoreboard.open(gameId, participantIds);
 
-        //턴 시작
-        turnService.startTurn(game.getId());
+            // 게임 시작 알림
+            messagingTemplate.convertAndSend("/topic/room/" + roomId, response);
+            log.info("게임 시작 성공: roomId={}, gameId={}, 참가자 수={}", roomId, gameId, participantCount);
+
+            startFirstTurn(gameId);
+        });
+    }
+
+    private void startFirstTurn(Long gameId) {
+        //커밋이 끝난 게임 트랜잭션과 섞이지 않도록 새 트랜잭션에서 턴을 시작
+        TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
+        txTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        try {
+            txTemplate.executeWithoutResult(status -> turnService.startTurn(gameId));
+        } catch (RuntimeException e) {
+            log.error("첫 턴 시작 실패: gameId={}", gameId, e);
+            gameSession.removeSession(gameId);
+            gameScoreboard.close(gameId);
+
+            throw e;
+        }
     }
 
     private List<GameParticipantResponse> getInitialGameParticipants(List<RoomParticipation> roomParticipants) {
@@ -145,13 +179,13 @@ public class GameService {
         return gameParticipantResponses;
     }
 
-    private void createGameState(List<GameParticipantResponse> gameParticipants, Game game) {
+    private List<Long> getParticipantIds(List<GameParticipantResponse> gameParticipants) {
         List<Long> participants = new ArrayList<>();
 
         for (GameParticipantResponse participant : gameParticipants) {
             participants.add(participant.memberId());
         }
 
-        gameSession.createSession(game.getId(), GameState.createGameState(participants, quizService.getQuizWords(participants.size())));
+        return participants;
     }
-}
\ No newline at end of file
+}
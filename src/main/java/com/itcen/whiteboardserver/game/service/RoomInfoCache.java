@@ -0,0 +1,80 @@
+package com.itcen.whiteboardserver.game.service;
+
+import com.itcen.whiteboardserver.game.dto.response.RoomInfoResponse;
+import com.itcen.whiteboardserver.game.event.RoomHostChangedEvent;
+import com.itcen.whiteboardserver.game.event.RoomParticipantChangedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 방별 참가자 정보 스냅샷을 보관합니다.
+ * 참가자/방장 변경 이벤트가 커밋된 직후 가장 먼저 스냅샷을 지우므로, 이후 브로드캐스트는 새로 조회한 정보를 사용합니다.
+ * 조회는 map 밖에서 실행하고, 조회하는 동안 삭제가 있었으면 결과를 넣지 않거나 넣은 결과를 다시 지워서
+ * 삭제 이전에 시작된 조회가 오래된 스냅샷을 남기지 못합니다.
+ */
+@Component
+public class RoomInfoCache {
+    private final Map<Long, RoomInfoResponse> snapshots = new ConcurrentHashMap<>();
+    // 삭제할 때마다 증가 (방 구분 없이 하나만 두므로, 다른 방의 삭제와 겹친 조회도 캐시하지 않음)
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * @param loader null을 반환하면 캐시하지 않습니다.
+     */
+    public RoomInfoResponse getOrLoad(Long roomCode, Function<Long, RoomInfoResponse> loader) {
+        RoomInfoResponse snapshot = snapshots.get(roomCode);
+
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        long generation = evictions.get();
+        RoomInfoResponse loaded = loader.apply(roomCode);
+
+        if (loaded == null || evictions.get() != generation) {
+            return loaded;
+        }
+
+        RoomInfoResponse previous = snapshots.putIfAbsent(roomCode, loaded);
+
+        if (previous != null) {
+            return previous;
+        }
+
+        //넣는 사이에 삭제가 끼어들었으면 방금 넣은 스냅샷을 다시 지움
+        if (evictions.get() != generation) {
+            snapshots.remove(roomCode, loaded);
+        }
+
+        return loaded;
+    }
+
+    public void evict(Long roomCode) {
+        evictions.incrementAndGet();
+        snapshots.remove(roomCode);
+    }
+
+    public int size() {
+        return snapshots.size();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleRoomParticipantChangedEvent(RoomParticipantChangedEvent event) {
+        evict(event.getRoomCode());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleRoomHostChangedEvent(RoomHostChangedEvent event) {
+        evict(event.getRoomCode());
+    }
+}
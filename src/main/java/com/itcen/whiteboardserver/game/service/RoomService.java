@@ -1,5 +1,6 @@
 package com.itcen.whiteboardserver.game.service;
 
+import com.itcen.whiteboardserver.common.transaction.AfterCommit;
 import com.itcen.whiteboardserver.game.constant.GameConstants;
 import com.itcen.whiteboardserver.game.dto.request.RoomInfoRequest;
 import com.itcen.whiteboardserver.game.dto.request.RoomJoinRequest;
@@ -9,11 +10,13 @@ import com.itcen.whiteboardserver.game.entity.Room;
 import com.itcen.whiteboardserver.game.entity.RoomParticipation;
 import com.itcen.whiteboardserver.game.event.RoomHostChangedEvent;
 import com.itcen.whiteboardserver.game.event.RoomParticipantChangedEvent;
+import com.itcen.whiteboardserver.game.event.RoomStatusChangedEvent;
 import com.itcen.whiteboardserver.game.exception.MemberNotFoundException;
 import com.itcen.whiteboardserver.game.exception.RoomJoinException;
 import com.itcen.whiteboardserver.game.exception.RoomNotFoundException;
 import com.itcen.whiteboardserver.game.repository.RoomParticipationRepository;
 import com.itcen.whiteboardserver.game.repository.RoomRepository;
+import com.itcen.whiteboardserver.game.room.RoomDirectory;
 import com.itcen.whiteboardserver.member.entity.Member;
 import com.itcen.whiteboardserver.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +24,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Objects;
@@ -34,6 +39,8 @@ public class RoomService {
     private final RoomParticipationRepository participationRepository;
     private final MemberRepository memberRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final RoomInfoCache roomInfoCache;
+    private final RoomDirectory roomDirectory;
 
 
     /**
@@ -60,8 +67,15 @@ public class RoomService {
         // 참가자로 등록
         RoomParticipation participation = new RoomParticipation(null, savedRoom, host);
         participationRepository.save(participation);
+        // 방 생성이 롤백되면 좌석도 남지 않도록 커밋된 뒤에 등록
+        Long roomId = savedRoom.getId();
+        Long hostId = host.getId();
+        AfterCommit.run(() -> roomDirectory.open(roomId, hostId));
         log.debug("방장 참가자로 등록 완료: roomId={}, memberId={}", savedRoom.getId(), host.getId());
 
+        // 로비 목록에 추가
+        applicationEventPublisher.publishEvent(new RoomStatusChangedEvent(savedRoom.getId(), Room.RoomStatus.WAITING));
+
 
         // 방 코드 반환
         log.info("방 생성 성공: roomId={}, hostId={}", savedRoom.getId(), host.getId());
@@ -71,29 +85,36 @@ public class RoomService {
 
     /**
      * 방 정보 조회
+     * 참가자 변경 이벤트로 무효화되는 스냅샷을 우선 사용하고, 없으면 projection 쿼리 한 번으로 조회합니다.
      */
-    @Transactional(readOnly = true)
     public RoomInfoResponse getRoomInfoByRoomCode(RoomInfoRequest request) {
-        log.info("방 정보 조회 요청: roomCode={}", request.getRoomCode());
+        Long roomCode = request.getRoomCode();
+        log.info("방 정보 조회 요청: roomCode={}", roomCode);
 
-        // 방 정보
-        Room room = roomRepository.findById(request.getRoomCode())
-                .orElseThrow(() -> new RoomNotFoundException("방을 찾을 수 없습니다."));
+        RoomInfoResponse roomInfo = roomInfoCache.getOrLoad(roomCode, this::loadRoomInfo);
+
+        // 참가자가 없는 방은 캐시하지 않음
+        if (roomInfo == null) {
+            if (!roomRepository.existsById(roomCode)) {
+                throw new RoomNotFoundException("방을 찾을 수 없습니다.");
+            }
+
+            roomInfo = new RoomInfoResponse(List.of(), roomCode);
+        }
+
+        log.info("방 정보 조회 성공: roomId={}, 참여자 수={}", roomCode, roomInfo.getParticipantList().size());
+        return roomInfo;
+    }
 
-        // 참여자 정보
-        List<RoomParticipation> roomParticipationList = participationRepository.findByRoomId(request.getRoomCode());
-        log.debug("방 참여자 조회 완료: roomId={}, 참여자 수={}", room.getId(), roomParticipationList.size());
+    private RoomInfoResponse loadRoomInfo(Long roomCode) {
+        List<RoomParticipantResponse> participantList = participationRepository.findParticipantResponsesByRoomId(roomCode);
+        log.debug("방 참여자 조회 완료: roomId={}, 참여자 수={}", roomCode, participantList.size());
 
-        List<RoomParticipantResponse> participantList = roomParticipationList.stream()
-                .map(roomParticipation -> {
-                    Member member = roomParticipation.getMember();
-                    boolean isHost = Objects.equals(member.getId(), room.getHost().getId());
-                    return new RoomParticipantResponse(member.getId(), member.getNickname(), isHost, member.getProfileColor());
-                })
-                .toList();
+        if (participantList.isEmpty()) {
+            return null;
+        }
 
-        log.info("방 정보 조회 성공: roomId={}, 참여자 수={}", room.getId(), participantList.size());
-        return new RoomInfoResponse(participantList, room.getId());
+        return new RoomInfoResponse(List.copyOf(participantList), roomCode);
     }
 
     /**
@@ -115,23 +136,20 @@ public class RoomService {
         Member member = memberRepository.findByEmail(memberEmail)
                 .orElseThrow(() -> new MemberNotFoundException("사용자를 찾을 수 없습니다."));
 
-        // 이미 참여 중인지 확인
-        boolean alreadyJoined = participationRepository
-                .findByRoomIdAndMemberId(room.getId(), member.getId())
-                .isPresent();
-        if (alreadyJoined) {
+        // 중복 참여, 최대 인원 확인 (DB 조회 없이 좌석을 원자적으로 확보)
+        RoomDirectory.JoinResult joinResult = roomDirectory.join(roomCode, member.getId());
+        if (joinResult == RoomDirectory.JoinResult.ALREADY_JOINED) {
             throw new RoomJoinException("이미 참여중인 방입니다.");
         }
-
-        // 참가자 수 확인 - 최대 인원 체크
-        List<RoomParticipation> currentParticipants = participationRepository.findByRoomId(roomCode);
-        if (currentParticipants.size() >= GameConstants.MAX_PARTICIPANTS) {
-            log.error("방 참여 실패: 최대 참가자 수 초과 (roomId={}, 현재 참가자 수={})",
-                    roomCode, currentParticipants.size());
+        if (joinResult == RoomDirectory.JoinResult.FULL) {
+            log.error("방 참여 실패: 최대 참가자 수 초과 (roomId={})", roomCode);
             throw new RoomJoinException("방에 더 이상 참여할 수 없습니다. 최대 인원은 " + GameConstants.MAX_PARTICIPANTS + "명입니다.");
         }
+        releaseSeatOnRollback(roomCode, member.getId());
 
         // 참가자로 등록
+        // 게임 시작, 방 나가기, 방 정보 조회가 모두 room_participation을 읽으므로 응답 전에 같은 트랜잭션에서 저장하고,
+        // 저장이 실패해 롤백되면 위에서 확보한 좌석을 돌려줌
         RoomParticipation participation = new RoomParticipation(null, room, member);
         participationRepository.save(participation);
         log.debug("방 참여자 등록 완료: roomId={}, memberId={}", room.getId(), member.getId());
@@ -141,6 +159,14 @@ public class RoomService {
         log.info("방 참여 성공: roomId={}, memberId={}", room.getId(), member.getId());
     }
 
+    /**
+     * 참여 중인 방이 있는지 확인
+     */
+    @Transactional(readOnly = true)
+    public boolean isInRoom(String memberEmail) {
+        return participationRepository.existsByMemberEmail(memberEmail);
+    }
+
     /**
      * 방 떠나기
      */
@@ -162,6 +188,7 @@ public class RoomService {
                 Long roomId = roomParticipation.getRoom().getId();
                 // 방 참여 정보 삭제
                 participationRepository.delete(roomParticipation);
+                releaseSeatAfterCommit(roomId, memberId);
                 log.debug("방 참여 정보 삭제 완료: roomId={}, memberId={}", roomId, memberId);
 
                 // 만약 방장이 나가는 경우, 방의 상태를 변경하거나 다른 사용자를 방장으로 변경하는 로직
@@ -175,6 +202,9 @@ public class RoomService {
                         room.updateStatus(Room.RoomStatus.FINISHED);
                         roomRepository.save(room);
                         log.info("방 상태 변경 완료: roomId={}, status=FINISHED (참가자 없음)", roomId);
+
+                        // 참가자 변경 이벤트 발행 (방 정보 스냅샷 무효화)
+                        applicationEventPublisher.publishEvent(new RoomParticipantChangedEvent(roomId));
                     } else {
                         // 첫 번째 참가자를 새 방장으로 지정
                         Member newHost = remainingParticipants.get(0).getMember();
@@ -196,5 +226,34 @@ public class RoomService {
         }
     }
 
+    // 참여 기록 저장이 롤백되면 확보한 좌석을 반납
+    private void releaseSeatOnRollback(Long roomId, Long memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
 
-}
\ No newline at end of file
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    roomDirectory.leave(roomId, memberId);
+                }
+            }
+        });
+    }
+
+    // 참여 기록 삭제가 커밋된 뒤에 좌석을 반납
+    private void releaseSeatAfterCommit(Long roomId, Long memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            roomDirectory.leave(roomId, memberId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                roomDirectory.leave(roomId, memberId);
+            }
+        });
+    }
+}
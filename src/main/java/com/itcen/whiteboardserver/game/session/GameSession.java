@@ -1,95 +1,25 @@
 package com.itcen.whiteboardserver.game.session;
 
 import com.itcen.whiteboardserver.game.session.state.GameState;
-import com.itcen.whiteboardserver.game.session.state.GameStatus;
-import org.springframework.stereotype.Component;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+/**
+ * 진행 중인 게임의 출제 순서, 제시어, 현재 턴을 관리합니다.
+ * game.session.store 설정으로 구현체(local, redis)를 선택합니다.
+ */
+public interface GameSession {
+    void createSession(Long gameId, GameState gameState);
 
-@Component
-public class GameSession {
-    private final Map<Long, GameState> gameSession = new ConcurrentHashMap<>();
-    private final Map<Long, ReentrantLock> locks = new ConcurrentHashMap<>();
+    void removeSession(Long gameId);
 
-    public void createSession(Long gameId, GameState gameState) {
-        if (gameSession.containsKey(gameId)) {
-            throw new RuntimeException("Already this game session created");
-        }
+    boolean canGoNextTurn(Long gameId);
 
-        gameSession.put(gameId, gameState);
-    }
+    Long goNextTurnAndGetDrawer(Long gameId);
 
-    public void removeSession(Long gameId) {
-        validateGameExist(gameId);
+    String getNowTurnQuizWord(Long gameId);
 
-        gameSession.remove(gameId);
-        locks.remove(gameId);
-    }
+    boolean isGamePlaying(Long gameId);
 
-    public boolean canGoNextTurn(Long gameId) {
-        GameState gameState = getGameState(gameId);
-        return !(gameState.getNowTurn() + 1 >= gameState.getTotalTurnCnt());
-    }
+    boolean isThisMemberParticipant(Long gameId, Long memberId);
 
-    public Long goNextTurnAndGetDrawer(Long gameId) {
-        Lock lock = getLock(gameId);
-        lock.lock();
-
-        try {
-            GameState gameState = getGameState(gameId);
-            gameState.goNextTurn();
-
-            int drawerId = gameState.getNowTurn() % gameState.getDrawerSequence().size();
-            return gameState.getDrawerSequence().get(drawerId);
-        } finally {
-            lock.unlock();
-        }
-    }
-
-    public String getNowTurnQuizWord(Long gameId) {
-        GameState gameState = getGameState(gameId);
-
-        return gameState.getThisTurnWord();
-    }
-
-    public boolean isGamePlaying(Long gameId) {
-        GameState gameState = getGameState(gameId);
-        GameStatus status = gameState.getStatus();
-
-        return status == GameStatus.IN_TURN;
-    }
-
-    public boolean isThisMemberParticipant(Long gameId, Long memberId) {
-        GameState gameState = getGameState(gameId);
-
-        return gameState.getDrawerSequence().contains(memberId);
-    }
-
-    public boolean isThisDrawer(Long gameId, Long memberId) {
-        GameState gameState = getGameState(gameId);
-
-        int drawerIdx = gameState.getNowTurn() % gameState.getDrawerSequence().size();
-        Long drawerId = gameState.getDrawerSequence().get(drawerIdx);
-
-        return memberId == drawerId;
-    }
-
-    private Lock getLock(Long gameId) {
-        return locks.computeIfAbsent(gameId, id -> new ReentrantLock());
-    }
-
-    private GameState getGameState(Long gameId) {
-        validateGameExist(gameId);
-
-        return gameSession.get(gameId);
-    }
-
-    private void validateGameExist(Long gameId) {
-        if (!gameSession.containsKey(gameId)) {
-            throw new RuntimeException("현재 게임이 존재하지 않습니다.");
-        }
-    }
+    boolean isThisDrawer(Long gameId, Long memberId);
 }
@@ -0,0 +1,283 @@
+package com.itcen.whiteboardserver.game.session;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itcen.whiteboardserver.game.session.state.GameState;
+import com.itcen.whiteboardserver.game.session.state.GameStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게임 상태를 Redis hash({@code game:session:{gameId}})에 보관하여 재시작하거나 다른 노드로 요청이 가도 게임이 이어지게 합니다.
+ * 출제 순서, 제시어, 전체 턴 수는 게임 중 바뀌지 않으므로 노드 메모리에 계속 캐시하고,
+ * 현재 턴과 상태는 이 노드가 마지막으로 쓰거나 읽은 값을 near-cache-ttl 동안 메모리에서 바로 읽습니다.
+ * near-cache-ttl이 지나 Redis에서 다시 읽을 때 게임이 없으면(다른 노드가 제거했거나 만료됨) 캐시에서도 지웁니다.
+ * 캐시한 게임이 near-cache-max-games를 넘으면 near-cache-ttl 동안 쓰지 않은 게임부터 비웁니다.
+ * 게임 생성과 턴 증가는 Lua 스크립트 하나로 처리하여, 여러 노드가 동시에 호출해도 일부 필드만 쓰인 게임이 생기지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "game.session.store", havingValue = "redis")
+public class RedisGameSession implements GameSession {
+    private static final String KEY_PREFIX = "game:session:";
+    private static final String DRAWER_SEQUENCE = "drawerSequence";
+    private static final String QUIZ_WORDS = "quizWords";
+    private static final String TOTAL_TURN_CNT = "totalTurnCnt";
+    private static final String NOW_TURN = "nowTurn";
+    private static final String STATUS = "status";
+    // 끝나지 않고 버려진 게임이 Redis에 계속 남지 않도록 설정
+    private static final Duration SESSION_TTL = Duration.ofHours(6);
+    private static final String GAME_NOT_FOUND = "현재 게임이 존재하지 않습니다.";
+
+    // 이미 있으면 0, 새로 만들면 1
+    private static final RedisScript<Long> CREATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end "
+                    + "redis.call('HSET', KEYS[1], '" + DRAWER_SEQUENCE + "', ARGV[1], '" + QUIZ_WORDS + "', ARGV[2], "
+                    + "'" + TOTAL_TURN_CNT + "', ARGV[3], '" + NOW_TURN + "', ARGV[4], '" + STATUS + "', ARGV[5]) "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[6]) "
+                    + "return 1",
+            Long.class
+    );
+    // 게임이 없으면 -1, 전체 턴을 넘으면 -2, 아니면 증가한 현재 턴
+    private static final RedisScript<Long> NEXT_TURN_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+                    + "local nowTurn = redis.call('HINCRBY', KEYS[1], '" + NOW_TURN + "', 1) "
+                    + "if nowTurn > tonumber(redis.call('HGET', KEYS[1], '" + TOTAL_TURN_CNT + "')) then "
+                    + "redis.call('HINCRBY', KEYS[1], '" + NOW_TURN + "', -1) "
+                    + "return -2 end "
+                    + "redis.call('HSET', KEYS[1], '" + STATUS + "', ARGV[1]) "
+                    + "return nowTurn",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final HashOperations<String, String, String> hashOperations;
+    private final ObjectMapper objectMapper;
+    private final long nearCacheTtlMillis;
+    private final int nearCacheMaxGames;
+    private final Map<Long, CachedGame> nearCache = new ConcurrentHashMap<>();
+
+    public RedisGameSession(StringRedisTemplate redisTemplate,
+                            ObjectMapper objectMapper,
+                            @Value("${game.session.near-cache-ttl-ms:200}") long nearCacheTtlMillis,
+                            @Value("${game.session.near-cache-max-games:10000}") int nearCacheMaxGames) {
+        this.redisTemplate = redisTemplate;
+        this.hashOperations = redisTemplate.opsForHash();
+        this.objectMapper = objectMapper;
+        this.nearCacheTtlMillis = nearCacheTtlMillis;
+        this.nearCacheMaxGames = nearCacheMaxGames;
+    }
+
+    @Override
+    public void createSession(Long gameId, GameState gameState) {
+        Long created = redisTemplate.execute(CREATE_SCRIPT, List.of(keyOf(gameId)),
+                toJson(gameState.getDrawerSequence()),
+                toJson(gameState.getQuizWords()),
+                String.valueOf(gameState.getTotalTurnCnt()),
+                String.valueOf(gameState.getNowTurn()),
+                gameState.getStatus().name(),
+                String.valueOf(SESSION_TTL.toMillis())
+        );
+        if (created == null || created == 0) {
+            throw new RuntimeException("Already this game session created");
+        }
+
+        cache(gameId, new CachedGame(
+                gameState.getDrawerSequence(),
+                gameState.getQuizWords(),
+                gameState.getTotalTurnCnt(),
+                new TurnSnapshot(gameState.getNowTurn(), gameState.getStatus(), System.currentTimeMillis())
+        ));
+    }
+
+    @Override
+    public void removeSession(Long gameId) {
+        nearCache.remove(gameId);
+
+        if (!Boolean.TRUE.equals(redisTemplate.delete(keyOf(gameId)))) {
+            throw new RuntimeException(GAME_NOT_FOUND);
+        }
+    }
+
+    @Override
+    public boolean canGoNextTurn(Long gameId) {
+        CachedGame game = getGame(gameId);
+        return !(getTurn(gameId, game).nowTurn() + 1 >= game.totalTurnCnt());
+    }
+
+    @Override
+    public Long goNextTurnAndGetDrawer(Long gameId) {
+        CachedGame game = getGame(gameId);
+
+        Long result = redisTemplate.execute(NEXT_TURN_SCRIPT, List.of(keyOf(gameId)), GameStatus.IN_TURN.name());
+        if (result == null || result == -1) {
+            nearCache.remove(gameId);
+            throw new RuntimeException(GAME_NOT_FOUND);
+        }
+        if (result == -2) {
+            throw new RuntimeException("턴 증가가 전체 턴을 넘었습니다.");
+        }
+
+        int nowTurn = result.intValue();
+        game.turn = new TurnSnapshot(nowTurn, GameStatus.IN_TURN, System.currentTimeMillis());
+
+        return game.drawerOf(nowTurn);
+    }
+
+    @Override
+    public String getNowTurnQuizWord(Long gameId) {
+        CachedGame game = getGame(gameId);
+
+        return game.quizWords().get(getTurn(gameId, game).nowTurn());
+    }
+
+    @Override
+    public boolean isGamePlaying(Long gameId) {
+        CachedGame game = getGame(gameId);
+
+        return getTurn(gameId, game).status() == GameStatus.IN_TURN;
+    }
+
+    @Override
+    public boolean isThisMemberParticipant(Long gameId, Long memberId) {
+        CachedGame game = getGame(gameId);
+        //다른 노드에서 제거된 게임인지 확인
+        getTurn(gameId, game);
+
+        return game.drawerSequence().contains(memberId);
+    }
+
+    @Override
+    public boolean isThisDrawer(Long gameId, Long memberId) {
+        CachedGame game = getGame(gameId);
+
+        return game.drawerOf(getTurn(gameId, game).nowTurn()).equals(memberId);
+    }
+
+    private CachedGame getGame(Long gameId) {
+        CachedGame cached = nearCache.get(gameId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Map<String, String> entries = hashOperations.entries(keyOf(gameId));
+        if (entries == null || !entries.containsKey(TOTAL_TURN_CNT)) {
+            throw new RuntimeException(GAME_NOT_FOUND);
+        }
+
+        CachedGame loaded = new CachedGame(
+                fromJson(entries.get(DRAWER_SEQUENCE), new TypeReference<List<Long>>() {
+                }),
+                fromJson(entries.get(QUIZ_WORDS), new TypeReference<List<String>>() {
+                }),
+                Integer.parseInt(entries.get(TOTAL_TURN_CNT)),
+                toTurnSnapshot(entries.get(NOW_TURN), entries.get(STATUS))
+        );
+
+        return cache(gameId, loaded);
+    }
+
+    private CachedGame cache(Long gameId, CachedGame game) {
+        if (nearCache.size() >= nearCacheMaxGames) {
+            evictIdle();
+        }
+
+        CachedGame previous = nearCache.putIfAbsent(gameId, game);
+        return previous != null ? previous : game;
+    }
+
+    //near-cache-ttl 동안 읽지 않은 게임은 어차피 다음에 Redis에서 다시 읽으므로 먼저 비움
+    private void evictIdle() {
+        long now = System.currentTimeMillis();
+        nearCache.values().removeIf(game -> now - game.turn.loadedAt() >= nearCacheTtlMillis);
+    }
+
+    int nearCacheSize() {
+        return nearCache.size();
+    }
+
+    private TurnSnapshot getTurn(Long gameId, CachedGame game) {
+        TurnSnapshot turn = game.turn;
+        if (System.currentTimeMillis() - turn.loadedAt() < nearCacheTtlMillis) {
+            return turn;
+        }
+
+        //다른 노드가 턴을 넘겼을 수 있으므로 캐시가 오래되면 Redis에서 다시 읽음
+        List<String> values = hashOperations.multiGet(keyOf(gameId), List.of(NOW_TURN, STATUS));
+        if (values == null || values.get(0) == null) {
+            nearCache.remove(gameId);
+            throw new RuntimeException(GAME_NOT_FOUND);
+        }
+
+        TurnSnapshot refreshed = toTurnSnapshot(values.get(0), values.get(1));
+        game.turn = refreshed;
+        return refreshed;
+    }
+
+    private TurnSnapshot toTurnSnapshot(String nowTurn, String status) {
+        return new TurnSnapshot(Integer.parseInt(nowTurn), GameStatus.valueOf(status), System.currentTimeMillis());
+    }
+
+    private String keyOf(Long gameId) {
+        return KEY_PREFIX + gameId;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("게임 상태를 저장할 수 없습니다.", e);
+        }
+    }
+
+    private <T> T fromJson(String json, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("게임 상태를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private record TurnSnapshot(int nowTurn, GameStatus status, long loadedAt) {
+    }
+
+    private static final class CachedGame {
+        private final List<Long> drawerSequence;
+        private final List<String> quizWords;
+        private final int totalTurnCnt;
+        private volatile TurnSnapshot turn;
+
+        private CachedGame(List<Long> drawerSequence, List<String> quizWords, int totalTurnCnt, TurnSnapshot turn) {
+            this.drawerSequence = List.copyOf(drawerSequence);
+            this.quizWords = List.copyOf(quizWords);
+            this.totalTurnCnt = totalTurnCnt;
+            this.turn = turn;
+        }
+
+        private List<Long> drawerSequence() {
+            return drawerSequence;
+        }
+
+        private List<String> quizWords() {
+            return quizWords;
+        }
+
+        private int totalTurnCnt() {
+            return totalTurnCnt;
+        }
+
+        private Long drawerOf(int turn) {
+            return drawerSequence.get(turn % drawerSequence.size());
+        }
+    }
+}
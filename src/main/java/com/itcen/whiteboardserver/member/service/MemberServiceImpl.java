@@ -1,5 +1,8 @@
 package com.itcen.whiteboardserver.member.service;
 
+import com.itcen.whiteboardserver.game.entity.RoomParticipation;
+import com.itcen.whiteboardserver.game.event.RoomParticipantChangedEvent;
+import com.itcen.whiteboardserver.game.repository.RoomParticipationRepository;
 import com.itcen.whiteboardserver.global.exception.GlobalCommonException;
 import com.itcen.whiteboardserver.global.exception.GlobalErrorCode;
 import com.itcen.whiteboardserver.member.dto.MemberDTO;
@@ -11,6 +14,7 @@ import com.itcen.whiteboardserver.member.repository.NicknamesRepository;
 import com.itcen.whiteboardserver.security.principal.CustomPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +25,8 @@ public class MemberServiceImpl implements MemberService {
 
     private final MemberRepository memberRepository;
     private final NicknamesRepository nicknamesRepository;
+    private final RoomParticipationRepository participationRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -100,6 +106,11 @@ public class MemberServiceImpl implements MemberService {
                 // 기존 닉네임은 is_used를 false로 변경
                 nicknamesRepository.updateIsUsedByNickname(principal.getNickname());
 
+                // 참여 중인 방의 참가자 정보 스냅샷을 비우고 방/로비에 바뀐 닉네임을 알리도록 커밋 뒤 이벤트 처리
+                for (RoomParticipation participation : participationRepository.findByMemberId(memberId)) {
+                    applicationEventPublisher.publishEvent(new RoomParticipantChangedEvent(participation.getRoom().getId()));
+                }
+
                 memberDTO = new MemberResponseDTO(
                         memberId,
                         nicknameDTO.getNickname(),
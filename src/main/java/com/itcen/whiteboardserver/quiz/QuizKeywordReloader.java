@@ -0,0 +1,42 @@
+package com.itcen.whiteboardserver.quiz;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * quiz.keyword.reload-interval-ms 주기로 제시어를 다시 읽습니다. 0이면 다시 읽지 않습니다.
+ */
+@Slf4j
+@Component
+public class QuizKeywordReloader {
+    private final ScheduledExecutorService scheduler;
+
+    public QuizKeywordReloader(QuizService quizService,
+                               @Value("${quiz.keyword.reload-interval-ms:0}") long reloadIntervalMs) {
+        if (reloadIntervalMs <= 0) {
+            scheduler = null;
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "quiz-keyword-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(quizService::reload, reloadIntervalMs, reloadIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("제시어 주기적 다시 읽기 사용: interval={}ms", reloadIntervalMs);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -1,64 +1,196 @@
 package com.itcen.whiteboardserver.quiz;
 
+import com.itcen.whiteboardserver.common.executor.ScratchPool;
+import com.itcen.whiteboardserver.game.constant.GameConstants;
+import com.itcen.whiteboardserver.quiz.source.ClasspathKeywordSource;
+import com.itcen.whiteboardserver.quiz.source.KeywordSource;
+import com.itcen.whiteboardserver.quiz.source.QuizKeyword;
 import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * 제시어는 KeywordSource에서 읽어 카테고리별 배열과 단어 -> 카테고리 인덱스로 만든 뒤 바꾸지 않습니다.
+ * 다시 읽을 때는 새 인덱스를 만들어 참조만 교체하므로, 읽는 쪽은 잠금 없이 항상 한 시점의 인덱스 전체를 봅니다.
+ * 게임마다 카테고리별로 참가자 수만큼 뽑는데, 풀에서 빌린 인덱스 순열에 부분 Fisher–Yates를 적용하므로
+ * 뽑는 개수에만 비례하는 시간이 들고 동시에 여러 게임이 시작되어도 같은 순열을 함께 바꾸지 않습니다.
+ * 같은 카테고리 안에서는 한 게임에 같은 단어가 두 번 나오지 않습니다.
+ */
+@Slf4j
 @Service
 public class QuizService {
-    private Map<QuizCategory, List<String>> keywords = new EnumMap<>(QuizCategory.class);
+    private static final QuizCategory[] CATEGORIES = QuizCategory.values();
+    private static final int MAX_IDLE_PERMUTATIONS = 16;
+
+    private final KeywordSource keywordSource;
+    private volatile KeywordIndex index = KeywordIndex.EMPTY;
+    private final ScratchPool<Permutations> permutationsPool =
+            new ScratchPool<>(() -> Permutations.of(index), MAX_IDLE_PERMUTATIONS);
+
+    public QuizService() {
+        this(new ClasspathKeywordSource(ClasspathKeywordSource.DEFAULT_PATH));
+    }
+
+    @Autowired
+    public QuizService(KeywordSource keywordSource) {
+        this.keywordSource = keywordSource;
+    }
 
     @PostConstruct
     public void init() throws IOException {
-        for (QuizCategory category : QuizCategory.values()) {
-            keywords.put(category, new ArrayList<>());
+        KeywordIndex loaded = KeywordIndex.of(keywordSource.load());
+        index = loaded;
+
+        log.info("제시어 로드 완료: 단어 수={}", loaded.categoryByKeyword().size());
+    }
+
+    /**
+     * 제시어를 다시 읽습니다. 실패하면 기존 제시어를 계속 사용합니다.
+     *
+     * @return 교체했으면 true
+     */
+    public boolean reload() {
+        try {
+            init();
+            return true;
+        } catch (Exception e) {
+            log.error("제시어 다시 읽기 실패, 기존 제시어를 계속 사용합니다.", e);
+            return false;
         }
+    }
 
-        try (InputStream is = getClass().getResourceAsStream("/data/keywords.csv");
-             BufferedReader br = new BufferedReader(new InputStreamReader(is))) {
+    public List<String> getQuizWords(int participantCnt) {
+        KeywordIndex index = this.index;
+        Permutations permutations = acquirePermutations(index);
+        try {
+            return pickQuizWords(index, permutations.indexes(), participantCnt);
+        } finally {
+            permutationsPool.release(permutations);
+        }
+    }
 
-            while (true) {
-                String line = br.readLine();
+    private List<String> pickQuizWords(KeywordIndex index, int[][] permutations, int participantCnt) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String[] randomKeywords = new String[participantCnt * CATEGORIES.length];
 
-                if (line == null) {
-                    break;
-                }
+        int size = 0;
+        for (QuizCategory category : CATEGORIES) {
+            String[] quizWords = index.keywords()[category.ordinal()];
+            int[] permutation = permutations[category.ordinal()];
 
-                String[] parts = line.split(",");
-                String keyword = parts[0];
-                QuizCategory category = QuizCategory.from(parts[1]);
+            if (participantCnt > quizWords.length) {
+                throw new RuntimeException("제시어가 부족합니다. (" + category + ": " + quizWords.length + "개)");
+            }
 
-                keywords.get(category).add(keyword);
+            //부분 Fisher–Yates: 앞의 participantCnt칸만 섞어서 사용
+            for (int i = 0; i < participantCnt; i++) {
+                swap(permutation, i, random.nextInt(i, permutation.length));
+                randomKeywords[size++] = quizWords[permutation[i]];
             }
         }
+
+        //카테고리 순서가 드러나지 않도록 뽑은 단어끼리 섞기
+        for (int i = randomKeywords.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            String temp = randomKeywords[i];
+            randomKeywords[i] = randomKeywords[j];
+            randomKeywords[j] = temp;
+        }
+
+        return Arrays.asList(randomKeywords);
     }
 
-    public List<String> getQuizWords(int participantCnt) {
-        for (List<String> quizWords : keywords.values()) {
-            Collections.shuffle(quizWords);
+    public QuizCategory getQuizType(String quizWord) {
+        QuizCategory category = index.categoryByKeyword().get(quizWord);
+
+        if (category == null) {
+            throw new RuntimeException("카테고리에 해당하는 단어가 아닙니다.");
+        }
+
+        return category;
+    }
+
+    private Permutations acquirePermutations(KeywordIndex index) {
+        Permutations permutations = permutationsPool.acquire();
+
+        //제시어를 다시 읽었으면 새 제시어 기준으로 순열을 다시 만듦
+        if (permutations.index() != index) {
+            permutations = Permutations.of(index);
         }
 
-        List<String> randomKeywords = new ArrayList<>();
-        for (List<String> quizWords : keywords.values()) {
-            randomKeywords.addAll(quizWords.subList(0, participantCnt));
+        return permutations;
+    }
+
+    private static int[][] createPermutations(KeywordIndex index) {
+        int[][] created = new int[CATEGORIES.length][];
+
+        for (QuizCategory category : CATEGORIES) {
+            int[] permutation = new int[index.keywords()[category.ordinal()].length];
+            for (int i = 0; i < permutation.length; i++) {
+                permutation[i] = i;
+            }
+            created[category.ordinal()] = permutation;
         }
 
-        Collections.shuffle(randomKeywords);
-        return randomKeywords;
+        return created;
     }
 
-    public QuizCategory getQuizType(String quizWord) {
-        for (QuizCategory category : QuizCategory.values()) {
-            if (keywords.get(category).contains(quizWord)) {
-                return category;
+    private static void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * @param keywords           카테고리 ordinal -> 제시어 배열
+     * @param categoryByKeyword  제시어 -> 카테고리
+     */
+    private record KeywordIndex(String[][] keywords, Map<String, QuizCategory> categoryByKeyword) {
+        private static final KeywordIndex EMPTY = new KeywordIndex(new String[CATEGORIES.length][0], Map.of());
+
+        private static KeywordIndex of(List<QuizKeyword> quizKeywords) {
+            Map<QuizCategory, List<String>> byCategory = new EnumMap<>(QuizCategory.class);
+            for (QuizCategory category : CATEGORIES) {
+                byCategory.put(category, new ArrayList<>());
             }
+
+            Map<String, QuizCategory> categoryByKeyword = new HashMap<>();
+            for (QuizKeyword quizKeyword : quizKeywords) {
+                QuizCategory previous = categoryByKeyword.putIfAbsent(quizKeyword.keyword(), quizKeyword.category());
+
+                // 같은 단어가 여러 번 있으면 처음 것만 사용
+                if (previous != null) {
+                    log.warn("중복된 제시어는 제외합니다: keyword={}, category={}", quizKeyword.keyword(), quizKeyword.category());
+                    continue;
+                }
+
+                byCategory.get(quizKeyword.category()).add(quizKeyword.keyword());
+            }
+
+            String[][] keywords = new String[CATEGORIES.length][];
+            for (QuizCategory category : CATEGORIES) {
+                List<String> categoryKeywords = byCategory.get(category);
+
+                if (categoryKeywords.size() < GameConstants.MAX_PARTICIPANTS) {
+                    throw new IllegalStateException("카테고리의 제시어가 최대 참가자 수보다 적습니다. (" + category + ": " + categoryKeywords.size() + "개)");
+                }
+
+                keywords[category.ordinal()] = categoryKeywords.toArray(String[]::new);
+            }
+
+            return new KeywordIndex(keywords, Map.copyOf(categoryByKeyword));
         }
+    }
 
-        throw new RuntimeException("카테고리에 해당하는 단어가 아닙니다.");
+    // 카테고리 단어 인덱스 순열 (뽑을 때마다 섞인 상태로 남아도 항상 순열이므로 다음 표본도 균등)
+    private record Permutations(KeywordIndex index, int[][] indexes) {
+        private static Permutations of(KeywordIndex index) {
+            return new Permutations(index, createPermutations(index));
+        }
     }
 }
@@ -0,0 +1,33 @@
+package com.itcen.whiteboardserver.quiz.source;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "quiz.keyword.source", havingValue = "classpath", matchIfMissing = true)
+public class ClasspathKeywordSource implements KeywordSource {
+    public static final String DEFAULT_PATH = "/data/keywords.csv";
+
+    private final String path;
+
+    public ClasspathKeywordSource(@Value("${quiz.keyword.path:" + DEFAULT_PATH + "}") String path) {
+        this.path = path;
+    }
+
+    @Override
+    public List<QuizKeyword> load() throws IOException {
+        InputStream is = getClass().getResourceAsStream(path);
+
+        if (is == null) {
+            throw new FileNotFoundException("classpath에 제시어 파일이 없습니다: " + path);
+        }
+
+        return KeywordCsvReader.read(is);
+    }
+}
@@ -0,0 +1,28 @@
+package com.itcen.whiteboardserver.quiz.source;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 서버 밖의 CSV 파일에서 제시어를 읽습니다. 파일을 바꾼 뒤 다시 읽으면(hot reload) 재배포 없이 제시어를 바꿀 수 있습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "quiz.keyword.source", havingValue = "file")
+public class FileKeywordSource implements KeywordSource {
+    private final Path path;
+
+    public FileKeywordSource(@Value("${quiz.keyword.path}") String path) {
+        this.path = Path.of(path);
+    }
+
+    @Override
+    public List<QuizKeyword> load() throws IOException {
+        return KeywordCsvReader.read(Files.newInputStream(path));
+    }
+}
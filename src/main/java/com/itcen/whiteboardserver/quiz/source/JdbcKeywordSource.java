@@ -0,0 +1,29 @@
+package com.itcen.whiteboardserver.quiz.source;
+
+import com.itcen.whiteboardserver.quiz.QuizCategory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * quiz_keyword 테이블(keyword, category)에서 제시어를 읽습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "quiz.keyword.source", havingValue = "db")
+public class JdbcKeywordSource implements KeywordSource {
+    private static final String SELECT_KEYWORDS_SQL = "SELECT keyword, category FROM quiz_keyword";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<QuizKeyword> load() {
+        return jdbcTemplate.query(SELECT_KEYWORDS_SQL, (rs, rowNum) -> new QuizKeyword(
+                rs.getString("keyword").trim(),
+                QuizCategory.from(rs.getString("category").trim())
+        ));
+    }
+}
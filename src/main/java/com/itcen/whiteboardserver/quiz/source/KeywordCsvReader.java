@@ -0,0 +1,43 @@
+package com.itcen.whiteboardserver.quiz.source;
+
+import com.itcen.whiteboardserver.quiz.QuizCategory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * "제시어,카테고리" 형식의 CSV를 읽습니다.
+ */
+final class KeywordCsvReader {
+
+    private KeywordCsvReader() {
+    }
+
+    static List<QuizKeyword> read(InputStream is) throws IOException {
+        List<QuizKeyword> keywords = new ArrayList<>();
+
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+            while (true) {
+                String line = br.readLine();
+
+                if (line == null) {
+                    break;
+                }
+
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                String[] parts = line.split(",");
+                keywords.add(new QuizKeyword(parts[0].trim(), QuizCategory.from(parts[1].trim())));
+            }
+        }
+
+        return keywords;
+    }
+}
@@ -0,0 +1,11 @@
+package com.itcen.whiteboardserver.quiz.source;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 제시어 목록을 읽어오는 곳입니다. quiz.keyword.source 설정으로 classpath CSV, 디스크의 CSV 파일, DB 테이블 중에서 고릅니다.
+ */
+public interface KeywordSource {
+    List<QuizKeyword> load() throws IOException;
+}
@@ -0,0 +1,9 @@
+package com.itcen.whiteboardserver.quiz.source;
+
+import com.itcen.whiteboardserver.quiz.QuizCategory;
+
+public record QuizKeyword(
+        String keyword,
+        QuizCategory category
+) {
+}
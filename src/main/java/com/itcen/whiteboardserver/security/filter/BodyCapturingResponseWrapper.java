@@ -0,0 +1,133 @@
+package com.itcen.whiteboardserver.security.filter;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+
+/**
+ * 응답 본문을 그대로 클라이언트로 흘려보내면서 앞의 limit 바이트만 복사해 둡니다.
+ * ContentCachingResponseWrapper와 달리 본문 전체를 메모리에 모았다가 다시 쓰지 않습니다.
+ * getWriter()로 쓴 내용은 flush() 전까지 인코더 버퍼에 남을 수 있으므로, 요청 처리가 끝나면 flush()를 호출해야 합니다.
+ */
+class BodyCapturingResponseWrapper extends HttpServletResponseWrapper {
+    private final int limit;
+    private final ByteArrayOutputStream captured;
+    private long bodyLength;
+
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    BodyCapturingResponseWrapper(HttpServletResponse response, int limit) {
+        super(response);
+        this.limit = limit;
+        this.captured = new ByteArrayOutputStream(Math.min(limit, 1024));
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter()가 이미 호출되었습니다.");
+        }
+
+        return capturingStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (outputStream != null) {
+                throw new IllegalStateException("getOutputStream()이 이미 호출되었습니다.");
+            }
+
+            Charset charset = Charset.forName(getCharacterEncoding());
+            writer = new PrintWriter(new OutputStreamWriter(capturingStream(), charset));
+        }
+
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        flush();
+        super.flushBuffer();
+    }
+
+    void flush() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        } else if (outputStream != null) {
+            outputStream.flush();
+        }
+    }
+
+    byte[] getCapturedBody() {
+        return captured.toByteArray();
+    }
+
+    // 실제로 클라이언트에 쓴 본문 크기 (복사한 크기와 다를 수 있음)
+    long getBodyLength() {
+        return bodyLength;
+    }
+
+    private ServletOutputStream capturingStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new CapturingOutputStream(getResponse().getOutputStream());
+        }
+
+        return outputStream;
+    }
+
+    private class CapturingOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+
+        private CapturingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            if (captured.size() < limit) {
+                captured.write(b);
+            }
+            bodyLength++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            int remaining = limit - captured.size();
+            if (remaining > 0) {
+                captured.write(b, off, Math.min(remaining, len));
+            }
+            bodyLength += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
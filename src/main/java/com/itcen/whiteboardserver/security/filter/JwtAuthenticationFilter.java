@@ -15,10 +15,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.WebUtils;
 
 import java.io.IOException;
-import java.util.Objects;
 
 /**
  * JWT authentication filter: extracts access_token from HttpOnly cookie,
@@ -49,10 +47,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 1) HttpOnly 쿠키에서 액세스 토큰을 꺼냅니다.
-        String token = WebUtils.getCookie(request, "access_token") != null
-                ? Objects.requireNonNull(WebUtils.getCookie(request, "access_token")).getValue()
-                : null;
+        // 1) HttpOnly 쿠키에서 액세스 토큰을 꺼냅니다. (RequestAuthContextFilter가 미리 파싱한 값)
+        RequestAuthContext context = RequestAuthContext.of(request, tokenService);
+        String token = context.getAccessToken();
 
         /* 설명.
          *  보호되는 api 접근 시, token == null -> filter chain을 타고
@@ -60,8 +57,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
          * */
         if (token != null) {
             try {
-                // 2) 정상적인 경우: 토큰 검증 후 Authentication 반환
-                Authentication auth = tokenService.authenticateAccess(token);
+                // 2) 정상적인 경우: 토큰 검증 후 Authentication 반환 (앞선 필터에서 검증했으면 그 결과를 재사용)
+                Authentication auth = context.authenticate();
                 SecurityContextHolder.getContext().setAuthentication(auth);
             } catch (GlobalCommonException invalid) {
                 /* 설명. 이 때 catch 되는 예외는 서명 오류 등의 예외이다. */
@@ -0,0 +1,51 @@
+package com.itcen.whiteboardserver.security.filter;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 키별 버킷 프록시를 만들어 재사용합니다.
+ * 프록시마다 delaying 최적화를 걸어 두므로, 토큰 소비는 먼저 이 노드의 로컬 버킷에서 판단하고
+ * 쌓인 소비량은 maxUnsynchronizedTokens개 또는 maxUnsynchronizedTimeout마다 한 번에 Redis와 맞춥니다.
+ * 따라서 노드마다 최대 maxUnsynchronizedTokens개까지 한도를 넘겨 허용할 수 있습니다.
+ * 프록시는 최근에 쓴 순서로 maxKeys개까지만 들고 있고, 밀려난 키는 다음 요청 때 Redis 상태로 다시 만듭니다.
+ */
+class RateLimitBuckets {
+    private final ProxyManager<String> proxyManager;
+    private final DelayParameters delayParameters;
+    private final Map<String, Bucket> buckets;
+
+    RateLimitBuckets(ProxyManager<String> proxyManager, long maxUnsynchronizedTokens, Duration maxUnsynchronizedTimeout, int maxKeys) {
+        this.proxyManager = proxyManager;
+        this.delayParameters = new DelayParameters(maxUnsynchronizedTokens, maxUnsynchronizedTimeout);
+        this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                return size() > maxKeys;
+            }
+        };
+    }
+
+    Bucket get(String key, Bandwidth limit) {
+        // 프록시 생성은 Redis를 호출하지 않으므로 잠금 안에서 만들어도 짧음
+        synchronized (buckets) {
+            return buckets.computeIfAbsent(key, k -> proxyManager.builder()
+                    .withOptimization(Optimizations.delaying(delayParameters))
+                    .build(k, () -> BucketConfiguration.builder().addLimit(limit).build()));
+        }
+    }
+
+    int size() {
+        synchronized (buckets) {
+            return buckets.size();
+        }
+    }
+}
@@ -1,14 +1,10 @@
 package com.itcen.whiteboardserver.security.filter;
 
+import com.itcen.whiteboardserver.auth.service.TokenService;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
-import io.github.bucket4j.BucketConfiguration;
 import io.github.bucket4j.Refill;
-import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwtParser;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,34 +14,29 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.WebUtils;
 
-import javax.crypto.SecretKey;
 import java.io.IOException;
 import java.time.Duration;
-import java.util.Base64;
-import java.util.Optional;
 
 @Component
 @Slf4j
 public class RedisRateLimitingFilter extends OncePerRequestFilter {
 
-    private final LettuceBasedProxyManager<String> bucketManager;
+    // 키별 버킷 프록시 캐시 (로컬 버킷에서 먼저 판단하고 Redis와는 모아서 동기화)
+    private final RateLimitBuckets buckets;
     // 익명용/IP, 인증용/유저+IP, 로그인용 세 가지 리미터
     private final Bandwidth anonSliding = Bandwidth.classic(10, Refill.greedy(1, Duration.ofSeconds(10)));
     private final Bandwidth userLoginSliding = Bandwidth.classic(10, Refill.greedy(1, Duration.ofSeconds(5)));
     private final Bandwidth userSliding = Bandwidth.classic(10, Refill.greedy(1, Duration.ofSeconds(5)));
-    /* 설명. jwt authentication 전에 미리 체크 */
-    private final JwtParser jwtParser;
-    private final SecretKey key;
-
-    public RedisRateLimitingFilter(LettuceBasedProxyManager<String> bucketManager, @Value("${jwt.secret}") String secret) {
-        this.bucketManager = bucketManager;
-        byte[] keyBytes = Base64.getDecoder().decode(secret);
-        this.key = Keys.hmacShaKeyFor(keyBytes);
-        this.jwtParser  = Jwts.parser()
-                .verifyWith(key)
-                .build();
+    /* 설명. jwt authentication 전에 미리 체크 (검증 결과는 RequestAuthContext로 JwtAuthenticationFilter와 공유) */
+    private final TokenService tokenService;
+
+    public RedisRateLimitingFilter(ProxyManager<String> bucketManager, TokenService tokenService,
+                                   @Value("${rate-limit.local.max-unsynchronized-tokens:2}") long maxUnsynchronizedTokens,
+                                   @Value("${rate-limit.local.max-unsynchronized-millis:200}") long maxUnsynchronizedMillis,
+                                   @Value("${rate-limit.local.max-keys:10000}") int maxKeys) {
+        this.buckets = new RateLimitBuckets(bucketManager, maxUnsynchronizedTokens, Duration.ofMillis(maxUnsynchronizedMillis), maxKeys);
+        this.tokenService = tokenService;
     }
 
     @Override
@@ -55,25 +46,10 @@ public class RedisRateLimitingFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
 
-        String ip = Optional.ofNullable(req.getHeader("X-Forwarded-For"))
-                .filter(h -> !h.isBlank())
-                .orElseGet(req::getRemoteAddr);
-
-        String token = WebUtils.getCookie(req, "access_token") != null
-                ? WebUtils.getCookie(req, "access_token").getValue()
-                : null;
-
-        String user = null;
-
-        if(token != null) {
-            try {
-                Claims claims = jwtParser.parseSignedClaims(token)
-                        .getPayload();
-                user = claims.getSubject();
-            } catch (Exception e) {
-                log.error("Failed to parse JWT token: {}", e.getMessage());
-            }
-        }
+        RequestAuthContext context = RequestAuthContext.of(req, tokenService);
+        String ip = context.getClientIp();
+        String token = context.getAccessToken();
+        String user = context.findUsername().orElse(null);
 
         boolean isRefresh = req.getRequestURI().endsWith("/api/auth/oauth2/refresh");
         // 키 계산
@@ -92,10 +68,7 @@ public class RedisRateLimitingFilter extends OncePerRequestFilter {
             limit = userLoginSliding;  // 로그인은 좀 더 느슨하게?
         }
 
-        Bucket bucket = bucketManager.builder().build(
-                bucketKey,
-                () -> BucketConfiguration.builder().addLimit(limit).build()
-        );
+        Bucket bucket = buckets.get(bucketKey, limit);
         if (!bucket.tryConsume(1)) {
             res.setStatus(429);
             res.setHeader("Retry-After", String.valueOf(Duration.ofNanos(limit.getRefillPeriodNanos()).getSeconds()));
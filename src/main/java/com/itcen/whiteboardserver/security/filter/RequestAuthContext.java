@@ -0,0 +1,118 @@
+package com.itcen.whiteboardserver.security.filter;
+
+import com.itcen.whiteboardserver.auth.service.TokenService;
+import com.itcen.whiteboardserver.global.exception.GlobalCommonException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.core.Authentication;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 요청 하나에서 여러 필터가 함께 쓰는 인증 정보입니다.
+ * 쿠키 배열은 처음 만들 때 한 번만 훑고, 액세스 토큰 검증은 처음 필요한 필터에서 한 번만 한 뒤 결과(성공/실패)를 재사용합니다.
+ * RequestAuthContextFilter가 필터 체인 맨 앞에서 request attribute로 붙여 두며,
+ * 필터 순서가 달라 아직 없으면 of()에서 만들어 붙입니다. 요청 스레드 안에서만 사용합니다.
+ */
+public final class RequestAuthContext {
+    public static final String ATTRIBUTE = RequestAuthContext.class.getName();
+    public static final String ACCESS_TOKEN_COOKIE = "access_token";
+
+    private final TokenService tokenService;
+    private final Map<String, String> cookies;
+    private final String clientIp;
+
+    private boolean verified;
+    private Authentication authentication;
+    private GlobalCommonException failure;
+
+    private RequestAuthContext(TokenService tokenService, Map<String, String> cookies, String clientIp) {
+        this.tokenService = tokenService;
+        this.cookies = cookies;
+        this.clientIp = clientIp;
+    }
+
+    public static RequestAuthContext of(HttpServletRequest request, TokenService tokenService) {
+        if (request.getAttribute(ATTRIBUTE) instanceof RequestAuthContext context) {
+            return context;
+        }
+
+        RequestAuthContext context = new RequestAuthContext(tokenService, parseCookies(request), resolveClientIp(request));
+        request.setAttribute(ATTRIBUTE, context);
+        return context;
+    }
+
+    public String getCookie(String name) {
+        return cookies.get(name);
+    }
+
+    public String getAccessToken() {
+        return cookies.get(ACCESS_TOKEN_COOKIE);
+    }
+
+    public String getClientIp() {
+        return clientIp;
+    }
+
+    /**
+     * 액세스 토큰을 검증합니다. 같은 요청에서 두 번째 호출부터는 처음 결과를 그대로 돌려줍니다.
+     *
+     * @return 토큰이 없으면 null
+     * @throws GlobalCommonException 토큰이 유효하지 않을 때
+     */
+    public Authentication authenticate() {
+        if (!verified) {
+            verified = true;
+            String token = getAccessToken();
+
+            if (token != null) {
+                try {
+                    authentication = tokenService.authenticateAccess(token);
+                } catch (GlobalCommonException e) {
+                    failure = e;
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+
+        return authentication;
+    }
+
+    /**
+     * 검증에 성공한 사용자 이름(email). 토큰이 없거나 유효하지 않으면 empty
+     */
+    public Optional<String> findUsername() {
+        try {
+            return Optional.ofNullable(authenticate()).map(Authentication::getName);
+        } catch (GlobalCommonException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Map<String, String> parseCookies(HttpServletRequest request) {
+        Cookie[] requestCookies = request.getCookies();
+
+        if (requestCookies == null || requestCookies.length == 0) {
+            return Map.of();
+        }
+
+        Map<String, String> parsed = new HashMap<>(requestCookies.length * 2);
+        for (Cookie cookie : requestCookies) {
+            // WebUtils.getCookie처럼 같은 이름이 여러 개면 처음 것을 사용
+            parsed.putIfAbsent(cookie.getName(), cookie.getValue());
+        }
+
+        return parsed;
+    }
+
+    private static String resolveClientIp(HttpServletRequest request) {
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+
+        return forwardedFor != null && !forwardedFor.isBlank() ? forwardedFor : request.getRemoteAddr();
+    }
+}
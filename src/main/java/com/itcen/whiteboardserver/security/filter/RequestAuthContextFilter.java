@@ -0,0 +1,31 @@
+package com.itcen.whiteboardserver.security.filter;
+
+import com.itcen.whiteboardserver.auth.service.TokenService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 필터 체인 맨 앞에서 RequestAuthContext(쿠키, 클라이언트 IP)를 만들어 request에 붙입니다.
+ * 이후 필터와 WebSocket 핸드쉐이크는 쿠키를 다시 훑거나 토큰을 다시 검증하지 않고 이 값을 읽습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestAuthContextFilter extends OncePerRequestFilter {
+
+    private final TokenService tokenService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        RequestAuthContext.of(request, tokenService);
+        chain.doFilter(request, response);
+    }
+}
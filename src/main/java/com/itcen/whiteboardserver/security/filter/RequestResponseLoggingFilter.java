@@ -5,51 +5,105 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.list;
 
+/**
+ * 요청/응답을 로그로 남깁니다.
+ * DEBUG가 꺼져 있고 샘플링되지 않은 요청은 래핑하지 않고 그대로 통과시킵니다.
+ * 샘플링된 요청은 DEBUG가 꺼져 있어도 INFO로 남깁니다.
+ * 본문은 앞의 maxBodyBytes만 남기고, 쿠키/인증 헤더 값은 가립니다.
+ * 응답 본문은 모아 두지 않고 바로 클라이언트로 보내면서 앞부분만 복사합니다.
+ */
 @Component
 @Slf4j
 public class RequestResponseLoggingFilter extends OncePerRequestFilter {
+    private static final Set<String> REDACTED_HEADERS = Set.of("cookie", "authorization", "x-xsrf-token");
+
+    private final double sampleRate;
+    private final int maxBodyBytes;
+
+    public RequestResponseLoggingFilter(@Value("${logging.http.sample-rate:0}") double sampleRate,
+                                        @Value("${logging.http.max-body-bytes:4096}") int maxBodyBytes) {
+        this.sampleRate = sampleRate;
+        this.maxBodyBytes = maxBodyBytes;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain chain) throws ServletException, IOException {
+        boolean debug = log.isDebugEnabled();
+
+        if (!debug && !isSampled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
         // 래핑
-        var wrappedReq  = new ContentCachingRequestWrapper(request);
-        var wrappedRes  = new ContentCachingResponseWrapper(response);
+        var wrappedReq  = new ContentCachingRequestWrapper(request, maxBodyBytes);
+        var wrappedRes  = new BodyCapturingResponseWrapper(response, maxBodyBytes);
 
         long start = System.currentTimeMillis();
-        chain.doFilter(wrappedReq, wrappedRes);
+        try {
+            chain.doFilter(wrappedReq, wrappedRes);
+        } finally {
+            // writer에 남은 내용을 실제 응답으로 내보냄
+            wrappedRes.flush();
+        }
         long duration = System.currentTimeMillis() - start;
 
         // 요청 로그
-        String reqBody = new String(wrappedReq.getContentAsByteArray(), StandardCharsets.UTF_8);
+        String reqBody = toBodyString(wrappedReq.getContentAsByteArray(), request.getContentLengthLong());
         var headerNames = wrappedReq.getHeaderNames();
         String reqHeaders = headerNames != null ?
             list(headerNames).stream()
-                .map(name -> name + ": " + wrappedReq.getHeader(name))
+                .map(name -> name + ": " + redact(name, wrappedReq.getHeader(name)))
                 .collect(Collectors.joining(", "))
             : "";
-        log.debug("[REQUEST] {} {} headers=[{}] body=[{}]",
-                wrappedReq.getMethod(), wrappedReq.getRequestURI(),
-                reqHeaders, reqBody);
 
         // 응답 로그
-        String resBody = new String(wrappedRes.getContentAsByteArray(), StandardCharsets.UTF_8);
-        log.debug("[RESPONSE] status={} duration={}ms body=[{}]",
-                wrappedRes.getStatus(), duration, resBody);
+        String resBody = toBodyString(wrappedRes.getCapturedBody(), wrappedRes.getBodyLength());
+
+        if (debug) {
+            log.debug("[REQUEST] {} {} headers=[{}] body=[{}]",
+                    wrappedReq.getMethod(), wrappedReq.getRequestURI(), reqHeaders, reqBody);
+            log.debug("[RESPONSE] status={} duration={}ms body=[{}]",
+                    wrappedRes.getStatus(), duration, resBody);
+        } else {
+            log.info("[REQUEST] (sampled) {} {} headers=[{}] body=[{}]",
+                    wrappedReq.getMethod(), wrappedReq.getRequestURI(), reqHeaders, reqBody);
+            log.info("[RESPONSE] (sampled) status={} duration={}ms body=[{}]",
+                    wrappedRes.getStatus(), duration, resBody);
+        }
+    }
+
+    private boolean isSampled() {
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private String toBodyString(byte[] captured, long totalLength) {
+        String body = new String(captured, StandardCharsets.UTF_8);
+
+        // 앞부분만 남긴 경우 전체 크기를 함께 표시
+        if (totalLength > captured.length) {
+            return body + "...(" + totalLength + " bytes)";
+        }
+
+        return body;
+    }
 
-        // 복원해서 실제 전송
-        wrappedRes.copyBodyToResponse();
+    private static String redact(String headerName, String value) {
+        return REDACTED_HEADERS.contains(headerName.toLowerCase()) ? "[REDACTED]" : value;
     }
-}
\ No newline at end of file
+}
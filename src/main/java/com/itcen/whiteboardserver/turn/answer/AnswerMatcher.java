@@ -0,0 +1,210 @@
+package com.itcen.whiteboardserver.turn.answer;
+
+import com.itcen.whiteboardserver.common.executor.ScratchPool;
+
+import java.util.Arrays;
+
+/**
+ * 한 턴의 제시어로 한 번 만들어 두고, 채팅 메시지가 정답인지 판단합니다.
+ * 제시어는 공백 제거, 대소문자/전각 문자 통일, 한글 음절의 자모 분해를 거친 형태로 미리 저장합니다.
+ * 메시지도 같은 규칙으로 한 글자씩 변환하며 비교하므로 정답 판단에 문자열이나 정규식을 만들지 않습니다.
+ *
+ * <p>{@link #isClose(CharSequence)}는 자모 단위 편집 거리가 maxDistance 이하인 오답을 "정답에 가까움"으로 판단합니다.
+ * 자모 단위로 비교하므로 "사과"와 "사관"처럼 받침 하나가 다른 경우도 거리 1이 됩니다.</p>
+ */
+public final class AnswerMatcher {
+    private static final char SKIP = 0;
+    private static final char FULLWIDTH_FIRST = 0xFF01;
+    private static final char FULLWIDTH_LAST = 0xFF5E;
+    // 이보다 긴 메시지는 정답에 가까운지 계산하지 않음
+    private static final int MAX_CLOSE_MESSAGE_LENGTH = 100;
+    private static final int HANGUL_BASE = 0xAC00;
+    private static final int HANGUL_LAST = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+    private static final int SYLLABLE_PER_CHOSEONG = JUNGSEONG_COUNT * JONGSEONG_COUNT;
+    private static final char CHOSEONG_BASE = 0x1100;
+    private static final char JUNGSEONG_BASE = 0x1161;
+    private static final char JONGSEONG_BASE = 0x11A7;
+
+    private static final int MAX_IDLE_SCRATCH = 64;
+    private static final ScratchPool<Scratch> SCRATCH_POOL = new ScratchPool<>(Scratch::new, MAX_IDLE_SCRATCH);
+
+    private final char[] answer;
+    private final int maxDistance;
+
+    private AnswerMatcher(char[] answer, int maxDistance) {
+        this.answer = answer;
+        this.maxDistance = maxDistance;
+    }
+
+    /**
+     * @param maxDistance 정답에 가깝다고 판단할 최대 자모 편집 거리, 0이면 사용하지 않음
+     */
+    public static AnswerMatcher of(String quizWord, int maxDistance) {
+        char[] buffer = new char[quizWord.length() * 3];
+        int length = normalize(quizWord, buffer);
+
+        return new AnswerMatcher(Arrays.copyOf(buffer, length), maxDistance);
+    }
+
+    public boolean matches(CharSequence message) {
+        int position = 0;
+
+        for (int i = 0; i < message.length(); i++) {
+            char c = fold(message.charAt(i));
+            if (c == SKIP) {
+                continue;
+            }
+
+            if (isHangulSyllable(c)) {
+                int syllable = c - HANGUL_BASE;
+                int jongseong = syllable % JONGSEONG_COUNT;
+
+                if (position + (jongseong == 0 ? 2 : 3) > answer.length
+                        || answer[position++] != choseongOf(syllable)
+                        || answer[position++] != jungseongOf(syllable)
+                        || (jongseong != 0 && answer[position++] != (char) (JONGSEONG_BASE + jongseong))) {
+                    return false;
+                }
+            } else if (position >= answer.length || answer[position++] != c) {
+                return false;
+            }
+        }
+
+        return position == answer.length;
+    }
+
+    /**
+     * 정답은 아니지만 자모 편집 거리가 maxDistance 이하인지
+     */
+    public boolean isClose(CharSequence message) {
+        if (maxDistance <= 0 || message.length() > MAX_CLOSE_MESSAGE_LENGTH) {
+            return false;
+        }
+
+        Scratch scratch = SCRATCH_POOL.acquire();
+        try {
+            char[] normalized = scratch.message(message.length() * 3);
+            int length = normalize(message, normalized);
+
+            if (Math.abs(length - answer.length) > maxDistance) {
+                return false;
+            }
+
+            int distance = boundedDistance(normalized, length, scratch);
+            return distance > 0 && distance <= maxDistance;
+        } finally {
+            SCRATCH_POOL.release(scratch);
+        }
+    }
+
+    // maxDistance를 넘으면 maxDistance + 1을 반환하는 Levenshtein 거리
+    private int boundedDistance(char[] message, int length, Scratch scratch) {
+        int[] previous = scratch.previousRow(answer.length + 1);
+        int[] current = scratch.currentRow(answer.length + 1);
+
+        for (int j = 0; j <= answer.length; j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= length; i++) {
+            current[0] = i;
+            int rowMin = current[0];
+
+            for (int j = 1; j <= answer.length; j++) {
+                int cost = message[i - 1] == answer[j - 1] ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+
+            if (rowMin > maxDistance) {
+                return maxDistance + 1;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return previous[answer.length];
+    }
+
+    private static int normalize(CharSequence text, char[] buffer) {
+        int length = 0;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = fold(text.charAt(i));
+            if (c == SKIP) {
+                continue;
+            }
+
+            if (isHangulSyllable(c)) {
+                int syllable = c - HANGUL_BASE;
+                int jongseong = syllable % JONGSEONG_COUNT;
+
+                buffer[length++] = choseongOf(syllable);
+                buffer[length++] = jungseongOf(syllable);
+                if (jongseong != 0) {
+                    buffer[length++] = (char) (JONGSEONG_BASE + jongseong);
+                }
+            } else {
+                buffer[length++] = c;
+            }
+        }
+
+        return length;
+    }
+
+    // 공백은 SKIP, 전각 ASCII는 반각으로, 영문은 소문자로
+    private static char fold(char c) {
+        if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+            return SKIP;
+        }
+
+        if (c >= FULLWIDTH_FIRST && c <= FULLWIDTH_LAST) {
+            c = (char) (c - 0xFEE0);
+        }
+
+        return Character.toLowerCase(c);
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= HANGUL_BASE && c <= HANGUL_LAST;
+    }
+
+    private static char choseongOf(int syllable) {
+        return (char) (CHOSEONG_BASE + syllable / SYLLABLE_PER_CHOSEONG);
+    }
+
+    private static char jungseongOf(int syllable) {
+        return (char) (JUNGSEONG_BASE + (syllable % SYLLABLE_PER_CHOSEONG) / JONGSEONG_COUNT);
+    }
+
+    private static final class Scratch {
+        private char[] message = new char[64];
+        private int[] previous = new int[64];
+        private int[] current = new int[64];
+
+        private char[] message(int capacity) {
+            if (message.length < capacity) {
+                message = new char[capacity];
+            }
+            return message;
+        }
+
+        private int[] previousRow(int capacity) {
+            if (previous.length < capacity) {
+                previous = new int[capacity];
+            }
+            return previous;
+        }
+
+        private int[] currentRow(int capacity) {
+            if (current.length < capacity) {
+                current = new int[capacity];
+            }
+            return current;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 package com.itcen.whiteboardserver.turn.dto.response;
 
 public enum TurnResponseType {
-    TURN, DRAWER, CHAT, DRAW, FINISH, CORRECT, GAME_FINISH
+    TURN, DRAWER, CHAT, DRAW, DRAW_BATCH, DRAW_SNAPSHOT, FINISH, CORRECT, CLOSE_ANSWER, GAME_FINISH
 }
@@ -0,0 +1,6 @@
+package com.itcen.whiteboardserver.turn.dto.response.data;
+
+public record CloseAnswerData(
+        Long turnId
+) {
+}
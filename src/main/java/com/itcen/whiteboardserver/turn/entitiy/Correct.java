@@ -21,7 +21,8 @@ import java.time.LocalDateTime;
 @Builder
 public class Correct {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "correct_seq")
+    @SequenceGenerator(name = "correct_seq", sequenceName = "correct_seq", allocationSize = 50)
     private Long id; // 해당 턴에 정답 ID
 
     @ManyToOne(fetch = FetchType.LAZY)
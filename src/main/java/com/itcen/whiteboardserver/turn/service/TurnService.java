@@ -3,9 +3,10 @@ package com.itcen.whiteboardserver.turn.service;
 public interface TurnService {
     void startTurn(Long gameId);
 
-    void correct(Long gameId, Long memberId);
+    /**
+     * 해당 턴의 정답을 기록합니다. 이미 끝난 턴(시간 초과 등)이면 기록하지 않고 false를 반환합니다.
+     */
+    boolean correct(Long gameId, Long turnId, Long memberId);
 
-    boolean isAlreadyCorrect(Long gameId, Long memberId);
-
-    boolean turnOverIfPossible(Long gameId);
+    void turnOver(Long turnId);
 }
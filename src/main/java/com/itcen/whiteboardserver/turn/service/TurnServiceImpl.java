@@ -3,12 +3,18 @@ package com.itcen.whiteboardserver.turn.service;
 import com.itcen.whiteboardserver.common.broadcast.Broadcaster;
 import com.itcen.whiteboardserver.common.broadcast.dto.TurnBroadcastDto;
 import com.itcen.whiteboardserver.common.broadcast.dto.TurnUnicastDto;
+import com.itcen.whiteboardserver.common.transaction.AfterCommit;
+import com.itcen.whiteboardserver.draw.aggregator.StrokeAggregator;
+import com.itcen.whiteboardserver.draw.canvas.CanvasLogStore;
+import com.itcen.whiteboardserver.game.actor.GameActor;
 import com.itcen.whiteboardserver.game.entity.Game;
 import com.itcen.whiteboardserver.game.entity.GameParticipation;
 import com.itcen.whiteboardserver.game.entity.Room;
 import com.itcen.whiteboardserver.game.repository.GameParticipationRepository;
 import com.itcen.whiteboardserver.game.repository.GameRepository;
 import com.itcen.whiteboardserver.game.repository.RoomRepository;
+import com.itcen.whiteboardserver.game.score.GameScoreboard;
+import com.itcen.whiteboardserver.game.score.ScoreWriter;
 import com.itcen.whiteboardserver.game.session.GameSession;
 import com.itcen.whiteboardserver.member.entity.Member;
 import com.itcen.whiteboardserver.member.repository.MemberRepository;
@@ -20,6 +26,9 @@ import com.itcen.whiteboardserver.turn.entitiy.Turn;
 import com.itcen.whiteboardserver.turn.mapper.TurnMapper;
 import com.itcen.whiteboardserver.turn.repository.CorrectRepository;
 import com.itcen.whiteboardserver.turn.repository.TurnRepository;
+import com.itcen.whiteboardserver.turn.session.ActiveTurnRegistry;
+import com.itcen.whiteboardserver.turn.session.state.ActiveTurn;
+import com.itcen.whiteboardserver.turn.timer.TurnTimerService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationContext;
@@ -30,9 +39,12 @@ import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 @Transactional
@@ -50,8 +62,14 @@ public class TurnServiceImpl implements TurnService {
     final int TURN_SECONDS = 90;
     final PlatformTransactionManager transactionManager;
     final ApplicationContext applicationContext;
-    final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(5);
     final RoomRepository roomRepository;
+    final ActiveTurnRegistry activeTurnRegistry;
+    final CanvasLogStore canvasLogStore;
+    final TurnTimerService turnTimerService;
+    final GameActor gameActor;
+    final GameScoreboard gameScoreboard;
+    final ScoreWriter scoreWriter;
+    final StrokeAggregator strokeAggregator;
 
     @Override
     public void startTurn(Long gameId) {
@@ -77,25 +95,39 @@ public class TurnServiceImpl implements TurnService {
         turnRepository.flush();
         gameRepository.flush();
 
-        scheduler.schedule(() -> {
-            TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
-            txTemplate.execute(
-                    status -> {
-                        broadcastTurnInfo(turn.getId());
-                        sendDrawInfoToDrawer(turn.getId());
-
-                        return null;
-                    }
-            );
-        }, 500, TimeUnit.MILLISECONDS);
+        //롤백되면 메모리에 열린 턴과 타이머가 남지 않도록 커밋된 뒤에 등록
+        Long turnId = turn.getId();
+        String drawerEmail = turn.getMember().getEmail();
+        String quizWord = turn.getQuizWord();
+        Map<String, ActiveTurn.Participant> participants = getTurnParticipants(game);
+        AfterCommit.run(() -> {
+            canvasLogStore.open(turnId);
+            activeTurnRegistry.open(gameId, turnId, drawerEmail, quizWord, participants);
+
+            turnTimerService.schedule(turnId, 500, TimeUnit.MILLISECONDS, () -> {
+                TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
+                txTemplate.execute(
+                        status -> {
+                            broadcastTurnInfo(turnId);
+                            sendDrawInfoToDrawer(turnId);
+
+                            return null;
+                        }
+                );
+            });
 
-        scheduleTurnOver(turn.getId());
+            scheduleTurnOver(gameId, turnId);
+        });
     }
 
     @Override
-    public void correct(Long gameId, Long memberId) {
-        Game game = getGameByGameId(gameId);
-        Turn turn = game.getCurrentTurn();
+    public boolean correct(Long gameId, Long turnId, Long memberId) {
+        Turn turn = getTurnByTurnId(turnId);
+
+        //정답 처리보다 먼저 실행된 타이머가 턴을 끝냈으면 다음 턴에 기록하지 않고 버림
+        if (turn.getIsTurnOver() || !turn.getGame().getId().equals(gameId)) {
+            return false;
+        }
 
         Member member = memberRepository.findById(memberId).orElseThrow(
                 () -> new RuntimeException("해당하는 member가 존재하지 않습니다.")
@@ -107,59 +139,50 @@ public class TurnServiceImpl implements TurnService {
                 .build();
 
         correctRepository.save(correct);
-        broadcastCorrect(
-                new CorrectData(
-                        memberId,
-                        turn.getId(),
-                        game.getId()
-                )
-        );
-    }
 
-    @Override
-    public boolean isAlreadyCorrect(Long gameId, Long memberId) {
-        Game game = getGameByGameId(gameId);
-        Turn turn = game.getCurrentTurn();
-        Member member = getMemberByMemberId(memberId);
+        CorrectData correctData = new CorrectData(
+                memberId,
+                turnId,
+                gameId
+        );
+        AfterCommit.run(() -> broadcastCorrect(correctData));
 
-        return correctRepository.existsByTurnAndMember(turn, member);
+        return true;
     }
 
     @Override
-    public boolean turnOverIfPossible(Long gameId) {
-        Game game = getGameByGameId(gameId);
-        Turn turn = game.getCurrentTurn();
-
-        if (turn.getIsTurnOver()) {
-            throw new RuntimeException("이미 끝난 턴입니다.");
-        }
-
-        List<Correct> corrects = correctRepository.findAllByTurn(turn);
-        List<GameParticipation> participations = gameParticipationRepository.findAllByGame(game);
-
-        if (participations.size() - 1 != corrects.size()) {
-            return false;
-        }
-
-        doTurnOver(turn.getId());
-        return true;
+    public void turnOver(Long turnId) {
+        doTurnOver(turnId);
     }
 
-    private void scheduleTurnOver(Long turnId) {
-        scheduler.schedule(() -> {
+    private void scheduleTurnOver(Long gameId, Long turnId) {
+        //시간 초과 턴 종료도 채팅의 정답 처리와 같은 게임 mailbox에서 순서대로 실행
+        turnTimerService.schedule(turnId, TURN_SECONDS, TimeUnit.SECONDS, () -> gameActor.execute(gameId, () -> {
             TransactionTemplate txTemplate = new TransactionTemplate(transactionManager);
             txTemplate.execute(status -> {
                 doTurnOver(turnId);
 
                 return null;
             });
-        }, TURN_SECONDS, TimeUnit.SECONDS);
+        }));
     }
 
     private void quitGame(Game game) {
-        broadcastTurnScore(game, TurnResponseType.GAME_FINISH);
+        Long gameId = game.getId();
+        gameScoreboard.openIfAbsent(gameId, () -> getMemberScores(game));
+
+        //마지막 턴 점수를 반영하고 저장을 요청하는 콜백보다 뒤에 등록되므로, 그 저장이 끝난 뒤 최종 점수를 알리고 점수판을 닫음
+        AfterCommit.run(() -> {
+            scoreWriter.flush(gameId);
+
+            List<MemberScore> memberScores = gameScoreboard.getMemberScores(gameId);
+            broadcastTurnScore(gameId, TurnResponseType.GAME_FINISH, memberScores);
+            gameScoreboard.close(gameId);
 
-        gameSession.removeSession(game.getId());
+            gameSession.removeSession(gameId);
+            activeTurnRegistry.closeGame(gameId);
+            strokeAggregator.closeGame(gameId);
+        });
 
         game.thisTurnDown();
         game.quitGame();
@@ -203,7 +226,18 @@ public class TurnServiceImpl implements TurnService {
                 throw new RuntimeException("현재 게임의 턴과 해당 턴이 동일하지 않습니다.");
             }
 
-            finalizeTurnScore(turn);
+            //메모리의 턴과 타이머는 커밋된 뒤에 정리하고, 점수 계산에는 지금 상태를 그대로 사용
+            Long gameId = game.getId();
+            Optional<ActiveTurn> activeTurn = activeTurnRegistry.findActiveTurn(gameId)
+                    .filter(current -> current.turnId().equals(turnId));
+            AfterCommit.run(() -> {
+                activeTurnRegistry.close(gameId, turnId);
+                canvasLogStore.drop(turnId);
+                //정답으로 일찍 끝난 턴의 남은 타이머가 나중에 실행되지 않도록 취소
+                turnTimerService.cancel(turnId);
+            });
+
+            finalizeTurnScore(turn, activeTurn);
 
             game.thisTurnDown();
             gameRepository.save(game);
@@ -219,60 +253,79 @@ public class TurnServiceImpl implements TurnService {
         }
     }
 
-    private void finalizeTurnScore(Turn turn) {
+    private void finalizeTurnScore(Turn turn, Optional<ActiveTurn> activeTurn) {
         Game game = turn.getGame();
+        Long gameId = game.getId();
 
-        //정답자 점수
-        List<Correct> corrects = correctRepository.findAllByTurnOrderByCreatedAtDesc(turn);
-        int score = 10;
-        for (Correct correct : corrects) {
-            GameParticipation gameParticipation = gameParticipationRepository.findByGameAndMember(game, correct.getMember())
-                    .orElseThrow(
-                            () -> new RuntimeException("게임, 회원에 해당하는 게임 참가이력이 없습니다.")
-                    );
+        gameScoreboard.openIfAbsent(gameId, () -> getMemberScores(game));
 
-            gameParticipation.increaseScore(score);
+        //정답자 점수: 늦게 맞춘 정답자부터 10, 20, 30...
+        //트랜잭션 안에서는 점수만 계산하고, 점수판에는 커밋된 뒤에 반영
+        List<Long> correctMemberIds = activeTurn
+                .map(ActiveTurn::correctMemberIdsInOrder)
+                .orElseGet(() -> getCorrectMemberIds(turn));
+        Map<Long, Integer> awards = new LinkedHashMap<>();
+        int score = 10;
+        for (int i = correctMemberIds.size() - 1; i >= 0; i--) {
+            awards.merge(correctMemberIds.get(i), score, Integer::sum);
             score += 10;
         }
 
         //출제자 점수
-        int participationCnt = gameParticipationRepository.countByGame(game);
-        Member drawer = turn.getMember();
+        int participationCnt = gameScoreboard.getParticipantCount(gameId);
 
-        if (participationCnt - 1 == corrects.size()) {
+        if (participationCnt - 1 == correctMemberIds.size()) {
             int drawerScore = participationCnt / 2 * 10;
 
-            GameParticipation gameParticipation = gameParticipationRepository.findByGameAndMember(game, drawer).orElseThrow(
-                    () -> new RuntimeException("현재 게임, 출제자에 해당하는 게임 참여가 없습니다.")
-            );
-
-            gameParticipation.increaseScore(drawerScore);
+            awards.merge(turn.getMember().getId(), drawerScore, Integer::sum);
         }
 
-        broadcastTurnScore(game, TurnResponseType.FINISH);
+        //DB 반영은 기다리지 않고 점수판 기준으로 바로 브로드캐스트
+        AfterCommit.run(() -> {
+            awards.forEach((memberId, points) -> gameScoreboard.add(gameId, memberId, points));
+
+            List<MemberScore> memberScores = gameScoreboard.getMemberScores(gameId);
+            scoreWriter.write(gameId, memberScores);
+            broadcastTurnScore(gameId, TurnResponseType.FINISH, memberScores);
+        });
     }
 
-    private void broadcastTurnScore(Game game, TurnResponseType type) {
-        List<GameParticipation> gameParticipations = gameParticipationRepository.findAllByGame(game);
+    // 메모리에 턴 정보가 없을 때(서버 재시작 등) DB의 정답 기록을 맞춘 순서대로 가져옴
+    private List<Long> getCorrectMemberIds(Turn turn) {
+        List<Long> correctMemberIds = new ArrayList<>();
+
+        for (Correct correct : correctRepository.findAllByTurnOrderByCreatedAtDesc(turn)) {
+            correctMemberIds.add(correct.getMember().getId());
+        }
 
+        Collections.reverse(correctMemberIds);
+        return correctMemberIds;
+    }
+
+    private List<MemberScore> getMemberScores(Game game) {
         List<MemberScore> memberScores = new ArrayList<>();
-        for (GameParticipation gameParticipation : gameParticipations) {
+
+        for (GameParticipation gameParticipation : gameParticipationRepository.findAllByGame(game)) {
             memberScores.add(
                     new MemberScore(gameParticipation.getMember().getId(), gameParticipation.getScore())
             );
         }
 
+        return memberScores;
+    }
+
+    private void broadcastTurnScore(Long gameId, TurnResponseType type, List<MemberScore> memberScores) {
         TurnResponse<TurnQuitData> response = new TurnResponse<>(
                 type,
                 new TurnQuitData(
-                        game.getId(),
+                        gameId,
                         memberScores
                 )
         );
 
         broadcaster.broadcast(
                 TurnBroadcastDto.<TurnQuitData>builder()
-                        .destination("/topic/game/" + game.getId())
+                        .destination("/topic/game/" + gameId)
                         .data(response)
                         .build()
         );
@@ -328,6 +381,17 @@ public class TurnServiceImpl implements TurnService {
                 .build();
     }
 
+    private Map<String, ActiveTurn.Participant> getTurnParticipants(Game game) {
+        Map<String, ActiveTurn.Participant> participants = new HashMap<>();
+
+        for (GameParticipation gameParticipation : gameParticipationRepository.findAllByGame(game)) {
+            Member member = gameParticipation.getMember();
+            participants.put(member.getEmail(), new ActiveTurn.Participant(member.getId(), member.getNickname()));
+        }
+
+        return participants;
+    }
+
     private Member getMemberByMemberId(Long memberId) {
         return memberRepository.findById(memberId).orElseThrow(
                 () -> new RuntimeException("현재 memberId의 회원이 없습니다.")
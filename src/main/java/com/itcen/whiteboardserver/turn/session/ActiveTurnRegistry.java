@@ -0,0 +1,70 @@
+package com.itcen.whiteboardserver.turn.session;
+
+import com.itcen.whiteboardserver.turn.answer.AnswerMatcher;
+import com.itcen.whiteboardserver.turn.session.state.ActiveTurn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게임별로 현재 진행 중인 턴(턴 ID, 출제자, 제시어, 참가자, 정답자)을 메모리에 보관합니다.
+ * 그리기/채팅 요청마다 DB에서 턴과 참가자를 다시 조회하지 않도록 TurnService가 턴 시작/종료 시점에 갱신합니다.
+ */
+@Component
+public class ActiveTurnRegistry {
+    private final Map<Long, ActiveTurn> activeTurns = new ConcurrentHashMap<>();
+    private final int closeAnswerMaxDistance;
+
+    public ActiveTurnRegistry(@Value("${chat.close-answer.max-distance:1}") int closeAnswerMaxDistance) {
+        this.closeAnswerMaxDistance = closeAnswerMaxDistance;
+    }
+
+    public void open(Long gameId, Long turnId, String drawerEmail, String quizWord,
+                     Map<String, ActiveTurn.Participant> participants) {
+        activeTurns.put(gameId, new ActiveTurn(
+                turnId,
+                gameId,
+                drawerEmail,
+                AnswerMatcher.of(quizWord, closeAnswerMaxDistance),
+                Map.copyOf(participants),
+                //턴 종료 시 맞춘 순서대로 점수를 주기 위해 순서를 유지
+                Collections.synchronizedSet(new LinkedHashSet<>())
+        ));
+    }
+
+    /**
+     * 해당 턴이 현재 턴일 때만 닫고, 닫은 턴을 반환합니다.
+     */
+    public Optional<ActiveTurn> close(Long gameId, Long turnId) {
+        ActiveTurn activeTurn = activeTurns.get(gameId);
+
+        if (activeTurn == null || !activeTurn.turnId().equals(turnId) || !activeTurns.remove(gameId, activeTurn)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(activeTurn);
+    }
+
+    public void closeGame(Long gameId) {
+        activeTurns.remove(gameId);
+    }
+
+    public ActiveTurn getActiveTurn(Long gameId) {
+        ActiveTurn activeTurn = activeTurns.get(gameId);
+
+        if (activeTurn == null) {
+            throw new RuntimeException("현재 게임에 진행 중인 턴이 존재하지 않습니다.");
+        }
+
+        return activeTurn;
+    }
+
+    public Optional<ActiveTurn> findActiveTurn(Long gameId) {
+        return Optional.ofNullable(activeTurns.get(gameId));
+    }
+}
@@ -0,0 +1,64 @@
+package com.itcen.whiteboardserver.turn.session.state;
+
+import com.itcen.whiteboardserver.turn.answer.AnswerMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 진행 중인 턴의 상태입니다. 채팅마다 DB를 조회하지 않고 정답 여부와 턴 종료 여부를 판단하기 위해 사용합니다.
+ * 정답자 목록은 게임 mailbox 안에서만 변경합니다.
+ *
+ * @param answerMatcher    이번 턴 제시어로 만든 정답 판별기
+ * @param participants     참가자 email -> 참가자(출제자 포함)
+ * @param correctMemberIds 정답을 맞춘 순서대로 정렬된 정답자 ID
+ */
+public record ActiveTurn(
+        Long turnId,
+        Long gameId,
+        String drawerEmail,
+        AnswerMatcher answerMatcher,
+        Map<String, Participant> participants,
+        Set<Long> correctMemberIds
+) {
+    public boolean isDrawer(String email) {
+        return drawerEmail.equals(email);
+    }
+
+    public Optional<Participant> findParticipant(String email) {
+        return Optional.ofNullable(participants.get(email));
+    }
+
+    public boolean isAnswer(String message) {
+        return answerMatcher.matches(message);
+    }
+
+    public boolean isCloseAnswer(String message) {
+        return answerMatcher.isClose(message);
+    }
+
+    public boolean hasCorrected(Long memberId) {
+        return correctMemberIds.contains(memberId);
+    }
+
+    public boolean markCorrect(Long memberId) {
+        return correctMemberIds.add(memberId);
+    }
+
+    public List<Long> correctMemberIdsInOrder() {
+        synchronized (correctMemberIds) {
+            return new ArrayList<>(correctMemberIds);
+        }
+    }
+
+    // 출제자를 제외한 모든 참가자가 정답을 맞췄는지
+    public boolean isEveryoneCorrect() {
+        return correctMemberIds.size() >= participants.size() - 1;
+    }
+
+    public record Participant(Long memberId, String nickname) {
+    }
+}
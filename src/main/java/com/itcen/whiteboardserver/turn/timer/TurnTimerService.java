@@ -0,0 +1,134 @@
+package com.itcen.whiteboardserver.turn.timer;
+
+import com.itcen.whiteboardserver.common.executor.VirtualThreads;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 턴 타이머(턴 정보 전송, 시간 초과 턴 종료)를 hashed timing wheel로 관리합니다.
+ * 등록과 취소가 O(1)이라 게임 수가 많아도 타이머 스레드 하나로 처리할 수 있고,
+ * 턴별로 취소 핸들을 보관하여 턴이 일찍 끝나면 남은 타이머를 바로 취소합니다.
+ * wheel 스레드는 만료만 감지하고, 실제 작업(DB 트랜잭션)은 worker 스레드에서 실행합니다.
+ */
+@Slf4j
+@Component
+public class TurnTimerService {
+    private final HashedWheelTimer wheel;
+    private final Executor workers;
+    private final Map<Long, TurnTimers> timersByTurn = new ConcurrentHashMap<>();
+
+    public TurnTimerService(@Value("${turn.timer.tick-ms:100}") long tickMillis,
+                            @Value("${turn.timer.worker-threads:5}") int workerThreads,
+                            @Value("${virtual-threads.enabled:false}") boolean virtualThreads) {
+        this.wheel = new HashedWheelTimer(namedThreadFactory("turn-timer-wheel"), tickMillis, TimeUnit.MILLISECONDS, 512);
+        this.workers = VirtualThreads.isUsable(virtualThreads, "turn-timer-worker")
+                ? VirtualThreads.newExecutor("turn-timer-worker-")
+                : Executors.newFixedThreadPool(workerThreads, namedThreadFactory("turn-timer-worker"));
+    }
+
+    public void schedule(Long turnId, long delay, TimeUnit unit, Runnable task) {
+        while (true) {
+            TurnTimers timers = timersByTurn.computeIfAbsent(turnId, id -> new TurnTimers());
+
+            synchronized (timers) {
+                //이미 취소되었거나 비워져 제거된 핸들이면 새로 만듦
+                if (timers.closed) {
+                    continue;
+                }
+
+                timers.timeouts.add(wheel.newTimeout(expired -> {
+                    release(turnId, timers, expired);
+                    workers.execute(() -> run(turnId, task));
+                }, delay, unit));
+                return;
+            }
+        }
+    }
+
+    /**
+     * 턴에 등록된 아직 실행되지 않은 타이머를 모두 취소합니다.
+     */
+    public void cancel(Long turnId) {
+        TurnTimers timers = timersByTurn.remove(turnId);
+        if (timers == null) {
+            return;
+        }
+
+        synchronized (timers) {
+            timers.closed = true;
+            timers.timeouts.forEach(Timeout::cancel);
+            timers.timeouts.clear();
+        }
+    }
+
+    /**
+     * wheel에 남아 있는(만료/취소되지 않은) 타이머 수
+     */
+    public long getPendingTimerCount() {
+        return wheel.pendingTimeouts();
+    }
+
+    /**
+     * 타이머 핸들을 보관 중인 턴 수
+     */
+    public int getTrackedTurnCount() {
+        return timersByTurn.size();
+    }
+
+    @PreDestroy
+    void stop() {
+        wheel.stop();
+
+        if (workers instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private void release(Long turnId, TurnTimers timers, Timeout expired) {
+        synchronized (timers) {
+            timers.timeouts.remove(expired);
+
+            if (timers.timeouts.isEmpty() && !timers.closed) {
+                timers.closed = true;
+                timersByTurn.remove(turnId, timers);
+            }
+        }
+    }
+
+    private void run(Long turnId, Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("턴 타이머 작업 실패: turnId={}", turnId, e);
+        }
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class TurnTimers {
+        private final List<Timeout> timeouts = new ArrayList<>(2);
+        private boolean closed;
+    }
+}
@@ -0,0 +1,7 @@
+-- IDENTITY 컬럼에서 시퀀스(allocationSize 50)로 바꾼 테이블의 시퀀스를 기존 max(id) 뒤로 맞춤
+-- 시퀀스가 이미 max(id)보다 앞서 있으면 그대로 두므로 매 기동마다 실행해도 안전함 (뒤로 되돌리지 않음)
+SELECT setval('game_seq', t.max_id) FROM (SELECT MAX(id) AS max_id FROM game) t, game_seq s WHERE t.max_id > s.last_value OR (t.max_id IS NOT NULL AND NOT s.is_called);
+SELECT setval('turn_seq', t.max_id) FROM (SELECT MAX(id) AS max_id FROM turn) t, turn_seq s WHERE t.max_id > s.last_value OR (t.max_id IS NOT NULL AND NOT s.is_called);
+SELECT setval('correct_seq', t.max_id) FROM (SELECT MAX(id) AS max_id FROM correct) t, correct_seq s WHERE t.max_id > s.last_value OR (t.max_id IS NOT NULL AND NOT s.is_called);
+SELECT setval('room_participation_seq', t.max_id) FROM (SELECT MAX(id) AS max_id FROM room_participation) t, room_participation_seq s WHERE t.max_id > s.last_value OR (t.max_id IS NOT NULL AND NOT s.is_called);
+SELECT setval('game_participation_seq', t.max_id) FROM (SELECT MAX(id) AS max_id FROM game_participation) t, game_participation_seq s WHERE t.max_id > s.last_value OR (t.max_id IS NOT NULL AND NOT s.is_called);
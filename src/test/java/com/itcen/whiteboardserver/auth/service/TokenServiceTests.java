@@ -122,6 +122,47 @@ class TokenServiceTests {
                 .containsExactlyElementsOf(roles);
     }
 
+    @Test
+    @DisplayName("authenticateAccess: 같은 토큰은 검증 캐시의 Principal을 재사용")
+    void authenticateAccess_sameToken_reusesCachedPrincipal() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOps);
+        String accessToken = tokenService.issueTokens(
+                username, nickname, id, roles, profileColor.toString()
+        )[0].getValue();
+
+        // when
+        Authentication first = tokenService.authenticateAccess(accessToken);
+        Authentication second = tokenService.authenticateAccess(accessToken);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getPrincipal()).isSameAs(first.getPrincipal());
+        assertThat(second.getCredentials()).isEqualTo(accessToken);
+        assertThat(second.getAuthorities())
+                .extracting("authority")
+                .containsExactlyElementsOf(roles);
+    }
+
+    @Test
+    @DisplayName("authenticateAccess: 서명이 바뀐 토큰은 캐시와 상관없이 INVALID_ACCESS_TOKEN 예외")
+    void authenticateAccess_tamperedToken_throwsEvenAfterCaching() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOps);
+        String accessToken = tokenService.issueTokens(
+                username, nickname, id, roles, profileColor.toString()
+        )[0].getValue();
+        tokenService.authenticateAccess(accessToken);
+        String tampered = accessToken.substring(0, accessToken.length() - 2)
+                + (accessToken.endsWith("AA") ? "BB" : "AA");
+
+        // when & then
+        assertThatThrownBy(() -> tokenService.authenticateAccess(tampered))
+                .isInstanceOf(GlobalCommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(GlobalErrorCode.INVALID_ACCESS_TOKEN);
+    }
+
     @Test
     @DisplayName("rotateRefresh: null 토큰일 때 REFRESH_TOKEN_EXPIRED 예외")
     void rotateRefresh_nullToken_throws() {
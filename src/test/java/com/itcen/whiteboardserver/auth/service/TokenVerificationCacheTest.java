@@ -0,0 +1,76 @@
+package com.itcen.whiteboardserver.auth.service;
+
+import com.itcen.whiteboardserver.member.enums.MemberRole;
+import com.itcen.whiteboardserver.member.enums.ProfileColor;
+import com.itcen.whiteboardserver.security.principal.CustomPrincipal;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenVerificationCacheTest {
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final CustomPrincipal principal = new CustomPrincipal(
+            1L, "user@example.com", "nick", "", Set.of(MemberRole.MEMBER), ProfileColor.HOTPINK
+    );
+
+    @Test
+    void 만료_전에는_같은_토큰으로_찾고_다른_토큰으로는_찾지_않는다() {
+        TokenVerificationCache cache = new TokenVerificationCache(10, now::get);
+
+        cache.put("a.b.c", principal, 2_000);
+
+        assertThat(cache.get("a.b.c").principal()).isSameAs(principal);
+        assertThat(cache.get("a.b.d")).isNull();
+    }
+
+    @Test
+    void 만료_시각이_지나면_찾지_못하고_항목을_지운다() {
+        TokenVerificationCache cache = new TokenVerificationCache(10, now::get);
+        cache.put("a.b.c", principal, 2_000);
+
+        now.set(2_000);
+
+        assertThat(cache.get("a.b.c")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void 최대_크기를_넘으면_만료된_항목부터_지운다() {
+        TokenVerificationCache cache = new TokenVerificationCache(3, now::get);
+        cache.put("expiring", principal, 1_500);
+        cache.put("t1", principal, 5_000);
+        cache.put("t2", principal, 5_000);
+
+        now.set(1_500);
+        cache.put("t3", principal, 5_000);
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get("t1")).isNotNull();
+        assertThat(cache.get("t2")).isNotNull();
+        assertThat(cache.get("t3")).isNotNull();
+    }
+
+    @Test
+    void 만료된_항목이_없어도_최대_크기를_넘지_않는다() {
+        TokenVerificationCache cache = new TokenVerificationCache(100, now::get);
+
+        for (int i = 0; i < 1_000; i++) {
+            cache.put("token" + i, principal, 5_000);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    void 크기가_0이면_저장하지_않는다() {
+        TokenVerificationCache cache = new TokenVerificationCache(0, now::get);
+
+        cache.put("a.b.c", principal, 2_000);
+
+        assertThat(cache.get("a.b.c")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,105 @@
+package com.itcen.whiteboardserver.chatting.service;
+
+import com.itcen.whiteboardserver.chatting.dto.ChattingRequest;
+import com.itcen.whiteboardserver.common.broadcast.Broadcaster;
+import com.itcen.whiteboardserver.game.actor.GameActor;
+import com.itcen.whiteboardserver.game.session.GameSession;
+import com.itcen.whiteboardserver.member.repository.MemberRepository;
+import com.itcen.whiteboardserver.turn.service.TurnService;
+import com.itcen.whiteboardserver.turn.session.ActiveTurnRegistry;
+import com.itcen.whiteboardserver.turn.session.state.ActiveTurn;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ChattingServiceImplTest {
+    private static final Long GAME_ID = 1L;
+    private static final Long TURN_ID = 100L;
+
+    private GameSession gameSession;
+    private MemberRepository memberRepository;
+    private TurnService turnService;
+    private Broadcaster broadcaster;
+    private ActiveTurnRegistry activeTurnRegistry;
+    private ChattingServiceImpl chattingService;
+
+    @BeforeEach
+    void setUp() {
+        gameSession = mock(GameSession.class);
+        memberRepository = mock(MemberRepository.class);
+        turnService = mock(TurnService.class);
+        broadcaster = mock(Broadcaster.class);
+        activeTurnRegistry = new ActiveTurnRegistry(1);
+
+        chattingService = new ChattingServiceImpl(
+                gameSession, memberRepository, turnService, broadcaster, new GameActor(1, false), activeTurnRegistry
+        );
+
+        when(gameSession.isGamePlaying(GAME_ID)).thenReturn(true);
+        activeTurnRegistry.open(GAME_ID, TURN_ID, "drawer@test.com", "사과 나무", Map.of(
+                "drawer@test.com", new ActiveTurn.Participant(1L, "출제자"),
+                "a@test.com", new ActiveTurn.Participant(2L, "a"),
+                "b@test.com", new ActiveTurn.Participant(3L, "b")
+        ));
+    }
+
+    @Test
+    void 오답은_DB를_조회하지_않는다() {
+        chattingService.chat(new ChattingRequest(GAME_ID, "a@test.com", "바나나")).join();
+
+        verify(broadcaster).broadcast(any());
+        verifyNoInteractions(memberRepository, turnService);
+    }
+
+    @Test
+    void 정답은_기록하고_모두_맞추면_턴을_종료한다() {
+        when(turnService.correct(eq(GAME_ID), eq(TURN_ID), anyLong())).thenReturn(true);
+
+        chattingService.chat(new ChattingRequest(GAME_ID, "a@test.com", "사과나무")).join();
+        chattingService.chat(new ChattingRequest(GAME_ID, "b@test.com", "사과 나 무")).join();
+
+        verify(turnService, timeout(1000)).correct(GAME_ID, TURN_ID, 2L);
+        verify(turnService, timeout(1000)).correct(GAME_ID, TURN_ID, 3L);
+        verify(turnService, timeout(1000)).turnOver(TURN_ID);
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    void 타이머가_먼저_턴을_끝냈으면_모두_맞춰도_다시_턴을_종료하지_않는다() {
+        when(turnService.correct(eq(GAME_ID), eq(TURN_ID), anyLong())).thenReturn(false);
+
+        chattingService.chat(new ChattingRequest(GAME_ID, "a@test.com", "사과나무")).join();
+        chattingService.chat(new ChattingRequest(GAME_ID, "b@test.com", "사과나무")).join();
+
+        verify(turnService, timeout(1000)).correct(GAME_ID, TURN_ID, 3L);
+        verify(turnService, never()).turnOver(anyLong());
+    }
+
+    @Test
+    void 이미_정답을_맞춘_회원은_채팅할_수_없다() {
+        chattingService.chat(new ChattingRequest(GAME_ID, "a@test.com", "사과나무")).join();
+
+        CompletionException exception = Assertions.assertThrows(
+                CompletionException.class,
+                () -> chattingService.chat(new ChattingRequest(GAME_ID, "a@test.com", "안녕")).join()
+        );
+        Assertions.assertEquals("채팅 요청한 회원이 이미 정답을 맞춰 채팅이 금지됩니다.", exception.getCause().getMessage());
+    }
+
+    @Test
+    void 출제자는_채팅할_수_없다() {
+        Assertions.assertThrows(
+                CompletionException.class,
+                () -> chattingService.chat(new ChattingRequest(GAME_ID, "drawer@test.com", "사과나무")).join()
+        );
+        verifyNoInteractions(turnService);
+    }
+}
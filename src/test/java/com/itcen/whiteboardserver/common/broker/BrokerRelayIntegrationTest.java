@@ -0,0 +1,231 @@
+package com.itcen.whiteboardserver.common.broker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itcen.whiteboardserver.auth.service.TokenService;
+import com.itcen.whiteboardserver.common.broadcast.Broadcaster;
+import com.itcen.whiteboardserver.common.broadcast.dto.TurnBroadcastDto;
+import com.itcen.whiteboardserver.common.ratelimit.StompRateLimitChannelInterceptor;
+import com.itcen.whiteboardserver.config.BrokerRelayConfig;
+import com.itcen.whiteboardserver.config.WebSocketConfig;
+import com.itcen.whiteboardserver.draw.aggregator.StrokeAggregator;
+import com.itcen.whiteboardserver.draw.canvas.CanvasLogStore;
+import com.itcen.whiteboardserver.draw.canvas.CanvasReplayChannelInterceptor;
+import com.itcen.whiteboardserver.draw.dto.DrawDto;
+import com.itcen.whiteboardserver.draw.interceptor.BinaryDrawSubscriptions;
+import com.itcen.whiteboardserver.draw.interceptor.DrawEncodingChannelInterceptor;
+import com.itcen.whiteboardserver.turn.dto.response.TurnResponse;
+import com.itcen.whiteboardserver.turn.dto.response.TurnResponseType;
+import com.itcen.whiteboardserver.turn.session.ActiveTurnRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * 한 JVM 안에 노드 두 개(ApplicationContext)를 실제 WebSocketConfig/BrokerRelayConfig로 띄우고, Redis 대신 인메모리 중계 통로로 연결하여
+ * 로비와 사용자 큐 메시지는 다른 노드의 구독자에게 전달되고, 방/게임 토픽은 중계되지 않는지 브로커 채널 단위로 확인합니다.
+ * 구독 처리, 다른 노드로의 발행, 세션 전송이 모두 비동기이므로 결과를 기다린 뒤 확인합니다.
+ */
+class BrokerRelayIntegrationTest {
+    private static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private InMemoryBrokerRelayTransport transport;
+    private AnnotationConfigApplicationContext nodeA;
+    private AnnotationConfigApplicationContext nodeB;
+
+    @BeforeEach
+    void setUp() {
+        transport = new InMemoryBrokerRelayTransport();
+        nodeA = startNode(transport);
+        nodeB = startNode(transport);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void 로비_메시지는_다른_노드의_구독자도_한_번씩만_받는다() {
+        List<Message<?>> receivedOnA = subscribe(nodeA, "sessionA", "/topic/lobby");
+        List<Message<?>> receivedOnB = subscribe(nodeB, "sessionB", "/topic/lobby");
+
+        nodeA.getBean(SimpMessagingTemplate.class).convertAndSend("/topic/lobby", Map.of("roomCode", 1));
+        nodeB.getBean(SimpMessagingTemplate.class).convertAndSend("/topic/lobby", Map.of("roomCode", 2));
+
+        //각 노드는 자신의 브로커에서 한 번, 다른 노드에서 중계되어 한 번 받고, 자신이 보낸 메시지를 다시 받지 않음
+        await(() -> transport.getDelivered() == 2);
+        await(() -> receivedOnA.size() >= 2 && receivedOnB.size() >= 2);
+        Assertions.assertEquals(2, receivedOnA.size());
+        Assertions.assertEquals(2, receivedOnB.size());
+        Assertions.assertTrue(receivedOnB.stream().anyMatch(message -> payloadOf(message).contains("\"roomCode\":1")));
+        Assertions.assertTrue(receivedOnA.stream().anyMatch(message -> payloadOf(message).contains("\"roomCode\":2")));
+    }
+
+    @Test
+    void 사용자_큐_메시지는_사용자가_연결된_다른_노드에서_전달된다() {
+        connect(nodeB, "sessionB", "player@example.com");
+        List<Message<?>> receivedOnB = subscribe(nodeB, "sessionB", "/user/queue/match");
+
+        nodeA.getBean(SimpMessagingTemplate.class).convertAndSendToUser("player@example.com", "/queue/match", Map.of("type", "MATCHED"));
+
+        await(() -> receivedOnB.size() == 1);
+        Assertions.assertTrue(payloadOf(receivedOnB.get(0)).contains("MATCHED"));
+    }
+
+    @Test
+    void 방과_게임_토픽은_다른_노드로_중계하지_않는다() {
+        List<Message<?>> receivedOnB = subscribe(nodeB, "sessionB", "/topic/game/1/draw", "/topic/room/1", "/topic/lobby");
+
+        DrawDto stroke = new DrawDto(10L, "#000000", 3, List.of(new DrawDto.Point(1, 2)));
+        nodeA.getBean(Broadcaster.class).broadcast(
+                TurnBroadcastDto.<DrawDto>builder()
+                        .destination("/topic/game/1/draw")
+                        .data(new TurnResponse<>(TurnResponseType.DRAW, stroke))
+                        .build()
+        );
+        nodeA.getBean(SimpMessagingTemplate.class).convertAndSend("/topic/room/1", Map.of("roomCode", 1));
+        nodeA.getBean(SimpMessagingTemplate.class).convertAndSend("/topic/lobby", Map.of("roomCode", 1));
+
+        //중계는 보낸 순서대로 발행되므로 로비 메시지가 발행되었으면 앞선 메시지도 처리가 끝난 상태
+        await(() -> transport.getDelivered() >= 1);
+        await(() -> receivedOnB.size() >= 1);
+        Assertions.assertEquals(1, transport.getDelivered());
+        Assertions.assertEquals(1, receivedOnB.size());
+        Assertions.assertEquals("/topic/lobby", SimpMessageHeaderAccessor.getDestination(receivedOnB.get(0).getHeaders()));
+    }
+
+    private AnnotationConfigApplicationContext startNode(BrokerRelayTransport transport) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", Map.of(
+                "websocket.broker.mode", "redis",
+                "cors.allowed-origins", "://localhost:3000"
+        )));
+
+        context.registerBean(BrokerRelayTransport.class, () -> transport);
+        context.registerBean(TokenService.class, () -> mock(TokenService.class));
+        context.registerBean(StrokeAggregator.class, () -> mock(StrokeAggregator.class));
+        context.registerBean(ObjectMapper.class, ObjectMapper::new);
+        context.register(
+                WebSocketConfig.class, BrokerRelayConfig.class, Broadcaster.class,
+                StompRateLimitChannelInterceptor.class, DrawEncodingChannelInterceptor.class, BinaryDrawSubscriptions.class,
+                CanvasReplayChannelInterceptor.class, CanvasLogStore.class, ActiveTurnRegistry.class
+        );
+        context.refresh();
+        return context;
+    }
+
+    // STOMP CONNECT가 끝났을 때처럼 사용자 레지스트리에 세션을 등록
+    private void connect(AnnotationConfigApplicationContext node, String sessionId, String userName) {
+        Principal user = () -> userName;
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECTED);
+        accessor.setSessionId(sessionId);
+        accessor.setUser(user);
+        node.publishEvent(new SessionConnectedEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), user));
+    }
+
+    private List<Message<?>> subscribe(AnnotationConfigApplicationContext node, String sessionId, String... destinations) {
+        List<Message<?>> received = new CopyOnWriteArrayList<>();
+        node.getBean("clientOutboundChannel", AbstractSubscribableChannel.class).subscribe(message -> {
+            if (sessionId.equals(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()))) {
+                received.add(message);
+            }
+        });
+
+        AbstractSubscribableChannel clientInboundChannel = node.getBean("clientInboundChannel", AbstractSubscribableChannel.class);
+        for (int i = 0; i < destinations.length; i++) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+            accessor.setSessionId(sessionId);
+            accessor.setSessionAttributes(new HashMap<>());
+            accessor.setSubscriptionId("sub-" + i);
+            accessor.setDestination(destinations[i]);
+            accessor.setLeaveMutable(true);
+            clientInboundChannel.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+        }
+
+        //구독은 inbound 작업 스레드에서 등록되므로 브로커에 등록될 때까지 기다림
+        SimpleBrokerMessageHandler broker = node.getBean(SimpleBrokerMessageHandler.class);
+        for (String destination : destinations) {
+            String brokerDestination = destination.startsWith("/user/")
+                    ? destination.substring("/user".length()) + "-user" + sessionId
+                    : destination;
+            await(() -> broker.getSubscriptionRegistry().findSubscriptions(messageTo(brokerDestination)).containsKey(sessionId));
+        }
+
+        return received;
+    }
+
+    private static Message<byte[]> messageTo(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT_NANOS;
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                Assertions.fail("제한 시간 안에 조건을 만족하지 못했습니다.");
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                Assertions.fail(e);
+            }
+        }
+    }
+
+    private String payloadOf(Message<?> message) {
+        return new String((byte[]) message.getPayload(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Redis pub/sub 대신 사용하는 인프로세스 중계 통로. 발행한 노드를 포함한 모든 구독자에게 동기로 전달합니다.
+     */
+    static class InMemoryBrokerRelayTransport implements BrokerRelayTransport {
+        private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+        private final AtomicInteger delivered = new AtomicInteger();
+
+        @Override
+        public void publish(String envelope) {
+            listeners.forEach(listener -> listener.accept(envelope));
+            delivered.incrementAndGet();
+        }
+
+        @Override
+        public void subscribe(Consumer<String> listener) {
+            listeners.add(listener);
+        }
+
+        int getDelivered() {
+            return delivered.get();
+        }
+    }
+}
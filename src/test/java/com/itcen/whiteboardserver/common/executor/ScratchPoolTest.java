@@ -0,0 +1,45 @@
+package com.itcen.whiteboardserver.common.executor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ScratchPoolTest {
+
+    @Test
+    void 돌려받은_버퍼를_다른_스레드에서도_다시_사용한다() throws InterruptedException {
+        AtomicInteger created = new AtomicInteger();
+        ScratchPool<int[]> pool = new ScratchPool<>(() -> {
+            created.incrementAndGet();
+            return new int[16];
+        }, 4);
+
+        //호출마다 새 스레드를 사용 (virtual thread와 같은 조건)
+        for (int i = 0; i < 100; i++) {
+            Thread thread = new Thread(() -> pool.release(pool.acquire()));
+            thread.start();
+            thread.join();
+        }
+
+        Assertions.assertEquals(1, created.get());
+    }
+
+    @Test
+    void 보관_개수를_넘게_돌려받은_버퍼는_버린다() {
+        AtomicInteger created = new AtomicInteger();
+        ScratchPool<int[]> pool = new ScratchPool<>(() -> {
+            created.incrementAndGet();
+            return new int[16];
+        }, 1);
+
+        int[] first = pool.acquire();
+        int[] second = pool.acquire();
+        pool.release(first);
+        pool.release(second);
+
+        Assertions.assertSame(first, pool.acquire());
+        pool.acquire();
+        Assertions.assertEquals(3, created.get());
+    }
+}
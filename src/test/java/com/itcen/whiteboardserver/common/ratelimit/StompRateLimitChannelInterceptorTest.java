@@ -0,0 +1,139 @@
+package com.itcen.whiteboardserver.common.ratelimit;
+
+import com.itcen.whiteboardserver.common.ratelimit.StompRateLimitChannelInterceptor.Budget;
+import com.itcen.whiteboardserver.common.ratelimit.StompRateLimitChannelInterceptor.FrameCounts;
+import com.itcen.whiteboardserver.game.exception.ErrorResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class StompRateLimitChannelInterceptorTest {
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final AtomicLong now = new AtomicLong(0);
+
+    @Test
+    void 분류별로_한도를_따로_적용하고_넘긴_프레임은_버린_뒤_한_번만_알린다() {
+        StompRateLimitChannelInterceptor interceptor = new StompRateLimitChannelInterceptor(messagingTemplate, true, Map.of(
+                InboundFrameType.DRAW, new Budget(3, 1),
+                InboundFrameType.CHAT, new Budget(2, 1),
+                InboundFrameType.CONTROL, new Budget(1, 1)
+        ), now::get);
+
+        int allowedDraws = 0;
+        for (int i = 0; i < 5; i++) {
+            if (interceptor.preSend(frame(StompCommand.SEND, "s1", "/app/game/7/draw"), channel) != null) {
+                allowedDraws++;
+            }
+        }
+
+        assertThat(allowedDraws).isEqualTo(3);
+        assertThat(interceptor.preSend(frame(StompCommand.SEND, "s1", "/app/game/7/chat"), channel)).isNotNull();
+        assertThat(interceptor.preSend(frame(StompCommand.SEND, "s2", "/app/game/7/draw"), channel)).isNotNull();
+        assertThat(interceptor.preSend(frame(StompCommand.CONNECT, "s1", null), channel)).isNotNull();
+
+        assertThat(interceptor.getCounters()).containsEntry("/app/game/{id}/draw", new FrameCounts(4, 2));
+        verify(messagingTemplate, times(1)).convertAndSendToUser(eq("s1@example.com"), eq("/queue/errors"), any(ErrorResponse.class));
+    }
+
+    @Test
+    void 시간이_지나면_다시_보낼_수_있고_DISCONNECT하면_세션_상태를_지운다() {
+        StompRateLimitChannelInterceptor interceptor = new StompRateLimitChannelInterceptor(messagingTemplate, true, Map.of(
+                InboundFrameType.DRAW, new Budget(1, 10),
+                InboundFrameType.CHAT, new Budget(1, 10),
+                InboundFrameType.CONTROL, new Budget(1, 10)
+        ), now::get);
+
+        assertThat(interceptor.preSend(frame(StompCommand.SEND, "s1", "/app/room/join"), channel)).isNotNull();
+        assertThat(interceptor.preSend(frame(StompCommand.SUBSCRIBE, "s1", "/topic/room/1"), channel)).isNull();
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(interceptor.preSend(frame(StompCommand.SUBSCRIBE, "s1", "/topic/room/1"), channel)).isNotNull();
+
+        interceptor.preSend(frame(StompCommand.DISCONNECT, "s1", null), channel);
+        assertThat(interceptor.getSessionCount()).isZero();
+    }
+
+    @Test
+    void 한_세션이_그리기_프레임을_쏟아내도_다른_세션의_메시지는_그_뒤에_밀리지_않는다() {
+        List<String> unlimited = handledSessionsInOrder(false);
+        List<String> limited = handledSessionsInOrder(true);
+
+        // 한도가 없으면 폭주한 프레임 2,000개가 모두 처리 대기열에 들어가 victim 채팅보다 먼저 처리됨
+        assertThat(Collections.frequency(unlimited, "flooder")).isEqualTo(2_000);
+        assertThat(unlimited.indexOf("victim")).isEqualTo(2_000);
+
+        // 한도가 있으면 capacity만큼만 대기열에 들어가고 나머지는 보낸 스레드에서 바로 버려짐
+        assertThat(Collections.frequency(limited, "flooder")).isEqualTo(20);
+        assertThat(Collections.frequency(limited, "victim")).isEqualTo(20);
+        assertThat(limited.indexOf("victim")).isEqualTo(20);
+    }
+
+    /**
+     * inbound 채널의 처리 스레드 대신 대기열에 처리 작업을 쌓아 두고,
+     * flooder 세션이 그리기 프레임 2,000개를 보낸 뒤 victim 세션이 채팅 20개를 보냅니다.
+     * 시계는 멈춰 있으므로 보내는 동안 토큰이 다시 채워지지 않습니다.
+     *
+     * @return 쌓인 작업을 순서대로 실행했을 때 handler에 도달한 프레임의 세션 ID
+     */
+    private List<String> handledSessionsInOrder(boolean enabled) {
+        StompRateLimitChannelInterceptor interceptor = new StompRateLimitChannelInterceptor(messagingTemplate, enabled, Map.of(
+                InboundFrameType.DRAW, new Budget(20, 20),
+                InboundFrameType.CHAT, new Budget(50, 50),
+                InboundFrameType.CONTROL, new Budget(10, 10)
+        ), now::get);
+
+        Queue<Runnable> pending = new ArrayDeque<>();
+        ExecutorSubscribableChannel inbound = new ExecutorSubscribableChannel(pending::add);
+        inbound.addInterceptor(interceptor);
+
+        List<String> handled = new ArrayList<>();
+        inbound.subscribe(message -> handled.add(StompHeaderAccessor.wrap(message).getSessionId()));
+
+        for (int i = 0; i < 2_000; i++) {
+            inbound.send(frame(StompCommand.SEND, "flooder", "/app/game/1/draw"));
+        }
+        for (int i = 0; i < 20; i++) {
+            inbound.send(frame(StompCommand.SEND, "victim", "/app/game/1/chat"));
+        }
+
+        Runnable task;
+        while ((task = pending.poll()) != null) {
+            task.run();
+        }
+
+        return handled;
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String sessionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        accessor.setUser(() -> sessionId + "@example.com");
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,167 @@
+package com.itcen.whiteboardserver.draw.aggregator;
+
+import com.itcen.whiteboardserver.common.broadcast.Broadcaster;
+import com.itcen.whiteboardserver.common.broadcast.dto.TurnBroadcastDto;
+import com.itcen.whiteboardserver.draw.canvas.CanvasLogStore;
+import com.itcen.whiteboardserver.draw.dto.DrawDto;
+import com.itcen.whiteboardserver.draw.interceptor.BinaryDrawSubscriptions;
+import com.itcen.whiteboardserver.draw.simplify.StrokeSimplifier;
+import com.itcen.whiteboardserver.turn.dto.response.TurnResponseType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class StrokeAggregatorTest {
+    private Broadcaster broadcaster;
+    private BinaryDrawSubscriptions binaryDrawSubscriptions;
+    private CanvasLogStore canvasLogStore;
+    private StrokeAggregator strokeAggregator;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = mock(Broadcaster.class);
+        binaryDrawSubscriptions = new BinaryDrawSubscriptions();
+        canvasLogStore = new CanvasLogStore(1024 * 1024);
+        // tick 스케줄러는 시작하지 않고 flush를 직접 호출
+        strokeAggregator = new StrokeAggregator(broadcaster, canvasLogStore, binaryDrawSubscriptions, new StrokeSimplifier(0), 16, 256);
+    }
+
+    @Test
+    void 이어지는_선분은_하나의_선으로_합쳐서_한번만_전송한다() {
+        binaryDrawSubscriptions.subscribe("session-1", "sub-0", 1L);
+        for (int i = 0; i < 50; i++) {
+            strokeAggregator.append(1L, segment(10L, i, i + 1));
+        }
+
+        strokeAggregator.flush(1L);
+
+        ArgumentCaptor<TurnBroadcastDto> captor = ArgumentCaptor.forClass(TurnBroadcastDto.class);
+        verify(broadcaster, times(1)).broadcast(captor.capture());
+        verify(broadcaster, times(1)).broadcastBinary(anyString(), any(), any());
+
+        TurnBroadcastDto<?> sent = captor.getValue();
+        Assertions.assertEquals(TurnResponseType.DRAW, sent.data().type());
+        Assertions.assertEquals(51, ((DrawDto) sent.data().data()).points().size());
+    }
+
+    @Test
+    void 이어_붙인_선을_전송_직전에_단순화하고_점_개수는_게임이_끝날_때까지_누적한다() {
+        StrokeAggregator simplifying = new StrokeAggregator(
+                broadcaster, canvasLogStore, binaryDrawSubscriptions, new StrokeSimplifier(1.0), 16, 256
+        );
+        for (int i = 0; i < 50; i++) {
+            simplifying.append(1L, segment(10L, i, i + 1));
+        }
+
+        simplifying.flush(1L);
+
+        ArgumentCaptor<TurnBroadcastDto> captor = ArgumentCaptor.forClass(TurnBroadcastDto.class);
+        verify(broadcaster, times(1)).broadcast(captor.capture());
+        Assertions.assertEquals(
+                List.of(new DrawDto.Point(0, 0), new DrawDto.Point(50, 50)),
+                ((DrawDto) captor.getValue().data().data()).points()
+        );
+        Assertions.assertEquals(new StrokeSimplifier.PointStats(51, 2), simplifying.getStats(1L));
+
+        // 그리기가 멈춰 버퍼가 제거되어도 점 개수는 남고, 다음 선부터 이어서 누적
+        for (int i = 0; i < 100; i++) {
+            simplifying.flushAll();
+        }
+        simplifying.append(1L, segment(10L, 100, 101));
+        simplifying.flush(1L);
+        Assertions.assertEquals(new StrokeSimplifier.PointStats(53, 4), simplifying.getStats(1L));
+
+        simplifying.closeGame(1L);
+        Assertions.assertEquals(new StrokeSimplifier.PointStats(0, 0), simplifying.getStats(1L));
+    }
+
+    @Test
+    void 묶지_않고_바로_전송해도_게임별_점_개수를_누적한다() {
+        StrokeAggregator immediate = new StrokeAggregator(
+                broadcaster, canvasLogStore, binaryDrawSubscriptions, new StrokeSimplifier(1.0), 0, 256
+        );
+
+        immediate.append(1L, new DrawDto(10L, "#000000", 3,
+                List.of(new DrawDto.Point(0, 0), new DrawDto.Point(1, 1), new DrawDto.Point(2, 2))));
+        immediate.append(2L, segment(20L, 0, 1));
+
+        verify(broadcaster, times(2)).broadcast(any());
+        Assertions.assertEquals(new StrokeSimplifier.PointStats(3, 2), immediate.getStats(1L));
+        Assertions.assertEquals(new StrokeSimplifier.PointStats(2, 2), immediate.getStats(2L));
+    }
+
+    @Test
+    void 끊어진_선분은_배치_프레임으로_전송한다() {
+        strokeAggregator.append(1L, segment(10L, 0, 1));
+        strokeAggregator.append(1L, segment(10L, 100, 101));
+
+        strokeAggregator.flush(1L);
+
+        ArgumentCaptor<TurnBroadcastDto> captor = ArgumentCaptor.forClass(TurnBroadcastDto.class);
+        verify(broadcaster, times(1)).broadcast(captor.capture());
+        Assertions.assertEquals(TurnResponseType.DRAW_BATCH, captor.getValue().data().type());
+        Assertions.assertEquals(2, ((List<?>) captor.getValue().data().data()).size());
+    }
+
+    @Test
+    void 전송하는_프레임에는_캔버스_로그의_순번을_붙인다() {
+        canvasLogStore.open(10L);
+
+        strokeAggregator.append(1L, segment(10L, 0, 1));
+        strokeAggregator.flush(1L);
+        strokeAggregator.append(1L, segment(10L, 100, 101));
+        strokeAggregator.flush(1L);
+
+        ArgumentCaptor<TurnBroadcastDto> captor = ArgumentCaptor.forClass(TurnBroadcastDto.class);
+        verify(broadcaster, times(2)).broadcast(captor.capture());
+        Assertions.assertEquals(1L, captor.getAllValues().get(0).headers().get(CanvasLogStore.SEQUENCE_HEADER));
+        Assertions.assertEquals(2L, captor.getAllValues().get(1).headers().get(CanvasLogStore.SEQUENCE_HEADER));
+        Assertions.assertEquals(2L, canvasLogStore.snapshot(10L).orElseThrow().sequence());
+    }
+
+    @Test
+    void 바이너리_구독자가_없는_게임은_바이너리_프레임을_만들지_않는다() {
+        binaryDrawSubscriptions.subscribe("session-1", "sub-0", 1L);
+        binaryDrawSubscriptions.subscribe("session-2", "sub-0", 2L);
+        binaryDrawSubscriptions.unsubscribe("session-1", "sub-0");
+        binaryDrawSubscriptions.disconnect("session-2");
+
+        strokeAggregator.append(1L, segment(10L, 0, 1));
+        strokeAggregator.append(2L, segment(20L, 0, 1));
+        strokeAggregator.flush(1L);
+        strokeAggregator.flush(2L);
+
+        verify(broadcaster, times(2)).broadcast(any());
+        verify(broadcaster, never()).broadcastBinary(anyString(), any(), any());
+    }
+
+    @Test
+    void 최대_점_개수를_넘으면_tick을_기다리지_않고_전송한다() {
+        StrokeAggregator small = new StrokeAggregator(broadcaster, new CanvasLogStore(1024 * 1024), binaryDrawSubscriptions, new StrokeSimplifier(0), 16, 10);
+
+        for (int i = 0; i < 20; i++) {
+            small.append(1L, segment(10L, i, i + 1));
+        }
+
+        verify(broadcaster, times(2)).broadcast(any());
+    }
+
+    @Test
+    void 턴이_바뀌면_이전_턴의_선분을_먼저_전송한다() {
+        strokeAggregator.append(1L, segment(10L, 0, 1));
+        strokeAggregator.append(1L, segment(11L, 0, 1));
+
+        verify(broadcaster, times(1)).broadcast(any());
+    }
+
+    private DrawDto segment(Long turnId, int from, int to) {
+        return new DrawDto(turnId, "#000000", 3, List.of(new DrawDto.Point(from, from), new DrawDto.Point(to, to)));
+    }
+}
@@ -0,0 +1,87 @@
+package com.itcen.whiteboardserver.draw.canvas;
+
+import com.itcen.whiteboardserver.draw.dto.DrawDto;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class CanvasLogTest {
+    private static final int MAX_BYTES = 1024 * 1024;
+
+    @Test
+    void 이어지는_선은_스냅샷에서_하나로_합쳐진다() {
+        CanvasLog canvasLog = new CanvasLog(MAX_BYTES);
+
+        canvasLog.append(new DrawDto(1L, "#000000", 3, List.of(new DrawDto.Point(0, 0), new DrawDto.Point(1, 1))));
+        canvasLog.append(new DrawDto(1L, "#000000", 3, List.of(new DrawDto.Point(1, 1), new DrawDto.Point(2, 2))));
+        canvasLog.append(new DrawDto(1L, "#12AB34", 5, List.of(new DrawDto.Point(9, 9))));
+
+        List<DrawDto> snapshot = canvasLog.snapshot(1L);
+
+        Assertions.assertEquals(2, snapshot.size());
+        Assertions.assertEquals(
+                List.of(new DrawDto.Point(0, 0), new DrawDto.Point(1, 1), new DrawDto.Point(2, 2)),
+                snapshot.get(0).points()
+        );
+        Assertions.assertEquals("#12AB34", snapshot.get(1).color());
+        Assertions.assertEquals(5, snapshot.get(1).width());
+    }
+
+    @Test
+    void 턴당_로그_메모리는_최대_크기를_넘지_않는다() {
+        CanvasLog canvasLog = new CanvasLog(MAX_BYTES);
+
+        //점 100개짜리 선 하나 = int 3 + 200개 = 812byte, 1MB면 약 1290개까지 기록됨
+        List<DrawDto.Point> points = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            points.add(new DrawDto.Point(i, i));
+        }
+
+        int appended = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (canvasLog.append(new DrawDto(1L, "#000000", 3, points))) {
+                appended++;
+            }
+        }
+
+        Assertions.assertTrue(canvasLog.isTruncated());
+        Assertions.assertEquals(MAX_BYTES / 812, appended);
+        Assertions.assertTrue(canvasLog.memoryBytes() <= MAX_BYTES);
+    }
+
+    @Test
+    void 스냅샷은_반영한_마지막_선_묶음의_순번과_함께_읽는다() {
+        CanvasLogStore store = new CanvasLogStore(MAX_BYTES);
+        store.open(1L);
+
+        Assertions.assertEquals(1, store.append(1L, List.of(new DrawDto(1L, "#000000", 3, List.of(new DrawDto.Point(0, 0))))));
+        Assertions.assertEquals(2, store.append(1L, List.of(new DrawDto(1L, "#000000", 3, List.of(new DrawDto.Point(5, 5))))));
+
+        CanvasLogStore.CanvasSnapshot snapshot = store.snapshot(1L).orElseThrow();
+        Assertions.assertEquals(2, snapshot.sequence());
+        Assertions.assertEquals(2, snapshot.strokes().size());
+
+        // 이후 묶음은 스냅샷보다 큰 순번을 받음
+        Assertions.assertEquals(3, store.append(1L, List.of(new DrawDto(1L, "#000000", 3, List.of(new DrawDto.Point(9, 9))))));
+        Assertions.assertEquals(0, store.append(2L, List.of(new DrawDto(2L, "#000000", 3, List.of(new DrawDto.Point(0, 0))))));
+    }
+
+    @Test
+    void 열리지_않은_턴의_선은_기록하지_않는다() {
+        CanvasLogStore store = new CanvasLogStore(MAX_BYTES);
+        DrawDto stroke = new DrawDto(1L, "#000000", 3, List.of(new DrawDto.Point(0, 0)));
+
+        store.append(1L, List.of(stroke));
+        Assertions.assertTrue(store.snapshot(1L).isEmpty());
+
+        store.open(1L);
+        store.append(1L, List.of(stroke));
+        Assertions.assertEquals(1, store.snapshot(1L).orElseThrow().strokes().size());
+
+        store.drop(1L);
+        store.append(1L, List.of(stroke));
+        Assertions.assertTrue(store.snapshot(1L).isEmpty());
+    }
+}
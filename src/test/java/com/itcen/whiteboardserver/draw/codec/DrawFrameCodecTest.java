@@ -0,0 +1,51 @@
+package com.itcen.whiteboardserver.draw.codec;
+
+import com.itcen.whiteboardserver.draw.dto.DrawDto;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class DrawFrameCodecTest {
+
+    @Test
+    void 바이너리_인코딩_후_디코딩하면_원본과_같다() {
+        DrawDto first = new DrawDto(
+                7L,
+                "#ff5733",
+                5,
+                List.of(new DrawDto.Point(100, 200), new DrawDto.Point(98, 203), new DrawDto.Point(-5, 0))
+        );
+        DrawDto second = new DrawDto(7L, "rgba(1, 2, 3, 0.5)", 12, List.of(new DrawDto.Point(3000, 4000)));
+
+        byte[] frame = DrawFrameCodec.encode(7L, List.of(first, second));
+        DrawFrameCodec.DrawFrame decoded = DrawFrameCodec.decode(frame);
+
+        Assertions.assertEquals(7L, decoded.turnId());
+        Assertions.assertEquals(2, decoded.strokes().size());
+        Assertions.assertEquals("#FF5733", decoded.strokes().get(0).color());
+        Assertions.assertEquals(first.points(), decoded.strokes().get(0).points());
+        Assertions.assertEquals(second, decoded.strokes().get(1));
+    }
+
+    @Test
+    void 인접한_좌표는_점당_2바이트로_인코딩된다() {
+        List<DrawDto.Point> points = List.of(
+                new DrawDto.Point(0, 0), new DrawDto.Point(1, -1), new DrawDto.Point(2, -2), new DrawDto.Point(3, -3)
+        );
+
+        byte[] frame = DrawFrameCodec.encode(1L, List.of(new DrawDto(1L, "#000000", 3, points)));
+
+        // header(magic, version, turnId, strokeCount) 4 + color 1 + width 1 + pointCount 1 + 점 4개 * 2
+        Assertions.assertEquals(4 + 3 + points.size() * 2, frame.length);
+    }
+
+    @Test
+    void 팔레트에_없는_색상_인덱스는_잘못된_프레임으로_처리한다() {
+        byte[] frame = DrawFrameCodec.encode(1L, List.of(new DrawDto(1L, "#000000", 3, List.of(new DrawDto.Point(0, 0)))));
+        // header 4바이트 다음이 색상 인덱스
+        frame[4] = (byte) 100;
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DrawFrameCodec.decode(frame));
+    }
+}
@@ -0,0 +1,59 @@
+package com.itcen.whiteboardserver.draw.simplify;
+
+import com.itcen.whiteboardserver.draw.dto.DrawDto;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class StrokeSimplifierTest {
+
+    @Test
+    void 직선_위의_점은_양_끝만_남는다() {
+        StrokeSimplifier simplifier = new StrokeSimplifier(1.0);
+
+        DrawDto result = simplifier.simplify(stroke(line(100)));
+
+        Assertions.assertEquals(List.of(new DrawDto.Point(0, 0), new DrawDto.Point(99, 99)), result.points());
+    }
+
+    @Test
+    void 허용_오차보다_먼_꼭짓점은_유지된다() {
+        StrokeSimplifier simplifier = new StrokeSimplifier(1.0);
+        List<DrawDto.Point> points = List.of(
+                new DrawDto.Point(0, 0),
+                new DrawDto.Point(5, 0),
+                new DrawDto.Point(10, 0),
+                new DrawDto.Point(10, 5),
+                new DrawDto.Point(10, 10)
+        );
+
+        DrawDto result = simplifier.simplify(stroke(points));
+
+        Assertions.assertEquals(
+                List.of(new DrawDto.Point(0, 0), new DrawDto.Point(10, 0), new DrawDto.Point(10, 10)),
+                result.points()
+        );
+    }
+
+    @Test
+    void 허용_오차가_0이면_그대로_전달된다() {
+        StrokeSimplifier simplifier = new StrokeSimplifier(0);
+        DrawDto drawDto = stroke(line(10));
+
+        Assertions.assertSame(drawDto, simplifier.simplify(drawDto));
+    }
+
+    private DrawDto stroke(List<DrawDto.Point> points) {
+        return new DrawDto(1L, "#000000", 3, points);
+    }
+
+    private List<DrawDto.Point> line(int count) {
+        List<DrawDto.Point> points = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            points.add(new DrawDto.Point(i, i));
+        }
+        return points;
+    }
+}
@@ -0,0 +1,111 @@
+package com.itcen.whiteboardserver.game.actor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class GameActorTest {
+    private final GameActor gameActor = new GameActor(4, false);
+
+    @AfterEach
+    void tearDown() {
+        gameActor.stop();
+    }
+
+    @Test
+    void 같은_게임의_작업은_넣은_순서대로_하나씩_실행한다() {
+        List<Integer> executed = new ArrayList<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+
+        for (int i = 0; i < 500; i++) {
+            int order = i;
+            results.add(gameActor.submit(1L, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                executed.add(order);
+                running.decrementAndGet();
+                return null;
+            }));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+
+        Assertions.assertEquals(1, maxRunning.get());
+        for (int i = 0; i < 500; i++) {
+            Assertions.assertEquals(i, executed.get(i));
+        }
+    }
+
+    @Test
+    void 한_게임의_작업이_블로킹되어도_다른_게임은_다른_worker에서_실행한다() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> blocked = gameActor.submit(1L, () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+
+        Assertions.assertEquals("done", gameActor.call(2L, () -> "done"));
+        Assertions.assertFalse(blocked.isDone());
+
+        release.countDown();
+        blocked.join();
+    }
+
+    @Test
+    void 같은_게임의_작업_안에서_다시_요청하면_기다리지_않고_바로_실행한다() {
+        GameActor singleWorker = new GameActor(1, false);
+        try {
+            String result = singleWorker.call(1L, () -> singleWorker.call(1L, () -> "inner") + "-outer");
+
+            Assertions.assertEquals("inner-outer", result);
+        } finally {
+            singleWorker.stop();
+        }
+    }
+
+    @Test
+    void 작업의_예외는_호출한_쪽으로_전달된다() {
+        CompletableFuture<Object> failed = gameActor.submit(1L, () -> {
+            throw new IllegalStateException("작업 실패");
+        });
+
+        CompletionException completionException = Assertions.assertThrows(CompletionException.class, failed::join);
+        Assertions.assertEquals("작업 실패", completionException.getCause().getMessage());
+
+        IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class,
+                () -> gameActor.run(1L, () -> {
+                    throw new IllegalStateException("작업 실패");
+                }));
+        Assertions.assertEquals("작업 실패", exception.getMessage());
+
+        //실패한 작업 뒤의 작업도 계속 실행
+        Assertions.assertEquals(1, gameActor.call(1L, () -> 1));
+    }
+
+    @Test
+    void 작업이_모두_끝난_게임의_mailbox는_제거한다() throws InterruptedException {
+        for (long gameId = 0; gameId < 100; gameId++) {
+            gameActor.execute(gameId, () -> {
+            });
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (gameActor.getMailboxCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        Assertions.assertEquals(0, gameActor.getMailboxCount());
+    }
+}
@@ -0,0 +1,108 @@
+package com.itcen.whiteboardserver.game.entity;
+
+import com.itcen.whiteboardserver.member.entity.Member;
+import com.itcen.whiteboardserver.member.enums.AuthProvider;
+import com.itcen.whiteboardserver.member.enums.MemberRole;
+import com.itcen.whiteboardserver.member.enums.ProfileColor;
+import com.itcen.whiteboardserver.turn.entitiy.Correct;
+import com.itcen.whiteboardserver.turn.entitiy.Turn;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게임 시작 시 참가자 등록이 참가자 수와 무관하게 batch insert 한 번으로 처리되는지 Hibernate 통계로 확인합니다.
+ */
+class GameParticipationBatchInsertTest {
+    private static final int PARTICIPANT_COUNT = 8;
+
+    private SessionFactory sessionFactory;
+    private List<Member> members;
+
+    @BeforeEach
+    void setUp() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting("hibernate.connection.url", "jdbc:h2:mem:batch;DB_CLOSE_DELAY=-1")
+                .applySetting("hibernate.hbm2ddl.auto", "create-drop")
+                .applySetting("hibernate.generate_statistics", "true")
+                .applySetting("hibernate.jdbc.batch_size", "50")
+                .applySetting("hibernate.order_inserts", "true")
+                .build();
+
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(Member.class)
+                .addAnnotatedClass(Room.class)
+                .addAnnotatedClass(RoomParticipation.class)
+                .addAnnotatedClass(Game.class)
+                .addAnnotatedClass(GameParticipation.class)
+                .addAnnotatedClass(Turn.class)
+                .addAnnotatedClass(Correct.class)
+                .buildMetadata()
+                .buildSessionFactory();
+
+        members = new ArrayList<>();
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < PARTICIPANT_COUNT; i++) {
+                Member member = member(i);
+                session.persist(member);
+                members.add(member);
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void 참가자_등록은_참가자_수와_무관하게_한_번의_batch로_저장된다() {
+        //시퀀스 pool을 미리 할당받은 상태에서 측정
+        startGame();
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        startGame();
+
+        Assertions.assertEquals(PARTICIPANT_COUNT + 1, statistics.getEntityInsertCount());
+        //게임 INSERT 1번 + 참가자 batch INSERT 1번
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    private void startGame() {
+        sessionFactory.inTransaction(session -> {
+            Game game = new Game(null, null, Game.GameStatus.NOT_STARTED);
+            session.persist(game);
+
+            for (Member member : members) {
+                session.persist(new GameParticipation(null, game, session.getReference(member), 0));
+            }
+        });
+    }
+
+    private Member member(int i) {
+        LocalDateTime now = LocalDateTime.now();
+
+        return Member.builder()
+                .nickname("닉네임" + i)
+                .email("member" + i + "@test.com")
+                .password("password")
+                .profileColor(ProfileColor.BLUE)
+                .memberRole(Set.of(MemberRole.MEMBER))
+                .provider(AuthProvider.LOCAL)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.itcen.whiteboardserver.game.lobby;
+
+import com.itcen.whiteboardserver.game.dto.response.LobbyPageResponse;
+import com.itcen.whiteboardserver.game.dto.response.LobbyRoomResponse;
+import com.itcen.whiteboardserver.game.dto.response.LobbyUpdateType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class LobbyIndexTest {
+
+    @Test
+    void 방_목록은_최신순으로_cursor를_따라_나눠서_조회된다() {
+        LobbyIndex index = new LobbyIndex();
+        for (long roomCode = 1; roomCode <= 5; roomCode++) {
+            index.put(room(roomCode, 1));
+        }
+
+        LobbyPageResponse first = index.getPage(null, 2);
+        LobbyPageResponse second = index.getPage(first.nextCursor(), 2);
+        LobbyPageResponse last = index.getPage(second.nextCursor(), 2);
+
+        Assertions.assertEquals(List.of(5L, 4L), roomCodes(first));
+        Assertions.assertEquals(List.of(3L, 2L), roomCodes(second));
+        Assertions.assertEquals(List.of(1L), roomCodes(last));
+        Assertions.assertNull(last.nextCursor());
+    }
+
+    @Test
+    void 바뀐_내용이_있을_때만_변경분을_반환한다() {
+        LobbyIndex index = new LobbyIndex();
+
+        Assertions.assertEquals(LobbyUpdateType.ADDED, index.put(room(1L, 1)).orElseThrow().type());
+        Assertions.assertTrue(index.update(room(1L, 1)).isEmpty());
+        Assertions.assertEquals(LobbyUpdateType.UPDATED, index.update(room(1L, 2)).orElseThrow().type());
+        Assertions.assertEquals(LobbyUpdateType.REMOVED, index.remove(1L).orElseThrow().type());
+        Assertions.assertTrue(index.remove(1L).isEmpty());
+    }
+
+    @Test
+    void 로비에_없는_방은_갱신하지_않는다() {
+        LobbyIndex index = new LobbyIndex();
+
+        Assertions.assertTrue(index.update(room(1L, 2)).isEmpty());
+        Assertions.assertEquals(0, index.size());
+    }
+
+    private LobbyRoomResponse room(Long roomCode, int participantCount) {
+        return new LobbyRoomResponse(roomCode, "방장" + roomCode, participantCount);
+    }
+
+    private List<Long> roomCodes(LobbyPageResponse page) {
+        return page.rooms().stream().map(LobbyRoomResponse::roomCode).toList();
+    }
+}
@@ -0,0 +1,133 @@
+package com.itcen.whiteboardserver.game.match;
+
+import com.itcen.whiteboardserver.game.constant.GameConstants;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가상의 참가자들을 대기열에 넣고 tick을 돌려, 방 인원 제한과 중복 매칭 여부, 대기 시간 분포를 확인합니다.
+ */
+class MatchmakerSimulationTest {
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+    private static final long FILL_WAIT_NANOS = TimeUnit.SECONDS.toNanos(3);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<List<MatchTicket>> groups = Collections.synchronizedList(new ArrayList<>());
+    private final Matchmaker matchmaker = new Matchmaker(
+            GameConstants.MIN_PARTICIPANTS,
+            GameConstants.MAX_PARTICIPANTS,
+            FILL_WAIT_NANOS,
+            clock::get,
+            groups::add
+    );
+
+    @Test
+    void 가상_참가자들은_인원_제한_안에서_한_번씩만_매칭된다() {
+        Random random = new Random(42);
+        Set<String> cancelled = new HashSet<>();
+        int enqueued = 0;
+
+        // 100초 동안 tick마다 0~40명 입장, 일부는 취소
+        for (int tick = 0; tick < 500; tick++) {
+            int arrivals = random.nextInt(41);
+            for (int i = 0; i < arrivals; i++) {
+                String email = "player" + enqueued++ + "@test.com";
+                matchmaker.enqueue(email);
+                if (random.nextInt(100) < 5 && matchmaker.cancel(email)) {
+                    cancelled.add(email);
+                }
+            }
+
+            clock.addAndGet(TICK_NANOS);
+            matchmaker.tick();
+        }
+
+        // 남은 인원도 대기 시간을 넘기면 매칭
+        clock.addAndGet(FILL_WAIT_NANOS);
+        matchmaker.tick();
+
+        Set<String> matched = new HashSet<>();
+        int fullGroups = 0;
+        for (List<MatchTicket> group : groups) {
+            Assertions.assertTrue(group.size() >= GameConstants.MIN_PARTICIPANTS);
+            Assertions.assertTrue(group.size() <= GameConstants.MAX_PARTICIPANTS);
+            if (group.size() == GameConstants.MAX_PARTICIPANTS) {
+                fullGroups++;
+            }
+            for (MatchTicket ticket : group) {
+                Assertions.assertTrue(matched.add(ticket.memberEmail()), "중복 매칭: " + ticket.memberEmail());
+                Assertions.assertFalse(cancelled.contains(ticket.memberEmail()));
+            }
+        }
+
+        Assertions.assertEquals(enqueued, matched.size() + cancelled.size() + matchmaker.getWaitingCount());
+        Assertions.assertTrue(matchmaker.getWaitingCount() < GameConstants.MIN_PARTICIPANTS);
+        Assertions.assertEquals(matched.size(), matchmaker.getTimeToMatch().getCount());
+        // 입장이 꾸준하면 대부분 꽉 찬 방으로 매칭
+        Assertions.assertTrue(fullGroups >= groups.size() * 0.9, "full=" + fullGroups + ", groups=" + groups.size());
+        Assertions.assertTrue(matchmaker.getTimeToMatch().getPercentileMillis(99) <= TimeUnit.NANOSECONDS.toMillis(FILL_WAIT_NANOS) * 2);
+    }
+
+    @Test
+    void 인원이_모자라면_대기_시간을_넘긴_뒤에_매칭된다() {
+        matchmaker.enqueue("a@test.com");
+        matchmaker.enqueue("b@test.com");
+        matchmaker.enqueue("c@test.com");
+
+        clock.addAndGet(TICK_NANOS);
+        Assertions.assertEquals(0, matchmaker.tick());
+
+        clock.addAndGet(FILL_WAIT_NANOS);
+        Assertions.assertEquals(1, matchmaker.tick());
+        Assertions.assertEquals(3, groups.get(0).size());
+        Assertions.assertEquals("a@test.com", groups.get(0).get(0).memberEmail());
+    }
+
+    @Test
+    void 이미_대기_중이면_다시_등록할_수_없다() {
+        Assertions.assertTrue(matchmaker.enqueue("a@test.com"));
+        Assertions.assertFalse(matchmaker.enqueue("a@test.com"));
+        Assertions.assertTrue(matchmaker.cancel("a@test.com"));
+        Assertions.assertTrue(matchmaker.enqueue("a@test.com"));
+    }
+
+    @Test
+    void 여러_스레드에서_동시에_등록해도_모두_한_번씩_매칭된다() throws Exception {
+        int threads = 8;
+        int perThread = 6_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    matchmaker.enqueue("player" + thread + "-" + i + "@test.com");
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        boolean done = false;
+        while (!done) {
+            done = futures.stream().allMatch(Future::isDone);
+            matchmaker.tick();
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        matchmaker.tick();
+
+        long matched = groups.stream().mapToLong(List::size).sum();
+        Assertions.assertEquals((long) threads * perThread, matched);
+        Assertions.assertEquals(threads * perThread / GameConstants.MAX_PARTICIPANTS, groups.size());
+    }
+}
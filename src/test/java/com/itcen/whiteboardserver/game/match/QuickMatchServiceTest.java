@@ -0,0 +1,43 @@
+package com.itcen.whiteboardserver.game.match;
+
+import com.itcen.whiteboardserver.game.exception.QuickMatchException;
+import com.itcen.whiteboardserver.game.service.RoomService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import static org.mockito.Mockito.*;
+
+class QuickMatchServiceTest {
+    private final RoomService roomService = mock(RoomService.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    //tick이 테스트 중에 돌지 않도록 주기를 길게 둠
+    private final QuickMatchService quickMatchService = new QuickMatchService(roomService, messagingTemplate, 60_000, 3_000, 1);
+
+    @AfterEach
+    void tearDown() {
+        quickMatchService.stop();
+    }
+
+    @Test
+    void 이미_방에_참여_중이면_빠른_매칭_대기열에_들어갈_수_없다() {
+        when(roomService.isInRoom("a@test.com")).thenReturn(true);
+
+        QuickMatchException exception = Assertions.assertThrows(QuickMatchException.class,
+                () -> quickMatchService.enqueue("a@test.com"));
+
+        Assertions.assertEquals("이미 참여 중인 방이 있습니다.", exception.getMessage());
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    void 이미_대기_중이면_다시_대기열에_들어갈_수_없다() {
+        quickMatchService.enqueue("a@test.com");
+
+        QuickMatchException exception = Assertions.assertThrows(QuickMatchException.class,
+                () -> quickMatchService.enqueue("a@test.com"));
+
+        Assertions.assertEquals("이미 빠른 매칭 대기 중입니다.", exception.getMessage());
+    }
+}
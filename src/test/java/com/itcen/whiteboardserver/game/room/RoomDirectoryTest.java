@@ -0,0 +1,120 @@
+package com.itcen.whiteboardserver.game.room;
+
+import com.itcen.whiteboardserver.game.constant.GameConstants;
+import com.itcen.whiteboardserver.game.repository.RoomParticipationRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class RoomDirectoryTest {
+    private static final int JOIN_COUNT = 5_000;
+
+    @Test
+    void 동시에_참여해도_최대_인원을_넘지_않는다() throws Exception {
+        RoomDirectory directory = new RoomDirectory(mock(RoomParticipationRepository.class));
+        directory.open(1L, 0L);
+
+        List<RoomDirectory.JoinResult> results = joinConcurrently(directory, 1L, JOIN_COUNT);
+
+        long admitted = results.stream().filter(result -> result == RoomDirectory.JoinResult.ADMITTED).count();
+        Assertions.assertEquals(GameConstants.MAX_PARTICIPANTS - 1, admitted);
+        Assertions.assertEquals(GameConstants.MAX_PARTICIPANTS, directory.getSeatCount(1L));
+    }
+
+    @Test
+    void 참여와_나가기가_섞여도_최대_인원을_넘지_않는다() throws Exception {
+        RoomDirectory directory = new RoomDirectory(mock(RoomParticipationRepository.class));
+        directory.open(1L, 0L);
+        AtomicInteger maxSeatCount = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (long memberId = 1; memberId <= JOIN_COUNT; memberId++) {
+            long id = memberId;
+            futures.add(executor.submit(() -> {
+                start.await();
+                if (directory.join(1L, id) == RoomDirectory.JoinResult.ADMITTED) {
+                    maxSeatCount.accumulateAndGet(directory.getSeatCount(1L), Math::max);
+                    directory.leave(1L, id);
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        Assertions.assertTrue(maxSeatCount.get() <= GameConstants.MAX_PARTICIPANTS);
+        Assertions.assertEquals(1, directory.getSeatCount(1L));
+    }
+
+    @Test
+    void 이미_참여한_회원은_다시_참여할_수_없다() {
+        RoomDirectory directory = new RoomDirectory(mock(RoomParticipationRepository.class));
+        directory.open(1L, 0L);
+
+        Assertions.assertEquals(RoomDirectory.JoinResult.ADMITTED, directory.join(1L, 1L));
+        Assertions.assertEquals(RoomDirectory.JoinResult.ALREADY_JOINED, directory.join(1L, 1L));
+    }
+
+    @Test
+    void 마지막_참가자가_나가면_방을_지우고_다시_참여하면_DB에서_채운다() {
+        RoomParticipationRepository repository = mock(RoomParticipationRepository.class);
+        when(repository.findMemberIdsByRoomId(anyLong())).thenReturn(List.of());
+        RoomDirectory directory = new RoomDirectory(repository);
+        directory.open(1L, 0L);
+
+        directory.leave(1L, 0L);
+        Assertions.assertEquals(0, directory.getRoomCount());
+
+        Assertions.assertEquals(RoomDirectory.JoinResult.ADMITTED, directory.join(1L, 1L));
+        verify(repository, times(1)).findMemberIdsByRoomId(1L);
+    }
+
+    @Test
+    void 방_생성이_커밋된_뒤_등록하기_전에_참여한_좌석은_덮어쓰지_않는다() {
+        RoomParticipationRepository repository = mock(RoomParticipationRepository.class);
+        when(repository.findMemberIdsByRoomId(1L)).thenReturn(List.of(0L));
+        RoomDirectory directory = new RoomDirectory(repository);
+
+        Assertions.assertEquals(RoomDirectory.JoinResult.ADMITTED, directory.join(1L, 1L));
+        directory.open(1L, 0L);
+
+        Assertions.assertEquals(2, directory.getSeatCount(1L));
+        Assertions.assertEquals(RoomDirectory.JoinResult.ALREADY_JOINED, directory.join(1L, 1L));
+    }
+
+    private List<RoomDirectory.JoinResult> joinConcurrently(RoomDirectory directory, Long roomId, int count) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<RoomDirectory.JoinResult>> futures = new ArrayList<>();
+
+        for (long memberId = 1; memberId <= count; memberId++) {
+            long id = memberId;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return directory.join(roomId, id);
+            }));
+        }
+
+        start.countDown();
+        List<RoomDirectory.JoinResult> results = new ArrayList<>();
+        for (Future<RoomDirectory.JoinResult> future : futures) {
+            results.add(future.get(10, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        return results;
+    }
+}
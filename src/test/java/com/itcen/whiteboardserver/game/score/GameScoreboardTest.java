@@ -0,0 +1,89 @@
+package com.itcen.whiteboardserver.game.score;
+
+import com.itcen.whiteboardserver.turn.dto.response.data.MemberScore;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GameScoreboardTest {
+
+    @Test
+    void 점수는_참가_순서대로_누적된다() {
+        GameScoreboard scoreboard = new GameScoreboard();
+        scoreboard.open(1L, List.of(10L, 20L, 30L));
+
+        scoreboard.add(1L, 20L, 10);
+        scoreboard.add(1L, 20L, 20);
+        scoreboard.add(1L, 30L, 10);
+
+        Assertions.assertEquals(
+                List.of(new MemberScore(10L, 0), new MemberScore(20L, 30), new MemberScore(30L, 10)),
+                scoreboard.getMemberScores(1L)
+        );
+        Assertions.assertEquals(3, scoreboard.getParticipantCount(1L));
+    }
+
+    @Test
+    void 점수판이_없으면_DB_점수로_채운다() {
+        GameScoreboard scoreboard = new GameScoreboard();
+
+        scoreboard.openIfAbsent(1L, () -> List.of(new MemberScore(10L, 40)));
+        scoreboard.openIfAbsent(1L, () -> Assertions.fail("이미 열린 점수판을 다시 읽으면 안 됩니다."));
+        scoreboard.add(1L, 10L, 10);
+
+        Assertions.assertEquals(List.of(new MemberScore(10L, 50)), scoreboard.getMemberScores(1L));
+    }
+
+    @Test
+    void 닫힌_점수판에는_점수를_더할_수_없다() {
+        GameScoreboard scoreboard = new GameScoreboard();
+        scoreboard.open(1L, List.of(10L));
+        scoreboard.close(1L);
+
+        Assertions.assertThrows(RuntimeException.class, () -> scoreboard.add(1L, 10L, 10));
+    }
+
+    @Test
+    void 점수는_게임마다_한_번의_batch_update로_저장된다() throws InterruptedException {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        ScoreWriter scoreWriter = new ScoreWriter(jdbcTemplate);
+        List<MemberScore> memberScores = List.of(new MemberScore(10L, 30), new MemberScore(20L, 0));
+
+        scoreWriter.write(1L, memberScores);
+        scoreWriter.stop();
+
+        verify(jdbcTemplate, times(1)).batchUpdate(
+                startsWith("UPDATE game_participation"),
+                eq(memberScores),
+                eq(2),
+                any(ParameterizedPreparedStatementSetter.class)
+        );
+    }
+
+    @Test
+    void flush는_게임의_남은_점수_저장이_끝날_때까지_기다린다() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        ScoreWriter scoreWriter = new ScoreWriter(jdbcTemplate);
+        List<MemberScore> memberScores = List.of(new MemberScore(10L, 30));
+        doAnswer(invocation -> {
+            Thread.sleep(100);
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+
+        scoreWriter.write(1L, memberScores);
+        scoreWriter.flush(1L);
+
+        verify(jdbcTemplate, times(1)).batchUpdate(
+                startsWith("UPDATE game_participation"),
+                eq(memberScores),
+                eq(1),
+                any(ParameterizedPreparedStatementSetter.class)
+        );
+    }
+}
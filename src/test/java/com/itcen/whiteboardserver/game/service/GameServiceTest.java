@@ -0,0 +1,144 @@
+package com.itcen.whiteboardserver.game.service;
+
+import com.itcen.whiteboardserver.game.dto.request.GameStartRequest;
+import com.itcen.whiteboardserver.game.entity.Game;
+import com.itcen.whiteboardserver.game.entity.Room;
+import com.itcen.whiteboardserver.game.entity.RoomParticipation;
+import com.itcen.whiteboardserver.game.repository.GameParticipationRepository;
+import com.itcen.whiteboardserver.game.repository.GameRepository;
+import com.itcen.whiteboardserver.game.repository.RoomParticipationRepository;
+import com.itcen.whiteboardserver.game.repository.RoomRepository;
+import com.itcen.whiteboardserver.game.score.GameScoreboard;
+import com.itcen.whiteboardserver.game.session.GameSession;
+import com.itcen.whiteboardserver.member.entity.Member;
+import com.itcen.whiteboardserver.member.repository.MemberRepository;
+import com.itcen.whiteboardserver.quiz.QuizService;
+import com.itcen.whiteboardserver.turn.service.TurnService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 트랜잭션은 TransactionSynchronizationManager로 직접 열고, 커밋/롤백 콜백을 호출해 흉내 냅니다.
+ */
+class GameServiceTest {
+    private static final Long GAME_ID = 1L;
+    private static final Long ROOM_ID = 10L;
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final RoomParticipationRepository roomParticipationRepository = mock(RoomParticipationRepository.class);
+    private final GameRepository gameRepository = mock(GameRepository.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final GameSession gameSession = mock(GameSession.class);
+    private final QuizService quizService = mock(QuizService.class);
+    private final TurnService turnService = mock(TurnService.class);
+    private final GameScoreboard gameScoreboard = new GameScoreboard();
+
+    private GameService gameService;
+
+    @BeforeEach
+    void setUp() {
+        gameService = new GameService(
+                memberRepository,
+                roomRepository,
+                roomParticipationRepository,
+                gameRepository,
+                mock(GameParticipationRepository.class),
+                messagingTemplate,
+                gameSession,
+                quizService,
+                turnService,
+                gameScoreboard,
+                mock(ApplicationEventPublisher.class),
+                mock(PlatformTransactionManager.class)
+        );
+
+        Member host = Member.builder().id(1L).email("host@test.com").nickname("방장").build();
+        Member guest = Member.builder().id(2L).email("guest@test.com").nickname("참가자").build();
+        Room room = new Room(ROOM_ID, "방", host, null, Room.RoomStatus.WAITING, null);
+
+        when(memberRepository.findByEmail("host@test.com")).thenReturn(Optional.of(host));
+        when(roomRepository.findById(ROOM_ID)).thenReturn(Optional.of(room));
+        when(roomParticipationRepository.findByRoomId(ROOM_ID)).thenReturn(List.of(
+                new RoomParticipation(1L, room, host),
+                new RoomParticipation(2L, room, guest)
+        ));
+        when(gameRepository.save(any())).thenReturn(new Game(GAME_ID, null, Game.GameStatus.NOT_STARTED));
+        when(quizService.getQuizWords(2)).thenReturn(List.of("사과", "바나나"));
+
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 게임_시작이_롤백되면_게임_세션과_점수판을_만들지_않는다() {
+        gameService.startGame(new GameStartRequest(ROOM_ID), "host@test.com");
+
+        rollback();
+
+        verify(gameSession, never()).createSession(anyLong(), any());
+        verifyNoInteractions(messagingTemplate, turnService);
+        Assertions.assertThrows(RuntimeException.class, () -> gameScoreboard.getMemberScores(GAME_ID));
+    }
+
+    @Test
+    void 게임_시작이_커밋되면_게임_세션과_점수판을_만든_뒤_첫_턴을_시작한다() {
+        gameService.startGame(new GameStartRequest(ROOM_ID), "host@test.com");
+
+        verify(gameSession, never()).createSession(anyLong(), any());
+        verifyNoInteractions(turnService);
+
+        commit();
+
+        verify(gameSession).createSession(eq(GAME_ID), any());
+        Assertions.assertEquals(2, gameScoreboard.getParticipantCount(GAME_ID));
+        verify(messagingTemplate).convertAndSend(eq("/topic/room/" + ROOM_ID), any(Object.class));
+        verify(turnService).startTurn(GAME_ID);
+    }
+
+    @Test
+    void 첫_턴_시작에_실패하면_게임_세션과_점수판을_정리한다() {
+        doThrow(new RuntimeException("턴 시작 실패")).when(turnService).startTurn(GAME_ID);
+        gameService.startGame(new GameStartRequest(ROOM_ID), "host@test.com");
+
+        Assertions.assertThrows(RuntimeException.class, GameServiceTest::commit);
+
+        verify(gameSession).removeSession(GAME_ID);
+        Assertions.assertThrows(RuntimeException.class, () -> gameScoreboard.getMemberScores(GAME_ID));
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private static void rollback() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_ROLLED_BACK);
+    }
+}
@@ -0,0 +1,77 @@
+package com.itcen.whiteboardserver.game.service;
+
+import com.itcen.whiteboardserver.game.dto.response.RoomInfoResponse;
+import com.itcen.whiteboardserver.game.dto.response.RoomParticipantResponse;
+import com.itcen.whiteboardserver.game.event.RoomHostChangedEvent;
+import com.itcen.whiteboardserver.game.event.RoomParticipantChangedEvent;
+import com.itcen.whiteboardserver.member.enums.ProfileColor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class RoomInfoCacheTest {
+
+    @Test
+    void 같은_방은_한_번만_조회한다() {
+        RoomInfoCache cache = new RoomInfoCache();
+        AtomicInteger loadCount = new AtomicInteger();
+
+        cache.getOrLoad(1L, roomCode -> load(roomCode, loadCount));
+        RoomInfoResponse roomInfo = cache.getOrLoad(1L, roomCode -> load(roomCode, loadCount));
+
+        Assertions.assertEquals(1, loadCount.get());
+        Assertions.assertEquals(1L, roomInfo.getRoomCode());
+    }
+
+    @Test
+    void 참가자_변경_이벤트가_오면_다시_조회한다() {
+        RoomInfoCache cache = new RoomInfoCache();
+        AtomicInteger loadCount = new AtomicInteger();
+
+        cache.getOrLoad(1L, roomCode -> load(roomCode, loadCount));
+        cache.handleRoomParticipantChangedEvent(new RoomParticipantChangedEvent(1L));
+        cache.getOrLoad(1L, roomCode -> load(roomCode, loadCount));
+        cache.handleRoomHostChangedEvent(new RoomHostChangedEvent(1L, 2L));
+        cache.getOrLoad(1L, roomCode -> load(roomCode, loadCount));
+
+        Assertions.assertEquals(3, loadCount.get());
+    }
+
+    @Test
+    void 조회_결과가_없으면_캐시하지_않는다() {
+        RoomInfoCache cache = new RoomInfoCache();
+
+        Assertions.assertNull(cache.getOrLoad(1L, roomCode -> null));
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    void 조회하는_동안_삭제되면_조회한_스냅샷을_캐시하지_않는다() {
+        RoomInfoCache cache = new RoomInfoCache();
+        AtomicInteger loadCount = new AtomicInteger();
+
+        RoomInfoResponse stale = cache.getOrLoad(1L, roomCode -> {
+            //조회 도중 다른 스레드에서 커밋된 참가자 변경
+            cache.handleRoomParticipantChangedEvent(new RoomParticipantChangedEvent(roomCode));
+            return load(roomCode, loadCount);
+        });
+
+        Assertions.assertNotNull(stale);
+        Assertions.assertEquals(0, cache.size());
+
+        cache.getOrLoad(1L, roomCode -> load(roomCode, loadCount));
+
+        Assertions.assertEquals(2, loadCount.get());
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    private RoomInfoResponse load(Long roomCode, AtomicInteger loadCount) {
+        loadCount.incrementAndGet();
+        return new RoomInfoResponse(
+                List.of(new RoomParticipantResponse(1L, "방장", true, ProfileColor.BLUE)),
+                roomCode
+        );
+    }
+}
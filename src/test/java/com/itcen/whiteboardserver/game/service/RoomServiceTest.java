@@ -0,0 +1,101 @@
+package com.itcen.whiteboardserver.game.service;
+
+import com.itcen.whiteboardserver.game.dto.request.RoomJoinRequest;
+import com.itcen.whiteboardserver.game.entity.Room;
+import com.itcen.whiteboardserver.game.repository.RoomParticipationRepository;
+import com.itcen.whiteboardserver.game.repository.RoomRepository;
+import com.itcen.whiteboardserver.game.room.RoomDirectory;
+import com.itcen.whiteboardserver.member.entity.Member;
+import com.itcen.whiteboardserver.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * 트랜잭션은 TransactionSynchronizationManager로 직접 열고, 커밋/롤백 콜백을 호출해 흉내 냅니다.
+ */
+class RoomServiceTest {
+    private static final Long ROOM_ID = 10L;
+
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final RoomParticipationRepository participationRepository = mock(RoomParticipationRepository.class);
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+
+    private RoomDirectory roomDirectory;
+    private RoomService roomService;
+
+    @BeforeEach
+    void setUp() {
+        roomDirectory = new RoomDirectory(participationRepository);
+        roomService = new RoomService(
+                roomRepository,
+                participationRepository,
+                memberRepository,
+                mock(ApplicationEventPublisher.class),
+                new RoomInfoCache(),
+                roomDirectory
+        );
+
+        Member host = Member.builder().id(1L).email("host@test.com").nickname("방장").build();
+        Member guest = Member.builder().id(2L).email("guest@test.com").nickname("참가자").build();
+        Room room = new Room(ROOM_ID, "방", host, null, Room.RoomStatus.WAITING, null);
+
+        when(roomRepository.findById(ROOM_ID)).thenReturn(Optional.of(room));
+        when(memberRepository.findByEmail("guest@test.com")).thenReturn(Optional.of(guest));
+        when(participationRepository.findMemberIdsByRoomId(ROOM_ID)).thenReturn(List.of(1L));
+
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 방_참여가_커밋되면_확보한_좌석을_유지한다() {
+        roomService.joinRoom(new RoomJoinRequest(ROOM_ID), "guest@test.com");
+
+        commit();
+
+        Assertions.assertEquals(2, roomDirectory.getSeatCount(ROOM_ID));
+    }
+
+    @Test
+    void 참가자_저장이_실패해_롤백되면_확보한_좌석을_돌려준다() {
+        when(participationRepository.save(any())).thenThrow(new RuntimeException("중복 참여"));
+
+        Assertions.assertThrows(RuntimeException.class,
+                () -> roomService.joinRoom(new RoomJoinRequest(ROOM_ID), "guest@test.com"));
+        rollback();
+
+        Assertions.assertEquals(1, roomDirectory.getSeatCount(ROOM_ID));
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private static void rollback() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_ROLLED_BACK);
+    }
+}
@@ -0,0 +1,179 @@
+package com.itcen.whiteboardserver.game.session;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itcen.whiteboardserver.game.session.state.GameState;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실제 Redis(컨테이너)에 노드 두 개를 연결하여 Lua 스크립트와 near-cache 동작을 확인합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisGameSessionTest {
+    private static final List<String> QUIZ_WORDS = List.of("사과", "바나나", "포도", "수박");
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisGameSession nodeA;
+    private RedisGameSession nodeB;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        nodeA = new RedisGameSession(redisTemplate, new ObjectMapper(), 200, 10_000);
+        //다른 노드의 변경을 바로 확인하기 위해 near-cache 없이 매번 Redis에서 읽는 노드
+        nodeB = new RedisGameSession(redisTemplate, new ObjectMapper(), 0, 10_000);
+    }
+
+    @Test
+    void 다른_노드에서도_같은_게임_상태를_읽는다() {
+        nodeA.createSession(1L, GameState.createGameState(List.of(10L, 20L), QUIZ_WORDS));
+
+        Assertions.assertEquals(10L, nodeA.goNextTurnAndGetDrawer(1L));
+
+        Assertions.assertTrue(nodeB.isGamePlaying(1L));
+        Assertions.assertTrue(nodeB.isThisDrawer(1L, 10L));
+        Assertions.assertTrue(nodeB.isThisMemberParticipant(1L, 20L));
+        Assertions.assertEquals("사과", nodeB.getNowTurnQuizWord(1L));
+
+        Assertions.assertEquals(20L, nodeB.goNextTurnAndGetDrawer(1L));
+        Assertions.assertEquals("바나나", nodeB.getNowTurnQuizWord(1L));
+    }
+
+    @Test
+    void 여러_노드가_동시에_같은_게임을_만들어도_한_번만_만들어진다() throws InterruptedException {
+        GameState gameState = GameState.createGameState(List.of(10L, 20L), QUIZ_WORDS);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch latch = new CountDownLatch(8);
+        AtomicInteger created = new AtomicInteger();
+
+        for (int i = 0; i < 8; i++) {
+            RedisGameSession node = i % 2 == 0 ? nodeA : nodeB;
+            executor.submit(() -> {
+                try {
+                    node.createSession(1L, gameState);
+                    created.incrementAndGet();
+                } catch (RuntimeException ignored) {
+                    //이미 만들어진 게임
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        Assertions.assertEquals(1, created.get());
+        Assertions.assertEquals(5, redisTemplate.opsForHash().size("game:session:1"));
+        Assertions.assertTrue(redisTemplate.getExpire("game:session:1") > 0);
+    }
+
+    @Test
+    void 제거된_게임은_다른_노드에서도_존재하지_않는다() {
+        nodeA.createSession(1L, GameState.createGameState(List.of(10L, 20L), QUIZ_WORDS));
+        nodeA.goNextTurnAndGetDrawer(1L);
+        nodeB.isGamePlaying(1L);
+
+        nodeA.removeSession(1L);
+
+        RuntimeException exception = Assertions.assertThrows(RuntimeException.class, () -> nodeB.isGamePlaying(1L));
+        Assertions.assertEquals("현재 게임이 존재하지 않습니다.", exception.getMessage());
+        Assertions.assertThrows(RuntimeException.class, () -> nodeB.removeSession(1L));
+    }
+
+    @Test
+    void 다른_노드가_제거한_게임은_near_cache가_만료되면_캐시에서도_지운다() throws InterruptedException {
+        nodeA.createSession(1L, GameState.createGameState(List.of(10L, 20L), QUIZ_WORDS));
+
+        nodeB.removeSession(1L);
+        Thread.sleep(250);
+
+        Assertions.assertThrows(RuntimeException.class, () -> nodeA.isThisMemberParticipant(1L, 10L));
+        Assertions.assertEquals(0, nodeA.nearCacheSize());
+        //제거된 게임의 턴을 넘겨도 일부 필드만 있는 hash가 생기지 않음
+        Assertions.assertThrows(RuntimeException.class, () -> nodeA.goNextTurnAndGetDrawer(1L));
+        Assertions.assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey("game:session:1")));
+    }
+
+    @Test
+    void near_cache가_가득_차면_오래_쓰지_않은_게임부터_비운다() throws InterruptedException {
+        RedisGameSession node = new RedisGameSession(redisTemplate, new ObjectMapper(), 50, 2);
+        node.createSession(1L, GameState.createGameState(List.of(10L, 20L), QUIZ_WORDS));
+        node.createSession(2L, GameState.createGameState(List.of(10L, 20L), QUIZ_WORDS));
+
+        Thread.sleep(60);
+        node.createSession(3L, GameState.createGameState(List.of(10L, 20L), QUIZ_WORDS));
+
+        Assertions.assertEquals(1, node.nearCacheSize());
+        //비운 게임은 Redis에서 다시 읽음
+        Assertions.assertTrue(node.isThisMemberParticipant(1L, 20L));
+    }
+
+    @Test
+    void 여러_노드가_동시에_턴을_넘겨도_턴이_중복되지_않는다() throws InterruptedException {
+        // 참가자 2명 -> 전체 4턴
+        nodeA.createSession(1L, GameState.createGameState(List.of(10L, 20L), QUIZ_WORDS));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch latch = new CountDownLatch(4);
+        List<Long> drawers = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            RedisGameSession node = i % 2 == 0 ? nodeA : nodeB;
+            executor.submit(() -> {
+                Long drawer = node.goNextTurnAndGetDrawer(1L);
+                synchronized (drawers) {
+                    drawers.add(drawer);
+                }
+                latch.countDown();
+            });
+        }
+
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        Assertions.assertEquals(2, drawers.stream().filter(id -> id == 10L).count());
+        Assertions.assertEquals(2, drawers.stream().filter(id -> id == 20L).count());
+        Assertions.assertFalse(nodeB.canGoNextTurn(1L));
+    }
+}
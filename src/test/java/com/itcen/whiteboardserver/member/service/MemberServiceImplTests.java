@@ -1,5 +1,9 @@
 package com.itcen.whiteboardserver.member.service;
 
+import com.itcen.whiteboardserver.game.entity.Room;
+import com.itcen.whiteboardserver.game.entity.RoomParticipation;
+import com.itcen.whiteboardserver.game.event.RoomParticipantChangedEvent;
+import com.itcen.whiteboardserver.game.repository.RoomParticipationRepository;
 import com.itcen.whiteboardserver.global.exception.GlobalCommonException;
 import com.itcen.whiteboardserver.global.exception.GlobalErrorCode;
 import com.itcen.whiteboardserver.member.dto.MemberDTO;
@@ -14,12 +18,15 @@ import com.itcen.whiteboardserver.security.principal.CustomPrincipal;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -32,6 +39,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 
 @ExtendWith(MockitoExtension.class)
 class MemberServiceImplTests {
@@ -40,6 +48,10 @@ class MemberServiceImplTests {
     MemberRepository memberRepository;
     @Mock
     NicknamesRepository nicknamesRepository;
+    @Mock
+    RoomParticipationRepository participationRepository;
+    @Mock
+    ApplicationEventPublisher applicationEventPublisher;
 
     @InjectMocks
     MemberServiceImpl memberService;
@@ -184,6 +196,29 @@ class MemberServiceImplTests {
         assertThat(result.getProfileColor()).isEqualTo(HOTPINK);
     }
 
+    @Test
+    @DisplayName("patchNickname: 참여 중인 방마다 참가자 변경 이벤트 발행")
+    void patchNickname_whenInRoom_publishesRoomParticipantChanged() {
+        // given
+        CustomPrincipal principal =
+                new CustomPrincipal(10L, "x@y.com", "zzz", "default", Set.of(MemberRole.MEMBER), HOTPINK);
+        NicknameDTO dto = new NicknameDTO(7L, "newNick");
+
+        Room room = mock(Room.class);
+        given(room.getId()).willReturn(5L);
+        given(participationRepository.findByMemberId(10L))
+                .willReturn(List.of(new RoomParticipation(1L, room, null)));
+
+        // when
+        memberService.patchNickname(principal, dto);
+
+        // then
+        ArgumentCaptor<RoomParticipantChangedEvent> captor = ArgumentCaptor.forClass(RoomParticipantChangedEvent.class);
+        then(applicationEventPublisher)
+                .should().publishEvent(captor.capture());
+        assertThat(captor.getValue().getRoomCode()).isEqualTo(5L);
+    }
+
     @Test
     @DisplayName("patchNickname: principal 이 null 이면 MEMBER_NOT_FOUND 예외")
     void patchNickname_withNullPrincipal_throwsMemberNotFound() {
@@ -3,12 +3,18 @@ package com.itcen.whiteboardserver.quiz.service;
 
 import com.itcen.whiteboardserver.quiz.QuizCategory;
 import com.itcen.whiteboardserver.quiz.QuizService;
+import com.itcen.whiteboardserver.quiz.source.QuizKeyword;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class QuizServiceTest {
     static QuizService quizService = new QuizService();
@@ -46,4 +52,65 @@ public class QuizServiceTest {
         Assertions.assertEquals(techCnt, participantCnt);
         Assertions.assertEquals(commonCnt, participantCnt);
     }
+
+    @Test
+    void 한_게임에_같은_제시어가_두_번_나오지_않는다() {
+        for (int i = 0; i < 1_000; i++) {
+            List<String> keywords = quizService.getQuizWords(6);
+
+            Assertions.assertEquals(keywords.size(), new HashSet<>(keywords).size());
+        }
+    }
+
+    @Test
+    void 동시에_여러_게임이_시작되어도_제시어가_올바르게_뽑힌다() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<List<String>>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            futures.add(executor.submit(() -> quizService.getQuizWords(6)));
+        }
+
+        for (Future<List<String>> future : futures) {
+            List<String> keywords = future.get();
+            Assertions.assertEquals(18, keywords.size());
+            Assertions.assertEquals(18, new HashSet<>(keywords).size());
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    void 제시어를_다시_읽으면_카테고리_인덱스가_교체된다() throws IOException {
+        List<List<QuizKeyword>> sources = new ArrayList<>(List.of(keywords("old"), keywords("new")));
+        QuizService reloadable = new QuizService(() -> sources.remove(0));
+        reloadable.init();
+
+        Assertions.assertEquals(QuizCategory.TECH, reloadable.getQuizType("old-TECH-0"));
+        Assertions.assertTrue(reloadable.reload());
+
+        Assertions.assertEquals(QuizCategory.TECH, reloadable.getQuizType("new-TECH-0"));
+        Assertions.assertThrows(RuntimeException.class, () -> reloadable.getQuizType("old-TECH-0"));
+        Assertions.assertTrue(reloadable.getQuizWords(6).stream().allMatch(keyword -> keyword.startsWith("new-")));
+    }
+
+    @Test
+    void 다시_읽기에_실패하면_기존_제시어를_유지한다() throws IOException {
+        List<QuizKeyword> tooFew = List.of(new QuizKeyword("하나", QuizCategory.TECH));
+        List<List<QuizKeyword>> sources = new ArrayList<>(List.of(keywords("old"), tooFew));
+        QuizService reloadable = new QuizService(() -> sources.remove(0));
+        reloadable.init();
+
+        Assertions.assertFalse(reloadable.reload());
+        Assertions.assertEquals(QuizCategory.TECH, reloadable.getQuizType("old-TECH-0"));
+    }
+
+    private static List<QuizKeyword> keywords(String prefix) {
+        List<QuizKeyword> keywords = new ArrayList<>();
+        for (QuizCategory category : QuizCategory.values()) {
+            for (int i = 0; i < 10; i++) {
+                keywords.add(new QuizKeyword(prefix + "-" + category + "-" + i, category));
+            }
+        }
+        return keywords;
+    }
 }
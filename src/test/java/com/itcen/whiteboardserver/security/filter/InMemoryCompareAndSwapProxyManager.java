@@ -0,0 +1,82 @@
+package com.itcen.whiteboardserver.security.filter;
+
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AbstractCompareAndSwapBasedProxyManager;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AsyncCompareAndSwapOperation;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.CompareAndSwapOperation;
+import io.github.bucket4j.distributed.remote.RemoteBucketState;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redis 대신 쓰는 프로세스 내 CAS 저장소. LettuceBasedProxyManager처럼 GET + compare-and-swap으로 버킷 상태를 바꾸고,
+ * 호출 횟수를 Redis 왕복 횟수로 셉니다.
+ */
+class InMemoryCompareAndSwapProxyManager extends AbstractCompareAndSwapBasedProxyManager<String> {
+    private final Map<String, byte[]> store = new ConcurrentHashMap<>();
+    private final AtomicInteger roundTrips = new AtomicInteger();
+
+    InMemoryCompareAndSwapProxyManager() {
+        super(ClientSideConfig.getDefault());
+    }
+
+    int getRoundTrips() {
+        return roundTrips.get();
+    }
+
+    @Override
+    protected CompareAndSwapOperation beginCompareAndSwapOperation(String key) {
+        return new CompareAndSwapOperation() {
+            @Override
+            public Optional<byte[]> getStateData(Optional<Long> timeoutNanos) {
+                roundTrips.incrementAndGet();
+                return Optional.ofNullable(store.get(key));
+            }
+
+            @Override
+            public boolean compareAndSwap(byte[] originalData, byte[] newData, RemoteBucketState newState, Optional<Long> timeoutNanos) {
+                roundTrips.incrementAndGet();
+
+                if (originalData == null) {
+                    return store.putIfAbsent(key, newData) == null;
+                }
+
+                boolean[] swapped = new boolean[1];
+                store.computeIfPresent(key, (k, current) -> {
+                    if (Arrays.equals(current, originalData)) {
+                        swapped[0] = true;
+                        return newData;
+                    }
+                    return current;
+                });
+                return swapped[0];
+            }
+        };
+    }
+
+    @Override
+    protected AsyncCompareAndSwapOperation beginAsyncCompareAndSwapOperation(String key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeProxy(String key) {
+        store.remove(key);
+    }
+
+    @Override
+    protected CompletableFuture<Void> removeAsync(String key) {
+        store.remove(key);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public boolean isAsyncModeSupported() {
+        return false;
+    }
+}
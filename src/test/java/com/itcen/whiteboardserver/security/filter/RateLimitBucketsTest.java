@@ -0,0 +1,104 @@
+package com.itcen.whiteboardserver.security.filter;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.Refill;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitBucketsTest {
+    private static final Duration NO_TIMEOUT_SYNC = Duration.ofHours(1);
+
+    @Test
+    void 같은_키는_프록시를_재사용하고_최대_개수를_넘으면_오래_안_쓴_키부터_버린다() {
+        RateLimitBuckets buckets = new RateLimitBuckets(new InMemoryCompareAndSwapProxyManager(), 2, NO_TIMEOUT_SYNC, 2);
+        Bandwidth limit = limit(10);
+
+        Bucket first = buckets.get("rl:login:1", limit);
+        buckets.get("rl:login:2", limit);
+        assertThat(buckets.get("rl:login:1", limit)).isSameAs(first);
+
+        buckets.get("rl:login:3", limit);
+
+        assertThat(buckets.size()).isEqualTo(2);
+        assertThat(buckets.get("rl:login:1", limit)).isSameAs(first);
+        assertThat(buckets.get("rl:login:2", limit)).isNotNull();
+    }
+
+    @Test
+    void 허용되는_요청은_로컬에서_판단하고_Redis와는_모아서_동기화한다() throws Exception {
+        InMemoryCompareAndSwapProxyManager redis = new InMemoryCompareAndSwapProxyManager();
+        RateLimitBuckets buckets = new RateLimitBuckets(redis, 50, NO_TIMEOUT_SYNC, 100);
+        int requests = 800;
+
+        int allowed = runConcurrently(8, requests, i -> buckets.get("rl:login:1", limit(1_000)));
+
+        assertThat(allowed).isEqualTo(requests);
+        // 최적화 없이 요청마다 GET + CAS를 하면 1,600번
+        assertThat(redis.getRoundTrips()).isLessThan(requests / 4);
+    }
+
+    @Test
+    void 여러_노드가_함께_소비해도_한도를_노드당_동기화_전_허용량_이상_넘지_않는다() throws Exception {
+        InMemoryCompareAndSwapProxyManager redis = new InMemoryCompareAndSwapProxyManager();
+        long maxUnsynchronizedTokens = 2;
+        RateLimitBuckets nodeA = new RateLimitBuckets(redis, maxUnsynchronizedTokens, NO_TIMEOUT_SYNC, 100);
+        RateLimitBuckets nodeB = new RateLimitBuckets(redis, maxUnsynchronizedTokens, NO_TIMEOUT_SYNC, 100);
+
+        int allowed = runConcurrently(8, 4_000, i -> (i % 2 == 0 ? nodeA : nodeB).get("rl:login:1", limit(10)));
+
+        // 노드마다 동기화 직전 소비분(maxUnsynchronizedTokens + 1)까지만 다른 노드가 모른 채 허용될 수 있음
+        assertThat(allowed).isBetween(10, 10 + (int) (2 * (maxUnsynchronizedTokens + 1)));
+    }
+
+    private static Bandwidth limit(int capacity) {
+        return Bandwidth.classic(capacity, Refill.intervally(1, Duration.ofHours(1)));
+    }
+
+    private interface BucketSelector {
+        Bucket select(int requestIndex);
+    }
+
+    // threads개 스레드가 동시에 시작해 requests번 tryConsume(1)을 나눠 실행하고, 허용된 수를 돌려줌
+    private static int runConcurrently(int threads, int requests, BucketSelector selector) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger allowed = new AtomicInteger();
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                        if (selector.select(i).tryConsume(1)) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return allowed.get();
+    }
+}
@@ -0,0 +1,78 @@
+package com.itcen.whiteboardserver.security.filter;
+
+import com.itcen.whiteboardserver.auth.service.TokenService;
+import com.itcen.whiteboardserver.global.exception.GlobalCommonException;
+import com.itcen.whiteboardserver.global.exception.GlobalErrorCode;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class RequestAuthContextTest {
+
+    @Mock
+    private TokenService tokenService;
+
+    @Test
+    void 같은_요청에서는_컨텍스트를_한_번만_만들고_토큰도_한_번만_검증한다() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("XSRF-TOKEN", "csrf"), new Cookie("access_token", "token"));
+        Authentication authentication = new UsernamePasswordAuthenticationToken("user@example.com", "token", List.of());
+        given(tokenService.authenticateAccess("token")).willReturn(authentication);
+
+        RequestAuthContext first = RequestAuthContext.of(request, tokenService);
+        RequestAuthContext second = RequestAuthContext.of(request, tokenService);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getAccessToken()).isEqualTo("token");
+        assertThat(first.getCookie("XSRF-TOKEN")).isEqualTo("csrf");
+        assertThat(first.findUsername()).contains("user@example.com");
+        assertThat(second.authenticate()).isSameAs(authentication);
+        then(tokenService).should(times(1)).authenticateAccess("token");
+    }
+
+    @Test
+    void 유효하지_않은_토큰은_실패도_재사용한다() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("access_token", "bad"));
+        given(tokenService.authenticateAccess("bad"))
+                .willThrow(new GlobalCommonException(GlobalErrorCode.INVALID_ACCESS_TOKEN));
+
+        RequestAuthContext context = RequestAuthContext.of(request, tokenService);
+
+        assertThat(context.findUsername()).isEmpty();
+        assertThatThrownBy(context::authenticate)
+                .isInstanceOf(GlobalCommonException.class)
+                .extracting("errorCode")
+                .isEqualTo(GlobalErrorCode.INVALID_ACCESS_TOKEN);
+        then(tokenService).should(times(1)).authenticateAccess("bad");
+    }
+
+    @Test
+    void 토큰이_없으면_검증하지_않고_클라이언트_IP는_X_Forwarded_For를_우선한다() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("X-Forwarded-For", "203.0.113.7");
+
+        RequestAuthContext context = RequestAuthContext.of(request, tokenService);
+
+        assertThat(context.authenticate()).isNull();
+        assertThat(context.getClientIp()).isEqualTo("203.0.113.7");
+        then(tokenService).should(never()).authenticateAccess(anyString());
+    }
+}
@@ -0,0 +1,73 @@
+package com.itcen.whiteboardserver.security.filter;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServlet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestResponseLoggingFilterTest {
+    private final Logger logger = (Logger) LoggerFactory.getLogger(RequestResponseLoggingFilter.class);
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = logger.getLevel();
+        logger.setLevel(Level.INFO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.setLevel(previousLevel);
+    }
+
+    @Test
+    void DEBUG가_꺼져_있고_샘플링되지_않으면_래핑하지_않는다() throws Exception {
+        RequestResponseLoggingFilter filter = new RequestResponseLoggingFilter(0, 16);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/member");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(chain.getResponse()).isSameAs(response);
+    }
+
+    @Test
+    void 샘플링된_요청은_응답을_그대로_보내면서_앞부분만_복사한다() throws Exception {
+        RequestResponseLoggingFilter filter = new RequestResponseLoggingFilter(1, 16);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/lobby/rooms");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setCharacterEncoding("UTF-8");
+        String body = "{\"rooms\":[" + "1,".repeat(100) + "1]}";
+        AtomicReference<ServletResponse> wrapped = new AtomicReference<>();
+
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            public void service(ServletRequest req, ServletResponse res) throws IOException {
+                wrapped.set(res);
+                // flush하지 않아도 필터가 끝날 때 내보내야 함
+                res.getWriter().write(body);
+            }
+        }));
+
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(body);
+        BodyCapturingResponseWrapper capturing = (BodyCapturingResponseWrapper) wrapped.get();
+        assertThat(capturing.getCapturedBody()).hasSize(16);
+        assertThat(capturing.getBodyLength()).isEqualTo(body.length());
+    }
+}
@@ -0,0 +1,45 @@
+package com.itcen.whiteboardserver.turn.answer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class AnswerMatcherTest {
+
+    @Test
+    void 공백과_대소문자와_전각_문자를_무시하고_비교한다() {
+        AnswerMatcher matcher = AnswerMatcher.of("아이스 Cream", 1);
+
+        Assertions.assertTrue(matcher.matches("아이스cream"));
+        Assertions.assertTrue(matcher.matches(" 아 이 스 C R E A M "));
+        Assertions.assertTrue(matcher.matches("아이스　ＣＲＥＡＭ"));
+        Assertions.assertFalse(matcher.matches("아이스크림"));
+        Assertions.assertFalse(matcher.matches("아이스cream!"));
+        Assertions.assertFalse(matcher.matches("아이스crea"));
+    }
+
+    @Test
+    void 자모로_분해된_메시지도_정답으로_판단한다() {
+        AnswerMatcher matcher = AnswerMatcher.of("사과", 1);
+
+        // NFD(첫가끝 자모)로 입력된 "사과"
+        Assertions.assertTrue(matcher.matches("\u1109\u1161\u1100\u116A"));
+    }
+
+    @Test
+    void 자모_하나_차이는_정답에_가깝다고_판단한다() {
+        AnswerMatcher matcher = AnswerMatcher.of("사과", 1);
+
+        Assertions.assertTrue(matcher.isClose("사관"));
+        Assertions.assertTrue(matcher.isClose("사고"));
+        Assertions.assertFalse(matcher.isClose("사과"));
+        Assertions.assertFalse(matcher.isClose("바나나"));
+        Assertions.assertFalse(matcher.isClose("사관들"));
+    }
+
+    @Test
+    void 허용_거리가_0이면_가까운_답을_판단하지_않는다() {
+        AnswerMatcher matcher = AnswerMatcher.of("사과", 0);
+
+        Assertions.assertFalse(matcher.isClose("사관"));
+    }
+}
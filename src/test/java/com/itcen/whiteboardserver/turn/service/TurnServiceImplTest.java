@@ -0,0 +1,314 @@
+package com.itcen.whiteboardserver.turn.service;
+
+import com.itcen.whiteboardserver.common.broadcast.Broadcaster;
+import com.itcen.whiteboardserver.common.broadcast.dto.TurnBroadcastDto;
+import com.itcen.whiteboardserver.draw.aggregator.StrokeAggregator;
+import com.itcen.whiteboardserver.draw.canvas.CanvasLogStore;
+import com.itcen.whiteboardserver.draw.dto.DrawDto;
+import com.itcen.whiteboardserver.game.actor.GameActor;
+import com.itcen.whiteboardserver.game.entity.Game;
+import com.itcen.whiteboardserver.game.entity.Room;
+import com.itcen.whiteboardserver.game.repository.GameParticipationRepository;
+import com.itcen.whiteboardserver.game.repository.GameRepository;
+import com.itcen.whiteboardserver.game.repository.RoomRepository;
+import com.itcen.whiteboardserver.game.score.GameScoreboard;
+import com.itcen.whiteboardserver.game.score.ScoreWriter;
+import com.itcen.whiteboardserver.game.session.GameSession;
+import com.itcen.whiteboardserver.member.entity.Member;
+import com.itcen.whiteboardserver.member.repository.MemberRepository;
+import com.itcen.whiteboardserver.turn.dto.response.TurnResponseType;
+import com.itcen.whiteboardserver.turn.dto.response.data.MemberScore;
+import com.itcen.whiteboardserver.turn.dto.response.data.TurnQuitData;
+import com.itcen.whiteboardserver.turn.entitiy.Correct;
+import com.itcen.whiteboardserver.turn.entitiy.Turn;
+import com.itcen.whiteboardserver.turn.repository.CorrectRepository;
+import com.itcen.whiteboardserver.turn.repository.TurnRepository;
+import com.itcen.whiteboardserver.turn.session.ActiveTurnRegistry;
+import com.itcen.whiteboardserver.turn.session.state.ActiveTurn;
+import com.itcen.whiteboardserver.turn.timer.TurnTimerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * 트랜잭션은 TransactionSynchronizationManager로 직접 열고, 커밋/롤백 콜백을 호출해 흉내 냅니다.
+ */
+class TurnServiceImplTest {
+    private static final Long GAME_ID = 1L;
+    private static final Long TURN_ID = 100L;
+
+    private final Broadcaster broadcaster = mock(Broadcaster.class);
+    private final GameSession gameSession = mock(GameSession.class);
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final GameRepository gameRepository = mock(GameRepository.class);
+    private final TurnRepository turnRepository = mock(TurnRepository.class);
+    private final CorrectRepository correctRepository = mock(CorrectRepository.class);
+    private final GameParticipationRepository gameParticipationRepository = mock(GameParticipationRepository.class);
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final ApplicationContext applicationContext = mock(ApplicationContext.class);
+    private final TurnService nextTurnService = mock(TurnService.class);
+    private final TurnTimerService turnTimerService = mock(TurnTimerService.class);
+    private final ScoreWriter scoreWriter = mock(ScoreWriter.class);
+    private final StrokeAggregator strokeAggregator = mock(StrokeAggregator.class);
+    private final ActiveTurnRegistry activeTurnRegistry = new ActiveTurnRegistry(1);
+    private final CanvasLogStore canvasLogStore = new CanvasLogStore(1024);
+    private final GameScoreboard gameScoreboard = new GameScoreboard();
+
+    private TurnServiceImpl turnService;
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        turnService = new TurnServiceImpl(
+                broadcaster,
+                gameSession,
+                memberRepository,
+                gameRepository,
+                turnRepository,
+                correctRepository,
+                gameParticipationRepository,
+                mock(PlatformTransactionManager.class),
+                applicationContext,
+                roomRepository,
+                activeTurnRegistry,
+                canvasLogStore,
+                turnTimerService,
+                mock(GameActor.class),
+                gameScoreboard,
+                scoreWriter,
+                strokeAggregator
+        );
+
+        Member drawer = Member.builder().id(1L).email("drawer@test.com").nickname("출제자").build();
+        game = new Game(GAME_ID, null, Game.GameStatus.IN_PROGRESS);
+        Turn turn = Turn.builder()
+                .id(TURN_ID)
+                .game(game)
+                .member(drawer)
+                .quizWord("사과")
+                .startTime(LocalDateTime.now())
+                .endTime(LocalDateTime.now().plusSeconds(90))
+                .build();
+        game.changeTurn(turn);
+
+        when(turnRepository.findById(TURN_ID)).thenReturn(Optional.of(turn));
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(drawer));
+        when(gameRepository.findById(GAME_ID)).thenReturn(Optional.of(game));
+        when(applicationContext.getBean(TurnService.class)).thenReturn(nextTurnService);
+
+        gameScoreboard.open(GAME_ID, List.of(1L, 2L, 3L));
+        canvasLogStore.open(TURN_ID);
+        canvasLogStore.append(TURN_ID, List.of(
+                new DrawDto(TURN_ID, "#000000", 3, List.of(new DrawDto.Point(0, 0), new DrawDto.Point(1, 1)))
+        ));
+        activeTurnRegistry.open(GAME_ID, TURN_ID, "drawer@test.com", "사과", Map.of(
+                "drawer@test.com", new ActiveTurn.Participant(1L, "출제자"),
+                "a@test.com", new ActiveTurn.Participant(2L, "a"),
+                "b@test.com", new ActiveTurn.Participant(3L, "b")
+        ));
+
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 턴_종료가_롤백되면_메모리의_턴과_그림_기록이_그대로_남는다() {
+        turnService.turnOver(TURN_ID);
+
+        Assertions.assertTrue(activeTurnRegistry.findActiveTurn(GAME_ID).isPresent());
+        Assertions.assertTrue(canvasLogStore.snapshot(TURN_ID).isPresent());
+
+        rollback();
+
+        Assertions.assertEquals(TURN_ID, activeTurnRegistry.getActiveTurn(GAME_ID).turnId());
+        Assertions.assertTrue(canvasLogStore.snapshot(TURN_ID).isPresent());
+        verify(turnTimerService, never()).cancel(TURN_ID);
+    }
+
+    @Test
+    void 턴_종료가_커밋되면_메모리의_턴과_그림_기록을_정리한다() {
+        turnService.turnOver(TURN_ID);
+
+        commit();
+
+        Assertions.assertTrue(activeTurnRegistry.findActiveTurn(GAME_ID).isEmpty());
+        Assertions.assertTrue(canvasLogStore.snapshot(TURN_ID).isEmpty());
+        verify(turnTimerService).cancel(TURN_ID);
+        verify(nextTurnService).startTurn(GAME_ID);
+    }
+
+    @Test
+    void 새_턴의_타이머는_커밋된_뒤에_등록한다() {
+        Long nextGameId = 2L;
+        Long nextTurnId = 200L;
+        when(gameRepository.findById(nextGameId)).thenReturn(Optional.of(new Game(nextGameId, null, Game.GameStatus.IN_PROGRESS)));
+        when(gameSession.canGoNextTurn(nextGameId)).thenReturn(true);
+        when(gameSession.goNextTurnAndGetDrawer(nextGameId)).thenReturn(1L);
+        when(gameSession.getNowTurnQuizWord(nextGameId)).thenReturn("바나나");
+        when(turnRepository.save(any(Turn.class))).thenAnswer(invocation -> {
+            Turn saved = invocation.getArgument(0);
+            ReflectionTestUtils.setField(saved, "id", nextTurnId);
+            return saved;
+        });
+
+        turnService.startTurn(nextGameId);
+
+        verify(turnTimerService, never()).schedule(any(), anyLong(), any(), any());
+        Assertions.assertTrue(activeTurnRegistry.findActiveTurn(nextGameId).isEmpty());
+
+        commit();
+
+        verify(turnTimerService, times(2)).schedule(eq(nextTurnId), anyLong(), any(TimeUnit.class), any(Runnable.class));
+        Assertions.assertEquals(nextTurnId, activeTurnRegistry.getActiveTurn(nextGameId).turnId());
+    }
+
+    @Test
+    void 턴_종료가_롤백되면_점수판에_반영하지도_알리지도_않는다() {
+        ActiveTurn activeTurn = activeTurnRegistry.getActiveTurn(GAME_ID);
+        activeTurn.markCorrect(2L);
+        activeTurn.markCorrect(3L);
+
+        turnService.turnOver(TURN_ID);
+
+        verifyNoInteractions(scoreWriter, broadcaster);
+        Assertions.assertEquals(0, scoreOf(2L));
+
+        rollback();
+
+        verifyNoInteractions(scoreWriter, broadcaster);
+        Assertions.assertEquals(0, scoreOf(1L));
+        Assertions.assertEquals(0, scoreOf(2L));
+        Assertions.assertEquals(0, scoreOf(3L));
+    }
+
+    @Test
+    void 턴_종료가_커밋되면_점수를_반영한_뒤_저장하고_알린다() {
+        ActiveTurn activeTurn = activeTurnRegistry.getActiveTurn(GAME_ID);
+        activeTurn.markCorrect(2L);
+        activeTurn.markCorrect(3L);
+
+        turnService.turnOver(TURN_ID);
+        commit();
+
+        // 늦게 맞춘 정답자부터 10, 20 / 모두 맞췄으므로 출제자는 3 / 2 * 10
+        Assertions.assertEquals(10, scoreOf(1L));
+        Assertions.assertEquals(20, scoreOf(2L));
+        Assertions.assertEquals(10, scoreOf(3L));
+        verify(scoreWriter).write(GAME_ID, gameScoreboard.getMemberScores(GAME_ID));
+        verify(broadcaster).broadcast(any());
+    }
+
+    @Test
+    void 마지막_턴이_끝나면_커밋된_뒤_턴_점수를_반영하고_게임_종료_점수를_알린다() {
+        when(applicationContext.getBean(TurnService.class)).thenReturn(turnService);
+        when(gameSession.canGoNextTurn(GAME_ID)).thenReturn(false);
+        when(roomRepository.findByCurrentGame(game)).thenReturn(Optional.of(new Room()));
+        activeTurnRegistry.getActiveTurn(GAME_ID).markCorrect(2L);
+
+        turnService.turnOver(TURN_ID);
+
+        verifyNoInteractions(scoreWriter, broadcaster);
+        verify(gameSession, never()).removeSession(GAME_ID);
+        Assertions.assertEquals(0, scoreOf(2L));
+
+        commit();
+
+        ArgumentCaptor<TurnBroadcastDto<?>> captor = ArgumentCaptor.forClass(TurnBroadcastDto.class);
+        verify(broadcaster, times(2)).broadcast(captor.capture());
+        List<TurnBroadcastDto<?>> broadcasts = captor.getAllValues();
+        Assertions.assertEquals(TurnResponseType.FINISH, broadcasts.get(0).data().type());
+        Assertions.assertEquals(TurnResponseType.GAME_FINISH, broadcasts.get(1).data().type());
+
+        // 게임 종료 점수에는 마지막 턴의 점수가 포함됨
+        TurnQuitData quitData = (TurnQuitData) broadcasts.get(1).data().data();
+        Assertions.assertTrue(quitData.members().contains(new MemberScore(2L, 10)));
+        // 마지막 턴 점수는 한 번만 저장하고, 그 저장이 끝난 뒤에 게임 종료를 알림
+        InOrder inOrder = inOrder(scoreWriter, broadcaster);
+        inOrder.verify(scoreWriter).write(eq(GAME_ID), any());
+        inOrder.verify(scoreWriter).flush(GAME_ID);
+        inOrder.verify(broadcaster).broadcast(any());
+        verify(scoreWriter, times(1)).write(eq(GAME_ID), any());
+        verify(gameSession).removeSession(GAME_ID);
+        verify(strokeAggregator).closeGame(GAME_ID);
+        Assertions.assertThrows(RuntimeException.class, () -> gameScoreboard.getMemberScores(GAME_ID));
+    }
+
+    @Test
+    void 타이머의_턴_종료가_먼저_실행되면_늦게_처리된_정답은_기록하지_않는다() {
+        // 게임 mailbox에 타이머의 턴 종료가 정답 기록보다 먼저 쌓인 순서대로 실행
+        turnService.turnOver(TURN_ID);
+        commit();
+        clearInvocations(broadcaster);
+
+        TransactionSynchronizationManager.initSynchronization();
+        boolean recorded = turnService.correct(GAME_ID, TURN_ID, 2L);
+        commit();
+
+        Assertions.assertFalse(recorded);
+        verify(correctRepository, never()).save(any());
+        verifyNoInteractions(broadcaster);
+    }
+
+    @Test
+    void 진행_중인_턴의_정답은_그_턴에_기록하고_커밋된_뒤에_알린다() {
+        when(memberRepository.findById(2L)).thenReturn(Optional.of(Member.builder().id(2L).nickname("a").build()));
+
+        boolean recorded = turnService.correct(GAME_ID, TURN_ID, 2L);
+
+        Assertions.assertTrue(recorded);
+        ArgumentCaptor<Correct> correctCaptor = ArgumentCaptor.forClass(Correct.class);
+        verify(correctRepository).save(correctCaptor.capture());
+        Assertions.assertEquals(TURN_ID, correctCaptor.getValue().getTurn().getId());
+        verifyNoInteractions(broadcaster);
+
+        commit();
+
+        verify(broadcaster).broadcast(any());
+    }
+
+    private int scoreOf(Long memberId) {
+        return gameScoreboard.getMemberScores(GAME_ID).stream()
+                .filter(memberScore -> memberScore.memberId().equals(memberId))
+                .findFirst()
+                .orElseThrow()
+                .score();
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private static void rollback() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_ROLLED_BACK);
+    }
+}
@@ -0,0 +1,88 @@
+package com.itcen.whiteboardserver.turn.timer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class TurnTimerServiceTest {
+    private TurnTimerService turnTimerService;
+
+    @BeforeEach
+    void setUp() {
+        turnTimerService = new TurnTimerService(10, 4, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        turnTimerService.stop();
+    }
+
+    @Test
+    void 취소된_턴의_타이머는_실행되지_않는다() throws InterruptedException {
+        AtomicInteger executed = new AtomicInteger();
+
+        turnTimerService.schedule(1L, 50, TimeUnit.MILLISECONDS, executed::incrementAndGet);
+        turnTimerService.schedule(1L, 100, TimeUnit.MILLISECONDS, executed::incrementAndGet);
+        turnTimerService.cancel(1L);
+
+        Thread.sleep(300);
+
+        Assertions.assertEquals(0, executed.get());
+        Assertions.assertEquals(0, turnTimerService.getPendingTimerCount());
+        Assertions.assertEquals(0, turnTimerService.getTrackedTurnCount());
+    }
+
+    @Test
+    void 많은_턴을_시작하고_끝내도_타이머가_남지_않는다() throws InterruptedException {
+        int games = 20_000;
+        AtomicInteger infoSent = new AtomicInteger();
+        AtomicInteger timedOut = new AtomicInteger();
+        CountDownLatch timedOutLatch = new CountDownLatch(games / 2);
+
+        ExecutorService players = Executors.newFixedThreadPool(8);
+        CountDownLatch started = new CountDownLatch(games);
+
+        for (long turnId = 0; turnId < games; turnId++) {
+            long id = turnId;
+            players.execute(() -> {
+                //턴 시작: 턴 정보 전송 + 시간 초과 종료
+                turnTimerService.schedule(id, 20, TimeUnit.MILLISECONDS, infoSent::incrementAndGet);
+                turnTimerService.schedule(id, id % 2 == 0 ? 200 : 60_000, TimeUnit.MILLISECONDS, () -> {
+                    timedOut.incrementAndGet();
+                    timedOutLatch.countDown();
+                });
+                started.countDown();
+            });
+        }
+        Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(turnTimerService.getPendingTimerCount() > 0);
+
+        //홀수 턴은 정답으로 일찍 끝남
+        for (long turnId = 1; turnId < games; turnId += 2) {
+            long id = turnId;
+            players.execute(() -> turnTimerService.cancel(id));
+        }
+        players.shutdown();
+        Assertions.assertTrue(players.awaitTermination(10, TimeUnit.SECONDS));
+
+        Assertions.assertTrue(timedOutLatch.await(10, TimeUnit.SECONDS));
+
+        //취소된 타이머는 다음 tick에 wheel에서 정리됨
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (turnTimerService.getPendingTimerCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        Assertions.assertEquals(games / 2, timedOut.get());
+        Assertions.assertTrue(infoSent.get() >= games / 2);
+        Assertions.assertEquals(0, turnTimerService.getPendingTimerCount());
+        Assertions.assertEquals(0, turnTimerService.getTrackedTurnCount());
+    }
+}